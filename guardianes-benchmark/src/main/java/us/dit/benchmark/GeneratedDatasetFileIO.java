@@ -0,0 +1,93 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.YearMonth;
+import java.util.Properties;
+
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Lee los conjuntos de datos del benchmark. Cada fichero .properties no
+ * contiene el problema, sino los parámetros de {@link GuardianesDatasetGenerator}
+ * (ver data/ y el README del módulo), así el informe muestra el nombre del
+ * fichero y los problemas grandes no se guardan en el repositorio.
+ * <p>
+ * Las mejores soluciones se escriben como CSV, una fila por asignación con la
+ * fecha, el tipo de turno y el id del médico (vacío si queda sin asignar), para
+ * revisarlas o compararlas entre configuraciones.
+ *
+ * @author josperart3
+ */
+public class GeneratedDatasetFileIO implements SolutionFileIO<SolverSchedule> {
+
+    @Override
+    public String getInputFileExtension() {
+        return "properties";
+    }
+
+    @Override
+    public SolverSchedule read(File inputSolutionFile) {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(inputSolutionFile.toPath());
+                Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer " + inputSolutionFile, e);
+        }
+        return new GuardianesDatasetGenerator(
+                YearMonth.parse(properties.getProperty("month").trim()),
+                Integer.parseInt(properties.getProperty("doctors").trim()),
+                Double.parseDouble(properties.getProperty("absenceDensity", "0").trim()),
+                Double.parseDouble(properties.getProperty("holidayDensity", "0").trim()),
+                Long.parseLong(properties.getProperty("seed", "0").trim()))
+                .generate();
+    }
+
+    @Override
+    public String getOutputFileExtension() {
+        return "csv";
+    }
+
+    @Override
+    public void write(SolverSchedule solution, File outputSolutionFile) {
+        try (BufferedWriter writer = Files.newBufferedWriter(outputSolutionFile.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("asignacion,fecha,turno,medico");
+            writer.newLine();
+            for (SolverShiftAssignment sa : solution.getAssignmentList()) {
+                writer.write(sa.getId() + "," + sa.getDay().getDate() + "," + sa.getShiftType() + ","
+                        + (sa.getDoctor() == null ? "" : sa.getDoctor().getId()));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir " + outputSolutionFile, e);
+        }
+    }
+}
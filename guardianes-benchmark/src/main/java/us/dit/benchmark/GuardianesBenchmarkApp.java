@@ -0,0 +1,38 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark;
+
+import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+
+/**
+ * Lanza el benchmark definido en guardianesBenchmarkConfig.xml y abre el
+ * informe HTML al terminar. Debe ejecutarse desde el directorio del módulo,
+ * porque los conjuntos de datos se leen de data/
+ *
+ * @author josperart3
+ */
+public class GuardianesBenchmarkApp {
+
+    public static final String BENCHMARK_CONFIG_XML = "guardianesBenchmarkConfig.xml";
+
+    public static void main(String[] args) {
+        PlannerBenchmarkFactory.createFromXmlResource(BENCHMARK_CONFIG_XML)
+                .buildPlannerBenchmark()
+                .benchmarkAndShowReportInBrowser();
+    }
+}
@@ -0,0 +1,175 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import us.dit.service.model.entities.Absence;
+import us.dit.service.model.entities.Calendar;
+import us.dit.service.model.entities.DayConfiguration;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.model.entities.Shift;
+import us.dit.service.model.entities.ShiftAssignment;
+import us.dit.service.model.entities.ShiftConfiguration;
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+import us.dit.service.solver.SolverScheduleMapper;
+import us.dit.service.solver.capacity.CapacityAnalyzer;
+import us.dit.service.solver.capacity.CapacityReport;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Genera meses sintéticos para los benchmarks
+ * <p>
+ * Construye calendario, médicos con su {@link ShiftConfiguration} y ausencias
+ * como entidades, reparte los turnos igual que
+ * {@link us.dit.service.services.OptaplannerGuardians} (dos GUARDIA al día y
+ * las TARDE y CONSULTA que decide {@link CapacityAnalyzer}) y lo traduce al
+ * modelo del solver con {@link SolverScheduleMapper}. Con la misma semilla el resultado es siempre
+ * el mismo, y dos meses distintos tienen los mismos médicos y contratos.
+ *
+ * @author josperart3
+ */
+public class GuardianesDatasetGenerator {
+
+    private static final int GUARDIAS_POR_DIA = 2;
+    private static final int SHIFTS_BASE_POR_LABORABLE = 2;
+
+    private final YearMonth month;
+    private final int doctorCount;
+    private final double absenceDensity;
+    private final double holidayDensity;
+    private final long seed;
+
+    /**
+     * @param absenceDensity proporción de médicos con una ausencia en el mes
+     * @param holidayDensity proporción de días entre semana que son festivos
+     */
+    public GuardianesDatasetGenerator(YearMonth month, int doctorCount, double absenceDensity, double holidayDensity,
+            long seed) {
+        this.month = month;
+        this.doctorCount = doctorCount;
+        this.absenceDensity = absenceDensity;
+        this.holidayDensity = holidayDensity;
+        this.seed = seed;
+    }
+
+    public SolverSchedule generate() {
+        return SolverScheduleMapper.toSolverSchedule(generateSchedule());
+    }
+
+    /**
+     * Genera el mes como entidades, sin asignar ningún médico
+     */
+    public Schedule generateSchedule() {
+        Calendar calendar = new Calendar(month.getMonthValue(), month.getYear());
+        // Los médicos no dependen de los días: con la misma semilla, cada mes tiene la misma plantilla
+        List<DayConfiguration> days = generateDays(calendar, new Random(31 * seed + 1));
+        List<Doctor> doctors = generateDoctors(new Random(seed));
+
+        // Mismo reparto de TARDE y CONSULTA que en la generación real
+        CapacityReport capacity = CapacityAnalyzer.analyze(SolverScheduleMapper.toSolverDoctors(doctors),
+                SolverScheduleMapper.toSolverDays(days, month), GUARDIAS_POR_DIA, SHIFTS_BASE_POR_LABORABLE);
+
+        List<Shift> shifts = new ArrayList<>();
+        long shiftId = 1;
+        for (DayConfiguration dc : days) {
+            for (int k = 0; k < GUARDIAS_POR_DIA; k++) {
+                shifts.add(new Shift(shiftId++, dc, "GUARDIA"));
+            }
+            for (int k = 0; k < capacity.getTardeSlots(dc.getDate()); k++) {
+                shifts.add(new Shift(shiftId++, dc, "TARDE"));
+            }
+            for (int k = 0; k < capacity.getConsultaSlots(dc.getDate()); k++) {
+                Shift consulta = new Shift(shiftId++, dc, "CONSULTA");
+                consulta.setConsultation(true);
+                shifts.add(consulta);
+            }
+        }
+
+        Schedule schedule = new Schedule();
+        schedule.setMonth(month.getMonthValue());
+        schedule.setYear(month.getYear());
+        schedule.setCalendar(calendar);
+        schedule.setStatus(Schedule.ScheduleStatus.BEING_GENERATED);
+        schedule.setConstraintConfiguration(new GuardianesConstraintConfiguration(0L));
+        schedule.setDoctorList(doctors);
+        schedule.setDayConfigurationList(days);
+        schedule.setShiftList(shifts);
+        List<ShiftAssignment> assignments = new ArrayList<>(shifts.size());
+        for (Shift shift : shifts) {
+            ShiftAssignment sa = new ShiftAssignment(shift);
+            sa.setId(shift.getId());
+            sa.setSchedule(schedule);
+            assignments.add(sa);
+        }
+        schedule.setShiftAssignments(assignments);
+        return schedule;
+    }
+
+    private List<DayConfiguration> generateDays(Calendar calendar, Random random) {
+        List<DayConfiguration> days = new ArrayList<>(month.lengthOfMonth());
+        for (int d = 1; d <= month.lengthOfMonth(); d++) {
+            LocalDate date = month.atDay(d);
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            boolean holiday = !weekend && random.nextDouble() < holidayDensity;
+            DayConfiguration dc = new DayConfiguration(d, !weekend && !holiday, 0, 0);
+            dc.setDate(date);
+            dc.setCalendar(calendar);
+            days.add(dc);
+        }
+        return days;
+    }
+
+    /**
+     * Contratos variados: la mayoría hace ciclos, algunos sólo hacen TARDE
+     * cuando tienen GUARDIA y casi todos tienen alguna CONSULTA. Ningún
+     * contrato es imposible de cumplir por sí mismo
+     */
+    private List<Doctor> generateDoctors(Random random) {
+        List<Doctor> doctors = new ArrayList<>(doctorCount);
+        for (int i = 1; i <= doctorCount; i++) {
+            Doctor doctor = new Doctor("Doctor" + i, "Benchmark", "doctor" + i + "@benchmark.es", month.atDay(1));
+            doctor.setId((long) i);
+            int minShifts = 1 + random.nextInt(3);
+            int maxShifts = minShifts + 1 + random.nextInt(3);
+            int numConsultations = random.nextInt(4);
+            boolean doesCycleShifts = random.nextDouble() < 0.85;
+            boolean hasShiftsOnlyWhenCycleShifts = random.nextDouble() < 0.2;
+            if (hasShiftsOnlyWhenCycleShifts) {
+                // Sus TARDE dependen de las GUARDIA que le toquen, que son pocas: no se le exige mínimo
+                minShifts = 0;
+            }
+            ShiftConfiguration sc = new ShiftConfiguration(minShifts, maxShifts, numConsultations, doesCycleShifts,
+                    hasShiftsOnlyWhenCycleShifts);
+            sc.setDoctor(doctor);
+            doctor.setShiftConfiguration(sc);
+            if (random.nextDouble() < absenceDensity) {
+                LocalDate start = month.atDay(1 + random.nextInt(month.lengthOfMonth()));
+                doctor.setAbsence(new Absence(start, start.plusDays(2 + random.nextInt(9))));
+            }
+            doctors.add(doctor);
+        }
+        return doctors;
+    }
+}
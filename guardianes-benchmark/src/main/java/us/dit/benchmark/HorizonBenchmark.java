@@ -0,0 +1,108 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.SolverHorizon;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Tiempo hasta la primera solución factible y memoria de un horizonte de
+ * varios meses ({@link SolverHorizon}) frente a un solo mes
+ * <p>
+ * Se resuelven febrero solo, febrero y marzo con enero ya publicado y fijado,
+ * y el trimestre completo sin nada fijado. La memoria es el pico de la
+ * generación vieja del heap durante la resolución. Los argumentos opcionales son el número de médicos
+ * (60 por defecto) y el límite en segundos de cada resolución (120 por
+ * defecto).
+ *
+ * @author josperart3
+ */
+public class HorizonBenchmark {
+
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2026, 1);
+    private static final long SEED = 1L;
+
+    public static void main(String[] args) {
+        int doctors = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        long secondsSpentLimit = args.length > 1 ? Long.parseLong(args[1]) : 120L;
+        SolverConfig baseConfig = SolverConfiguration.createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE,
+                EnvironmentMode.REPRODUCIBLE);
+        TerminationConfig termination = new TerminationConfig()
+                .withBestScoreFeasible(true)
+                .withSecondsSpentLimit(secondsSpentLimit);
+        SolverFactory<SolverSchedule> monthSolverFactory = SolverConfiguration.createSolverFactory(
+                new SolverConfig(baseConfig).withTerminationConfig(termination));
+        SolverFactory<SolverSchedule> horizonSolverFactory = SolverConfiguration.createSolverFactory(
+                SolverHorizon.horizonConfig(baseConfig).withTerminationConfig(termination));
+
+        // Enero hace de mes publicado y de calentamiento de la JVM
+        SolverSchedule january = monthSolverFactory.buildSolver().solve(generate(FIRST_MONTH, doctors));
+        System.out.println("Enero: " + january.getScore());
+        SolverHorizon.pin(january);
+
+        System.out.printf("%-24s %-8s %-9s %-8s %-8s %s%n", "problema", "turnos", "movibles", "ms", "MB", "score");
+        run("febrero", monthSolverFactory, generate(FIRST_MONTH.plusMonths(1), doctors));
+        List<SolverSchedule> withPublished = new ArrayList<>();
+        withPublished.add(january);
+        withPublished.add(generate(FIRST_MONTH.plusMonths(1), doctors));
+        withPublished.add(generate(FIRST_MONTH.plusMonths(2), doctors));
+        run("trimestre, enero fijado", horizonSolverFactory, SolverHorizon.combine(withPublished));
+        List<SolverSchedule> quarter = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            quarter.add(generate(FIRST_MONTH.plusMonths(i), doctors));
+        }
+        run("trimestre", horizonSolverFactory, SolverHorizon.combine(quarter));
+    }
+
+    private static void run(String name, SolverFactory<SolverSchedule> solverFactory, SolverSchedule problem) {
+        long movable = problem.getAssignmentList().stream().filter(sa -> !sa.isPinned()).count();
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            // La generación joven se llena y se vacía sin parar; lo que ocupa el problema acaba en la vieja
+            if (pool.getType() == MemoryType.HEAP
+                    && (pool.getName().contains("Old") || pool.getName().contains("Tenured"))) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+        long start = System.currentTimeMillis();
+        SolverSchedule solution = solverFactory.buildSolver().solve(problem);
+        long millis = System.currentTimeMillis() - start;
+        long peakBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        System.out.printf("%-24s %-8d %-9d %-8d %-8d %s%n", name, solution.getAssignmentList().size(), movable,
+                millis, peakBytes / (1024 * 1024), solution.getScore());
+    }
+
+    private static SolverSchedule generate(YearMonth month, int doctors) {
+        return new GuardianesDatasetGenerator(month, doctors, 0.1, 0.05, SEED).generate();
+    }
+}
@@ -0,0 +1,89 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.NearbySolve;
+import us.dit.service.solver.PillarSolve;
+import us.dit.service.solver.SolverHorizon;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Compara los movimientos de la búsqueda local sobre el mismo mes: los
+ * cambios e intercambios genéricos, los intercambios en una ventana de días
+ * ({@link SolverHorizon#horizonConfig}), los intercambios cercanos
+ * ({@link NearbySolve}) y los de rachas de turnos y semanas ({@link PillarSolve})
+ * <p>
+ * Cada configuración resuelve durante el límite completo; se muestra cuándo
+ * encontró la primera solución factible y la puntuación final. Los argumentos
+ * opcionales son el número de médicos (60 por defecto) y el límite en
+ * segundos de cada resolución (60 por defecto).
+ *
+ * @author josperart3
+ */
+public class MoveSelectorBenchmark {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+    private static final long SEED = 1L;
+
+    public static void main(String[] args) {
+        int doctors = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        long secondsSpentLimit = args.length > 1 ? Long.parseLong(args[1]) : 60L;
+        SolverConfig baseConfig = SolverConfiguration.createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE,
+                EnvironmentMode.REPRODUCIBLE)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(secondsSpentLimit));
+        Map<String, SolverConfig> configs = new LinkedHashMap<>();
+        configs.put("genéricos", baseConfig);
+        configs.put("ventana de días", SolverHorizon.horizonConfig(baseConfig));
+        configs.put("cercanos", NearbySolve.nearbyConfig(baseConfig));
+        configs.put("rachas y semanas", PillarSolve.pillarConfig(baseConfig));
+
+        // Calentamiento de la JVM, con las reglas ya compiladas para todas
+        SolverConfiguration.createSolverFactory(new SolverConfig(baseConfig)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(10L)))
+                .buildSolver().solve(generate(doctors));
+
+        System.out.printf("%-16s %-16s %s%n", "movimientos", "ms a factible", "score");
+        for (Map.Entry<String, SolverConfig> entry : configs.entrySet()) {
+            Solver<SolverSchedule> solver = SolverConfiguration.createSolverFactory(entry.getValue()).buildSolver();
+            long start = System.currentTimeMillis();
+            long[] feasibleMillis = { -1L };
+            solver.addEventListener(event -> {
+                if (feasibleMillis[0] < 0 && event.getNewBestScore().isFeasible()) {
+                    feasibleMillis[0] = System.currentTimeMillis() - start;
+                }
+            });
+            SolverSchedule solution = solver.solve(generate(doctors));
+            System.out.printf("%-16s %-16s %s%n", entry.getKey(),
+                    feasibleMillis[0] < 0 ? "-" : Long.toString(feasibleMillis[0]), solution.getScore());
+        }
+    }
+
+    private static SolverSchedule generate(int doctors) {
+        return new GuardianesDatasetGenerator(MONTH, doctors, 0.1, 0.05, SEED).generate();
+    }
+}
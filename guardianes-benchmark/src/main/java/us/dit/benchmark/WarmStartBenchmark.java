@@ -0,0 +1,74 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark;
+
+import java.time.YearMonth;
+
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.WarmStartInitializer;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Tiempo hasta la primera solución factible de un mes, empezando desde cero o
+ * sembrado con {@link WarmStartInitializer} a partir del mes anterior ya
+ * resuelto con los mismos médicos
+ * <p>
+ * Los argumentos opcionales son el número de médicos (60 por defecto) y el
+ * límite en segundos de cada resolución (120 por defecto).
+ *
+ * @author josperart3
+ */
+public class WarmStartBenchmark {
+
+    private static final YearMonth PREVIOUS_MONTH = YearMonth.of(2026, 2);
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+    private static final long SEED = 1L;
+
+    public static void main(String[] args) {
+        int doctors = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        long secondsSpentLimit = args.length > 1 ? Long.parseLong(args[1]) : 120L;
+        SolverFactory<SolverSchedule> solverFactory = SolverConfiguration.createSolverFactory(
+                SolverConfiguration.createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, EnvironmentMode.REPRODUCIBLE)
+                        .withTerminationConfig(new TerminationConfig()
+                                .withBestScoreFeasible(true)
+                                .withSecondsSpentLimit(secondsSpentLimit)));
+
+        // El mes anterior hace de planificación confirmada y de calentamiento de la JVM
+        SolverSchedule previous = solverFactory.buildSolver().solve(generate(PREVIOUS_MONTH, doctors));
+        System.out.println("Mes anterior: " + previous.getScore());
+
+        System.out.printf("%-10s %-10s %-10s %s%n", "inicio", "sembrados", "ms", "score");
+        for (boolean warm : new boolean[] { false, true }) {
+            SolverSchedule problem = generate(MONTH, doctors);
+            int seeded = warm ? WarmStartInitializer.seedFromPrevious(problem, previous) : 0;
+            long start = System.currentTimeMillis();
+            SolverSchedule solution = solverFactory.buildSolver().solve(problem);
+            System.out.printf("%-10s %-10d %-10d %s%n", warm ? "caliente" : "frío", seeded,
+                    System.currentTimeMillis() - start, solution.getScore());
+        }
+    }
+
+    private static SolverSchedule generate(YearMonth month, int doctors) {
+        return new GuardianesDatasetGenerator(month, doctors, 0.1, 0.05, SEED).generate();
+    }
+}
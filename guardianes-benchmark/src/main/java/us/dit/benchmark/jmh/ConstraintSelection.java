@@ -0,0 +1,74 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark.jmh;
+
+import java.lang.reflect.Field;
+
+import org.optaplanner.core.api.domain.constraintweight.ConstraintWeight;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+
+/**
+ * Activa o desactiva reglas poniendo a cero su peso en
+ * {@link GuardianesConstraintConfiguration}. Constraint Streams no evalúa las
+ * reglas con peso cero, así que su coste desaparece por completo.
+ * <p>
+ * La selección usa los nombres de los campos de peso:
+ * <ul>
+ * <li>{@code all}: todas las reglas</li>
+ * <li>{@code incompatibleConsulta}: sólo esa regla</li>
+ * <li>{@code -incompatibleConsulta}: todas menos esa</li>
+ * </ul>
+ *
+ * @author josperart3
+ */
+public final class ConstraintSelection {
+
+    public static final String ALL = "all";
+
+    private ConstraintSelection() {
+    }
+
+    public static void apply(GuardianesConstraintConfiguration configuration, String selection) {
+        if (ALL.equals(selection)) {
+            return;
+        }
+        boolean exclude = selection.startsWith("-");
+        String name = exclude ? selection.substring(1) : selection;
+        boolean found = false;
+        for (Field field : GuardianesConstraintConfiguration.class.getDeclaredFields()) {
+            if (!field.isAnnotationPresent(ConstraintWeight.class)) {
+                continue;
+            }
+            boolean selected = field.getName().equals(name);
+            found |= selected;
+            if (selected == exclude) {
+                field.setAccessible(true);
+                try {
+                    field.set(configuration, HardSoftScore.ZERO);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("No hay ninguna regla con el peso " + name);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+
+import us.dit.benchmark.GuardianesDatasetGenerator;
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+import us.dit.service.solver.score.GuardianesIncrementalScoreCalculator;
+
+/**
+ * Movimientos evaluados por segundo por el score director, regla a regla
+ * <p>
+ * Cada operación aplica un movimiento aleatorio (cambio de médico o
+ * intercambio entre dos asignaciones), calcula la puntuación y lo deshace, como
+ * hace el solver al evaluar un movimiento. Con el parámetro constraints se
+ * mide una sola regla, todas o todas menos una (ver
+ * {@link ConstraintSelection}). Con scoreCalculator=incremental se mide
+ * {@link GuardianesIncrementalScoreCalculator} en vez de Constraint Streams.
+ * <p>
+ * El main guarda los resultados en local/jmh/score-director.json, que se puede
+ * comparar entre versiones para detectar regresiones. Acepta las opciones de
+ * JMH, por ejemplo {@code -p constraints=all,incompatibleConsulta}.
+ *
+ * @author josperart3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreDirectorBenchmark {
+
+    public static final String RESULT_FILE = "local/jmh/score-director.json";
+
+    @Param({ "60", "150" })
+    public int doctors;
+
+    @Param({ "CHANGE", "SWAP" })
+    public String moveType;
+
+    @Param({ ConstraintSelection.ALL, "everyShiftAssigned", "eligibilityCycle", "holidays", "incompatibleConsulta",
+            "incompatibleDuplicates", "conditionalShifts", "doctorMaxShifts", "doctorSpecificConsultations",
+            "doctorMinShiftsHard", "fairnessGuardias", "minDaysBetweenGuardias", "avoidConsecutiveTardes" })
+    public String constraints;
+
+    @Param({ "streams" })
+    public String scoreCalculator;
+
+    private InnerScoreDirector<SolverSchedule> scoreDirector;
+    private List<SolverShiftAssignment> assignments;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SolverSchedule schedule = new GuardianesDatasetGenerator(YearMonth.of(2026, 3), doctors, 0.1, 0.05, 1)
+                .generate();
+        ConstraintSelection.apply(schedule.getConstraintConfiguration(), constraints);
+        random = new Random(37);
+        assignments = schedule.getAssignmentList();
+        for (SolverShiftAssignment sa : assignments) {
+            sa.setDoctor(randomEligibleDoctor(sa));
+        }
+
+        SolverConfig solverConfig = SolverConfiguration.createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE,
+                EnvironmentMode.REPRODUCIBLE);
+        if ("incremental".equals(scoreCalculator)) {
+            solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                    .withIncrementalScoreCalculatorClass(GuardianesIncrementalScoreCalculator.class));
+        }
+        InnerScoreDirectorFactory<SolverSchedule> scoreDirectorFactory =
+                (InnerScoreDirectorFactory<SolverSchedule>) SolverConfiguration.createSolverFactory(solverConfig)
+                        .getScoreDirectorFactory();
+        // Como en el solver: sin seguimiento de constraint matches
+        scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(schedule);
+        scoreDirector.calculateScore();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoreDirector.close();
+    }
+
+    @Benchmark
+    public Score<?> evaluateMove() {
+        SolverShiftAssignment sa = assignments.get(random.nextInt(assignments.size()));
+        SolverDoctor original = sa.getDoctor();
+        if ("SWAP".equals(moveType)) {
+            SolverShiftAssignment other = assignments.get(random.nextInt(assignments.size()));
+            SolverDoctor otherOriginal = other.getDoctor();
+            changeDoctor(sa, otherOriginal);
+            changeDoctor(other, original);
+            Score<?> score = calculateScore();
+            changeDoctor(other, otherOriginal);
+            changeDoctor(sa, original);
+            scoreDirector.triggerVariableListeners();
+            return score;
+        }
+        changeDoctor(sa, randomEligibleDoctor(sa));
+        Score<?> score = calculateScore();
+        changeDoctor(sa, original);
+        scoreDirector.triggerVariableListeners();
+        return score;
+    }
+
+    private Score<?> calculateScore() {
+        scoreDirector.triggerVariableListeners();
+        return scoreDirector.calculateScore();
+    }
+
+    private void changeDoctor(SolverShiftAssignment sa, SolverDoctor doctor) {
+        scoreDirector.beforeVariableChanged(sa, "doctor");
+        sa.setDoctor(doctor);
+        scoreDirector.afterVariableChanged(sa, "doctor");
+    }
+
+    private SolverDoctor randomEligibleDoctor(SolverShiftAssignment sa) {
+        List<SolverDoctor> eligible = sa.getEligibleDoctors();
+        return eligible.isEmpty() ? null : eligible.get(random.nextInt(eligible.size()));
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        Files.createDirectories(Paths.get(RESULT_FILE).getParent());
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ScoreDirectorBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT_FILE)
+                .build()).run();
+    }
+}
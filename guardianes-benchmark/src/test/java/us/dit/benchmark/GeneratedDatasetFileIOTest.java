@@ -0,0 +1,69 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that {@link GeneratedDatasetFileIO} generates the
+ * month described by a dataset file and writes a solution as CSV
+ *
+ * @author josperart3
+ */
+public class GeneratedDatasetFileIOTest {
+
+    private final GeneratedDatasetFileIO fileIO = new GeneratedDatasetFileIO();
+
+    @Test
+    void testReadAndWrite(@TempDir Path directory) throws IOException {
+        Path dataset = directory.resolve("guardianes-test.properties");
+        Files.write(dataset, "month=2026-03\ndoctors=20\nabsenceDensity=0.1\nseed=3\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        SolverSchedule schedule = fileIO.read(dataset.toFile());
+        assertEquals(20, schedule.getDoctorList().size());
+
+        SolverShiftAssignment first = schedule.getAssignmentList().get(0);
+        first.setDoctor(schedule.getDoctorList().get(4));
+        File output = directory.resolve("best." + fileIO.getOutputFileExtension()).toFile();
+        fileIO.write(schedule, output);
+
+        List<String> lines = Files.readAllLines(output.toPath(), StandardCharsets.UTF_8);
+        assertEquals("asignacion,fecha,turno,medico", lines.get(0));
+        assertEquals(schedule.getAssignmentList().size() + 1, lines.size());
+        assertEquals(first.getId() + "," + first.getDay().getDate() + "," + first.getShiftType() + ","
+                + first.getDoctor().getId(), lines.get(1));
+        // Las asignaciones sin médico dejan la última columna vacía
+        SolverShiftAssignment second = schedule.getAssignmentList().get(1);
+        assertEquals(second.getId() + "," + second.getDay().getDate() + "," + second.getShiftType() + ",",
+                lines.get(2));
+    }
+}
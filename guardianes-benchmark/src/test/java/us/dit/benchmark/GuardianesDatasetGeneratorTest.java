@@ -0,0 +1,80 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Test class used to verify the synthetic months built by
+ * {@link GuardianesDatasetGenerator}
+ *
+ * @author josperart3
+ */
+public class GuardianesDatasetGeneratorTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+
+    @Test
+    void testGeneratedMonthCoversTheContracts() {
+        SolverSchedule schedule = new GuardianesDatasetGenerator(MONTH, 60, 0.1, 0.05, 2).generate();
+
+        assertEquals(60, schedule.getDoctorList().size());
+        assertEquals(MONTH.lengthOfMonth(), schedule.getDayList().size());
+        assertEquals(2 * MONTH.lengthOfMonth(), count(schedule, ShiftType.GUARDIA));
+        int minShifts = schedule.getDoctorList().stream().mapToInt(d -> d.getMinShifts()).sum();
+        int consultations = schedule.getDoctorList().stream().mapToInt(d -> d.getNumConsultations()).sum();
+        assertTrue(count(schedule, ShiftType.TARDE) >= minShifts);
+        assertEquals(consultations, count(schedule, ShiftType.CONSULTA));
+        schedule.getAssignmentList().forEach(sa -> assertNull(sa.getDoctor()));
+    }
+
+    // La misma semilla genera el mismo problema
+    @Test
+    void testSameSeedSameDataset() {
+        SolverSchedule first = new GuardianesDatasetGenerator(MONTH, 20, 0.5, 0.2, 7).generate();
+        SolverSchedule second = new GuardianesDatasetGenerator(MONTH, 20, 0.5, 0.2, 7).generate();
+
+        assertEquals(describe(first), describe(second));
+    }
+
+    private long count(SolverSchedule schedule, ShiftType shiftType) {
+        return schedule.getAssignmentList().stream().filter(sa -> sa.getShiftType() == shiftType).count();
+    }
+
+    private List<String> describe(SolverSchedule schedule) {
+        List<String> description = schedule.getDoctorList().stream()
+                .map(d -> d.getMinShifts() + "/" + d.getMaxShifts() + "/" + d.getNumConsultations() + "/"
+                        + d.isDoesCycleShifts() + "/" + d.isHasShiftsOnlyWhenCycleShifts() + "/"
+                        + d.getAbsenceStart() + "-" + d.getAbsenceEnd())
+                .collect(Collectors.toList());
+        schedule.getDayList().forEach(day -> description.add(day + "/" + day.isWorkingDay()));
+        schedule.getAssignmentList().forEach(sa -> description.add(sa.toString()));
+        return description;
+    }
+}
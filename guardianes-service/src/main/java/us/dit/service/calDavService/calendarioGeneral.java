@@ -133,9 +133,7 @@ public class calendarioGeneral {
      */
     private void creaCalendario() throws IOException, GeneralSecurityException, InterruptedException, URISyntaxException, ParserException, CalDAV4JException, AddressException, ValidationException, MessagingException {
 
-        ids.put(cycle, "jc");
-        ids.put(shifts, "ca");
-        ids.put(consultation, "c");
+        inicializaIds();
 
         Calendar calendario = caldav.getCalendarioServer();
 
@@ -202,19 +200,39 @@ public class calendarioGeneral {
         VEvent event_indi = new VEvent(caldav.conviertefecha(anio, mes, numDia), summary);
         event_indi.getProperties().add(uid);
         while (iterator.hasNext()) {
-            Doctor doctor = iterator.next();
-
-            String nombre = doctor.getFirstName() + " " + doctor.getLastNames();
-            String email = doctor.getEmail();
-            Attendee asistente = new Attendee(URI.create("mailto:" + email));
-            asistente.getParameters(Parameter.CUTYPE).add(CuType.INDIVIDUAL);
-            asistente.getParameters(Parameter.CN).add(new Cn(nombre));
+            Attendee asistente = creaAsistente(iterator.next());
             calIndiv.addEvent(event_indi, asistente);
             event.getProperties().add(asistente);
         }
         return event;
     }
 
+    /**
+     * Publica las guardias de un día ya publicado después de un cambio de
+     * guardia entre dos {@link Doctor}. El evento del día se sustituye en el
+     * servidor y, como en {@link calendarioGeneral#modficarCalendario(Calendar)},
+     * sólo reciben su calendario los médicos que entran o salen de él
+     *
+     * @param dia día de la planificación con las guardias ya cambiadas
+     * @return devuelve un mensaje de texto informativo
+     * @author josperart3
+     */
+    public String publicarCambioCiclicas(ScheduleDay dia) throws ClientProtocolException, IOException, ParserException, URISyntaxException, ParseException, AddressException, ValidationException, MessagingException {
+        inicializaIds();
+        mes = dia.getMonth();
+        anio = dia.getYear();
+
+        VEvent evento = new VEvent(caldav.conviertefecha(anio, mes, dia.getDay()), cycle);
+        evento.getProperties().add(new Uid(dia.getDay().toString() + mes.toString() + anio.toString() + ids.get(cycle)));
+        for (Doctor doctor : new HashSet<>(dia.getCycle())) {
+            evento.getProperties().add(creaAsistente(doctor));
+        }
+
+        Calendar cambios = new Calendar();
+        cambios.getComponents().add(evento);
+        return modficarCalendario(cambios);
+    }
+
     /**
      * Método que contiene la lógica para modifcar el calendario generado en {@link calendarioGeneral#creaCalendario()}
      *
@@ -375,6 +393,26 @@ public class calendarioGeneral {
 
     }
 
+    /**
+     * Sufijos del identificador de los eventos según el tipo de turno
+     */
+    private void inicializaIds() {
+        ids.put(cycle, "jc");
+        ids.put(shifts, "ca");
+        ids.put(consultation, "c");
+    }
+
+    /**
+     * Asistente de un evento para el {@link Doctor}, identificado por su email
+     */
+    private Attendee creaAsistente(Doctor doctor) {
+        String nombre = doctor.getFirstName() + " " + doctor.getLastNames();
+        Attendee asistente = new Attendee(URI.create("mailto:" + doctor.getEmail()));
+        asistente.getParameters(Parameter.CUTYPE).add(CuType.INDIVIDUAL);
+        asistente.getParameters(Parameter.CN).add(new Cn(nombre));
+        return asistente;
+    }
+
     /**
      * Método auxiliar que devuelve un evento nuevo creado con los mismo parámetros que el argumento
      *
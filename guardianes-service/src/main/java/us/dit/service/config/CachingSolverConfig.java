@@ -0,0 +1,67 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optaplanner.core.config.SolverConfigContext;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+
+/**
+ * {@link SolverConfig} que construye su factoría de score director una sola vez
+ * <p>
+ * OptaPlanner 7.x construye una factoría de score director nueva, y con ella
+ * una KieBase nueva, cada vez que se crea un solver o un ScoreManager. Esta
+ * configuración guarda la primera de cada modo de entorno y se la da a todos
+ * los solvers siguientes, así las reglas se montan una sola vez en toda la
+ * aplicación. La factoría sólo crea una KieSession por solver, de modo que
+ * compartirla entre solvers es seguro.
+ *
+ * @author josperart3
+ */
+class CachingSolverConfig extends SolverConfig {
+
+    private final Map<EnvironmentMode, InnerScoreDirectorFactory<?>> scoreDirectorFactoryCache;
+
+    CachingSolverConfig(SolverConfig inheritedConfig) {
+        super(inheritedConfig);
+        this.scoreDirectorFactoryCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Reutiliza la caché de otra configuración, que debe tener el mismo
+     * scoreDirectorFactory
+     */
+    CachingSolverConfig(SolverConfig inheritedConfig, CachingSolverConfig sharedWith) {
+        super(inheritedConfig);
+        this.scoreDirectorFactoryCache = sharedWith.scoreDirectorFactoryCache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Solution_> InnerScoreDirectorFactory<Solution_> buildScoreDirectorFactory(
+            SolverConfigContext configContext, EnvironmentMode environmentMode) {
+        // computeIfAbsent bloquea a los demás hilos mientras se compila, así una
+        // generación que llegue durante el calentamiento no compila por segunda vez
+        return (InnerScoreDirectorFactory<Solution_>) scoreDirectorFactoryCache.computeIfAbsent(environmentMode,
+                mode -> super.buildScoreDirectorFactory(configContext, mode));
+    }
+}
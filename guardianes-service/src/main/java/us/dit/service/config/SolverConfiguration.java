@@ -0,0 +1,235 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import us.dit.service.solver.NearbySolve;
+import us.dit.service.solver.PartitionedSolve;
+import us.dit.service.solver.PillarSolve;
+import us.dit.service.solver.SolverPortfolio;
+import us.dit.service.solver.StagedSolve;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Configuración del solver de OptaPlanner
+ * <p>
+ * Expone un único {@link SolverFactory} para toda la aplicación. Las reglas se
+ * compilan una sola vez y en segundo plano cuando la aplicación ya está
+ * arrancada, de modo que la primera generación es tan rápida como las demás y
+ * el arranque no se retrasa.
+ * <p>
+ * El número de hilos que evalúan movimientos y el modo de entorno se leen de
+ * guardianes.solver.moveThreadCount y guardianes.solver.environmentMode, y
+ * sustituyen a los valores de guardianesSolverConfig.xml. Con
+ * {@link EnvironmentMode#REPRODUCIBLE} y un número fijo de hilos cada
+ * generación da el mismo resultado para los mismos datos, aunque se use más de
+ * un hilo. Con AUTO el número de hilos depende de los núcleos de la máquina y
+ * el resultado sólo se repite en la misma máquina.
+ * <p>
+ * Los hilos son por generación: cada mes en curso tiene su propio solver, así
+ * que dos generaciones a la vez con AUTO ya piden el doble de núcleos de los
+ * que hay. La cartera de {@link SolverPortfolio} y las particiones de
+ * {@link PartitionedSolve} suman sus propios hilos. Por eso el valor por
+ * defecto es NONE.
+ * <p>
+ * Cada generación asíncrona termina según su {@link us.dit.service.solver.SolverProfile},
+ * con una factoría de {@link SolverFactoryProvider}. Con guardianes.solver.staged
+ * se resuelve por etapas ({@link StagedSolve}) en lugar de con las fases por
+ * defecto, y con guardianes.solver.partitions mayor que 1 por semanas en
+ * paralelo ({@link PartitionedSolve}). Con guardianes.solver.nearbySelection
+ * los intercambios buscan pareja en los días cercanos ({@link NearbySolve}), y
+ * con guardianes.solver.pillarMoves se mueven también rachas de turnos y
+ * semanas enteras entre médicos ({@link PillarSolve}). Con
+ * guardianes.solver.portfolio cada generación compite a la vez con todas las
+ * configuraciones de {@link SolverPortfolio}. Las cinco se excluyen entre sí:
+ * cada una sustituye las fases de guardianesSolverConfig.xml, así que con más
+ * de una activada la aplicación no arranca.
+ *
+ * @author josperart3
+ */
+@Slf4j
+@Configuration
+public class SolverConfiguration {
+
+    public static final String SOLVER_CONFIG_XML = "solver/guardianesSolverConfig.xml";
+
+    @Value("${guardianes.solver.moveThreadCount:NONE}")
+    private String moveThreadCount;
+
+    @Value("${guardianes.solver.environmentMode:REPRODUCIBLE}")
+    private EnvironmentMode environmentMode;
+
+    @Value("${guardianes.solver.staged:false}")
+    private boolean staged;
+
+    @Value("${guardianes.solver.partitions:0}")
+    private int partitions;
+
+    @Value("${guardianes.solver.nearbySelection:false}")
+    private boolean nearbySelection;
+
+    @Value("${guardianes.solver.pillarMoves:false}")
+    private boolean pillarMoves;
+
+    @Value("${guardianes.solver.portfolio:false}")
+    private boolean portfolio;
+
+    /**
+     * Factorías de cada generación, que comparten las reglas compiladas con
+     * {@link #solverFactory()}
+     */
+    @Bean
+    public SolverFactoryProvider solverFactoryProvider() {
+        log.info("Solver configurado con moveThreadCount={}, environmentMode={}, staged={}, partitions={},"
+                + " nearbySelection={}, pillarMoves={} y portfolio={}", moveThreadCount, environmentMode, staged,
+                partitions, nearbySelection, pillarMoves, portfolio);
+        checkSingleStrategy();
+        SolverConfig solverConfig = createSolverConfig(moveThreadCount, environmentMode);
+        if (staged) {
+            solverConfig = StagedSolve.stagedConfig(solverConfig);
+        } else if (partitions > 1) {
+            solverConfig = PartitionedSolve.partitionedConfig(solverConfig, partitions);
+        } else if (nearbySelection) {
+            solverConfig = NearbySolve.nearbyConfig(solverConfig);
+        } else if (pillarMoves) {
+            solverConfig = PillarSolve.pillarConfig(solverConfig);
+        }
+        return new SolverFactoryProvider(solverConfig, portfolio);
+    }
+
+    /**
+     * @throws IllegalStateException si hay más de una forma de resolver activada
+     */
+    private void checkSingleStrategy() {
+        List<String> enabled = new ArrayList<>();
+        if (staged) {
+            enabled.add("guardianes.solver.staged");
+        }
+        if (partitions > 1) {
+            enabled.add("guardianes.solver.partitions");
+        }
+        if (nearbySelection) {
+            enabled.add("guardianes.solver.nearbySelection");
+        }
+        if (pillarMoves) {
+            enabled.add("guardianes.solver.pillarMoves");
+        }
+        if (portfolio) {
+            enabled.add("guardianes.solver.portfolio");
+        }
+        if (enabled.size() > 1) {
+            throw new IllegalStateException("Sólo se puede activar una de " + enabled + ": cada una sustituye"
+                    + " las fases del solver");
+        }
+    }
+
+    @Bean
+    public SolverFactory<SolverSchedule> solverFactory() {
+        return solverFactoryProvider().getDefaultSolverFactory();
+    }
+
+    /**
+     * Configuraciones que compiten en paralelo con {@link SolverPortfolio#solve}.
+     * Cada una resuelve en un único hilo, el paralelismo está en el portfolio.
+     * Con guardianes.solver.portfolio lleva también la cuenta de las victorias
+     * en las generaciones de {@link us.dit.service.services.SchedulerService}
+     */
+    @Lazy
+    @Bean
+    public SolverPortfolio solverPortfolio() {
+        return new SolverPortfolio(createSolverFactories(SolverPortfolio.defaultConfigs(
+                createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, environmentMode))));
+    }
+
+    /**
+     * Construye la factoría a partir de guardianesSolverConfig.xml. Se usa
+     * también desde los tests, fuera del contexto de Spring
+     */
+    public static SolverFactory<SolverSchedule> createSolverFactory() {
+        return createSolverFactory(SolverConfig.createFromXmlResource(SOLVER_CONFIG_XML));
+    }
+
+    public static SolverFactory<SolverSchedule> createSolverFactory(SolverConfig solverConfig) {
+        // SolverFactory.create() copiaría la configuración y perdería la caché
+        return new DefaultSolverFactory<>(new CachingSolverConfig(solverConfig));
+    }
+
+    /**
+     * Factorías para configuraciones que sólo se diferencian en las fases. Las
+     * reglas se compilan una vez para todas
+     */
+    public static Map<String, SolverFactory<SolverSchedule>> createSolverFactories(
+            Map<String, SolverConfig> solverConfigs) {
+        Map<String, SolverFactory<SolverSchedule>> solverFactories = new LinkedHashMap<>();
+        CachingSolverConfig first = null;
+        for (Map.Entry<String, SolverConfig> entry : solverConfigs.entrySet()) {
+            CachingSolverConfig cachingConfig = first == null ? new CachingSolverConfig(entry.getValue())
+                    : new CachingSolverConfig(entry.getValue(), first);
+            if (first == null) {
+                first = cachingConfig;
+            }
+            solverFactories.put(entry.getKey(), new DefaultSolverFactory<>(cachingConfig));
+        }
+        return solverFactories;
+    }
+
+    /**
+     * Carga guardianesSolverConfig.xml con los hilos de movimientos (NONE, AUTO
+     * o un número) y el modo de entorno indicados
+     */
+    public static SolverConfig createSolverConfig(String moveThreadCount, EnvironmentMode environmentMode) {
+        return SolverConfig.createFromXmlResource(SOLVER_CONFIG_XML)
+                .withMoveThreadCount(moveThreadCount)
+                .withEnvironmentMode(environmentMode);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpSolver() {
+        // Al ser una clase @Configuration, solverFactory() devuelve el bean singleton
+        SolverFactory<SolverSchedule> solverFactory = solverFactory();
+        Thread warmUp = new Thread(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                solverFactory.getScoreDirectorFactory();
+                solverFactory.buildSolver();
+                log.info("Solver precalentado en {} ms", System.currentTimeMillis() - start);
+            } catch (RuntimeException e) {
+                // Si falla aquí, la primera generación volverá a intentarlo y mostrará el error
+                log.warn("No se pudo precalentar el solver", e);
+            }
+        }, "solver-warmup");
+        warmUp.setDaemon(true);
+        warmUp.start();
+    }
+}
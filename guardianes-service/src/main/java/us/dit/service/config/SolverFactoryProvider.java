@@ -0,0 +1,112 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+
+import us.dit.service.solver.SolverHorizon;
+import us.dit.service.solver.SolverPortfolio;
+import us.dit.service.solver.SolverProfile;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Factorías de solver para cada generación
+ * <p>
+ * Todas parten de la misma configuración y sólo cambian la terminación, así
+ * que comparten las reglas compiladas: crear una factoría por generación no
+ * vuelve a compilarlas.
+ * <p>
+ * Con el portfolio activado cada generación se resuelve a la vez con todas las
+ * configuraciones de {@link SolverPortfolio}.
+ *
+ * @author josperart3
+ */
+public class SolverFactoryProvider {
+
+    /** Nombre de la única factoría de una generación sin portfolio */
+    public static final String DEFAULT_SOLVER = "default";
+
+    private final CachingSolverConfig baseConfig;
+    private final SolverFactory<SolverSchedule> defaultSolverFactory;
+    private final boolean portfolio;
+
+    public SolverFactoryProvider(SolverConfig solverConfig) {
+        this(solverConfig, false);
+    }
+
+    public SolverFactoryProvider(SolverConfig solverConfig, boolean portfolio) {
+        this.baseConfig = new CachingSolverConfig(solverConfig);
+        this.defaultSolverFactory = new DefaultSolverFactory<>(baseConfig);
+        this.portfolio = portfolio;
+    }
+
+    /**
+     * Factoría con la terminación de guardianesSolverConfig.xml
+     */
+    public SolverFactory<SolverSchedule> getDefaultSolverFactory() {
+        return defaultSolverFactory;
+    }
+
+    /**
+     * Factoría que termina según el perfil indicado
+     *
+     * @param bestScoreTarget puntuación a partir de la cual se para, o null
+     */
+    public SolverFactory<SolverSchedule> getSolverFactory(SolverProfile profile, HardSoftScore bestScoreTarget) {
+        SolverConfig solverConfig = new SolverConfig(baseConfig)
+                .withTerminationConfig(profile.buildTerminationConfig(bestScoreTarget));
+        return new DefaultSolverFactory<>(new CachingSolverConfig(solverConfig, baseConfig));
+    }
+
+    /**
+     * Factorías con las que se resuelve una generación, por nombre: la de
+     * {@link #getSolverFactory(SolverProfile, HardSoftScore)} o, con el
+     * portfolio activado, una por cada configuración del portfolio, todas con
+     * la terminación del perfil. Cada configuración del portfolio resuelve en
+     * un único hilo
+     */
+    public Map<String, SolverFactory<SolverSchedule>> getGenerationSolverFactories(SolverProfile profile,
+            HardSoftScore bestScoreTarget) {
+        if (!portfolio) {
+            return Collections.singletonMap(DEFAULT_SOLVER, getSolverFactory(profile, bestScoreTarget));
+        }
+        Map<String, SolverFactory<SolverSchedule>> solverFactories = new LinkedHashMap<>();
+        SolverPortfolio.defaultConfigs(baseConfig).forEach((name, solverConfig) -> solverFactories.put(name,
+                new DefaultSolverFactory<>(new CachingSolverConfig(solverConfig
+                        .withMoveThreadCount(SolverConfig.MOVE_THREAD_COUNT_NONE)
+                        .withTerminationConfig(profile.buildTerminationConfig(bestScoreTarget)), baseConfig))));
+        return solverFactories;
+    }
+
+    /**
+     * Factoría para un horizonte de varios meses ({@link SolverHorizon}), que
+     * termina según el perfil indicado
+     */
+    public SolverFactory<SolverSchedule> getHorizonSolverFactory(SolverProfile profile) {
+        SolverConfig solverConfig = SolverHorizon.horizonConfig(baseConfig)
+                .withTerminationConfig(profile.buildTerminationConfig(null));
+        return new DefaultSolverFactory<>(new CachingSolverConfig(solverConfig, baseConfig));
+    }
+}
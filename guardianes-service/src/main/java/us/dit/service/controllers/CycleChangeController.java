@@ -0,0 +1,94 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.controllers;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import us.dit.service.model.CycleChangeResult;
+import us.dit.service.model.entities.CycleChange;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.repositories.DoctorRepository;
+import us.dit.service.services.CycleChangePatchService;
+
+/**
+ * Cambios de guardia acordados entre dos médicos sobre una planificación ya
+ * generada
+ * <p>
+ * El cambio se aplica con {@link CycleChangePatchService}, sin volver a
+ * resolver el mes. Responde 200 con las restricciones duras que el cambio
+ * incumple (vacía si ninguna), 404 si alguno de los médicos no existe y 409
+ * si el mes no tiene planificación o el cambio no cuadra con ella.
+ *
+ * @author josperart3
+ */
+@Lazy
+@RestController
+@RequestMapping("/guardianes/schedules/{year}/{month}/cycle-changes")
+public class CycleChangeController {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    @Autowired
+    private CycleChangePatchService cycleChangePatchService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    /**
+     * El médico que cede le pasa su GUARDIA del día al que la recibe
+     */
+    @PostMapping
+    public ResponseEntity<List<String>> applyCycleChange(@PathVariable int year, @PathVariable int month,
+            @RequestParam int day, @RequestParam Long giverId, @RequestParam Long receiverId) {
+        if (month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()
+                || giverId.equals(receiverId)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<Doctor> giver = doctorRepository.findById(giverId);
+        Optional<Doctor> receiver = doctorRepository.findById(receiverId);
+        if (!giver.isPresent() || !receiver.isPresent()) {
+            logger.info("El médico " + (giver.isPresent() ? receiverId : giverId) + " no existe");
+            return ResponseEntity.notFound().build();
+        }
+        CycleChange cycleChange = new CycleChange(giver.get(), receiver.get());
+        cycleChange.setDay(day);
+        cycleChange.setMonth(month);
+        cycleChange.setYear(year);
+        try {
+            CycleChangeResult result = cycleChangePatchService.applyCycleChange(cycleChange);
+            return ResponseEntity.ok(result.getHardViolations());
+        } catch (IllegalStateException e) {
+            logger.info("No se aplica el cambio de guardia: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.controllers;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import us.dit.service.model.SolverJobInfo;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+import us.dit.service.model.repositories.DoctorRepository;
+import us.dit.service.services.ScheduleRepairService;
+import us.dit.service.services.SchedulerService;
+import us.dit.service.services.SolverJobRegistry;
+import us.dit.service.solver.SolverScheduleMapper;
+import us.dit.service.solver.change.AbsenceChange;
+import us.dit.service.solver.change.AddDoctorChange;
+import us.dit.service.solver.change.WorkingDayChange;
+
+/**
+ * Cambios sobre una generación de planificación en curso
+ * <p>
+ * Cuando se modifica una ausencia, un festivo o la plantilla mientras el
+ * solver está trabajando en el mes, estos endpoints le envían el cambio para
+ * que lo incorpore sin empezar de nuevo. No guardan el cambio en la base de
+ * datos, eso lo hace quien lo edita. Responden 202 si el cambio se ha enviado
+ * y 404 si no hay ninguna generación en curso para el mes.
+ * <p>
+ * También lanza la reparación de una planificación ya confirmada, que sólo
+ * vuelve a planificar los días afectados y publica el resultado, y permite
+ * consultar cómo va o cómo acabó el último trabajo del mes.
+ *
+ * @author josperart3
+ */
+@Lazy
+@RestController
+@RequestMapping("/guardianes/solver/{year}/{month}")
+public class SolverJobController {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    @Autowired
+    private SchedulerService schedulerService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private ScheduleRepairService scheduleRepairService;
+
+    @Autowired
+    private SolverJobRegistry jobRegistry;
+
+    /**
+     * Estado del último trabajo del mes, en curso o terminado, o del horizonte
+     * que lo está generando. Incluye los avisos del análisis de capacidad:
+     * con alguno el solver no puede llegar a 0hard y conviene revisar la
+     * plantilla antes de esperar al resultado. Responde 404 si no ha habido
+     * ningún trabajo desde que arrancó la aplicación
+     */
+    @GetMapping
+    public ResponseEntity<SolverJobInfo> getJob(@PathVariable int year, @PathVariable int month) {
+        return ResponseEntity.of(jobRegistry.findByMonth(new CalendarPK(month, year)));
+    }
+
+    /**
+     * Repara la planificación confirmada del mes tras una ausencia tardía.
+     * Responde 202 si la reparación ha empezado y 409 si la planificación no
+     * está confirmada, no tiene turnos afectados o ya hay un trabajo en curso
+     */
+    @PostMapping("/repair")
+    public ResponseEntity<Void> repair(@PathVariable int year, @PathVariable int month) {
+        if (month < 1 || month > 12) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            scheduleRepairService.startRepair(YearMonth.of(year, month));
+        } catch (IllegalStateException e) {
+            logger.info("No se repara la planificación de " + month + "/" + year + ": " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    /**
+     * Ausencia nueva o modificada de un médico. Sin fechas se le quita la ausencia
+     */
+    @PostMapping("/absences")
+    public ResponseEntity<Void> changeAbsence(@PathVariable int year, @PathVariable int month,
+            @RequestParam Long doctorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return submitted(schedulerService.addProblemFactChange(new CalendarPK(month, year),
+                new AbsenceChange(doctorId, startDate, endDate)));
+    }
+
+    /**
+     * Día que pasa a ser festivo o laborable
+     */
+    @PostMapping("/days")
+    public ResponseEntity<Void> changeWorkingDay(@PathVariable int year, @PathVariable int month,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam boolean workingDay) {
+        return submitted(schedulerService.addProblemFactChange(new CalendarPK(month, year),
+                new WorkingDayChange(date, workingDay)));
+    }
+
+    /**
+     * Médico que se incorpora al mes. Tiene que estar disponible y tener su
+     * configuración de turnos, como los que entran al preparar el problema
+     */
+    @PostMapping("/doctors")
+    public ResponseEntity<Void> addDoctor(@PathVariable int year, @PathVariable int month,
+            @RequestParam Long doctorId) {
+        Optional<Doctor> doctor = doctorRepository.findById(doctorId);
+        if (!doctor.isPresent() || doctor.get().getStatus() != Doctor.DoctorStatus.AVAILABLE
+                || doctor.get().getShiftConfiguration() == null) {
+            logger.info("El médico " + doctorId
+                    + " no existe, no está disponible o no tiene configuración de turnos");
+            return ResponseEntity.notFound().build();
+        }
+        return submitted(schedulerService.addProblemFactChange(new CalendarPK(month, year),
+                new AddDoctorChange(SolverScheduleMapper.toSolverDoctors(Collections.singletonList(doctor.get()))
+                        .get(0))));
+    }
+
+    private ResponseEntity<Void> submitted(boolean submitted) {
+        return submitted ? ResponseEntity.status(HttpStatus.ACCEPTED).build() : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,55 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.controllers;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import us.dit.service.solver.SolverPortfolio;
+
+/**
+ * Consulta del {@link SolverPortfolio}
+ * <p>
+ * Con guardianes.solver.portfolio cada generación compite con todas las
+ * configuraciones del portfolio. Cuántas veces gana cada una sirve para
+ * decidir cuál dejar por defecto.
+ *
+ * @author josperart3
+ */
+@Lazy
+@RestController
+@RequestMapping("/guardianes/solver/portfolio")
+public class SolverPortfolioController {
+
+    @Autowired
+    private ObjectProvider<SolverPortfolio> solverPortfolio;
+
+    /**
+     * Veces que ha ganado cada configuración desde que arrancó la aplicación
+     */
+    @GetMapping
+    public Map<String, Integer> getWinCounts() {
+        return solverPortfolio.getObject().getWinCounts();
+    }
+}
@@ -23,113 +23,157 @@ import org.kie.api.runtime.process.WorkItem;
 import org.kie.api.runtime.process.WorkItemHandler;
 import org.kie.api.runtime.process.WorkItemManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
-import us.dit.service.model.entities.Calendar;
 import us.dit.service.model.entities.Schedule;
-import us.dit.service.model.entities.Schedule.ScheduleStatus;
 import us.dit.service.model.entities.primarykeys.CalendarPK;
-import us.dit.service.model.repositories.CalendarRepository;
-import us.dit.service.model.repositories.ScheduleRepository;
-import us.dit.service.services.OptaplannerGuardians;
+import us.dit.service.services.KieUtilService;
+import us.dit.service.services.SchedulerService;
+import us.dit.service.solver.SolverProfile;
 
 import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Esta clase es el WIH para atender a la tarea GenerarPlanificacion definida en
  * el proceso.
  * En noviembre 2025 se ha modificado para que use el servicio
  * OptaplannerGuardians
+ * En 2026 la generación pasa a ser asíncrona: el trabajo se envía al
+ * SolverManager a través de {@link SchedulerService} y el work item se completa
+ * desde el kie server cuando la solución queda persistida, o se aborta si la
+ * generación falla. Con el parámetro opcional Meses_horizonte se generan
+ * varios meses seguidos como un único problema
  *
  * @author Jose Carlos Rodríguez Morón, Isabel Román Martínez
- * @version 1.1
+ * @version 1.2
  * @date Noviembre 2025
  */
 @Lazy
 @Component("GenerarPlanificacion")
 public class GenerateScheduleWorkItemHandler implements WorkItemHandler {
     private static final Logger logger = LogManager.getLogger();
-    /*
-     * @Autowired
-     * private SchedulerService schedulerService;
-     */
-    @Autowired
-    private OptaplannerGuardians planner;
+
     @Autowired
-    private ScheduleRepository scheduleRepository;
+    private SchedulerService schedulerService;
     @Autowired
-    private CalendarRepository calendarRepository;
+    private KieUtilService kieUtils;
+    @Value("${kieserver.containerId}")
+    private String containerId;
+    @Value("${guardianes.solver.profile:STANDARD}")
+    private SolverProfile defaultProfile;
 
     @Override
     public void executeWorkItem(WorkItem workItem, WorkItemManager workItemManager) {
-        String idCalendarioFestivos = (String) workItem.getParameter("Id_calendario_festivos");
-
         logger.info("Ejecutando WorkItemHandler para el trabajo: " + workItem.getName());
 
-        String[] parts = idCalendarioFestivos.split("-");
-        int month = Integer.parseInt(parts[0]);
-        int year = Integer.parseInt(parts[1]);
-
         // Asi el yearMonth construido es del mes siguiente y es el obtenido de la tarea
         // Establecer festivos
-        YearMonth yearMonth = YearMonth.of(year, month);
-
-        logger.info("Request received to generate schedule for: " + yearMonth);
+        YearMonth yearMonth = obtainYearMonth(workItem);
+        SolverProfile profile = obtainProfile(workItem);
+        int months = obtainHorizonMonths(workItem);
+        logger.info("Request received to generate schedule for: " + yearMonth + " with profile " + profile);
 
-        /**
-         * Toda la gestión del calendario se hace ahora en el servicio
-         * optaplannerguardians
-         * //Y ademas como construimos en la tarea establecer festivos el calendario
-         * //podemos recuperarlo y poder usar su scheduler de forma sencilla
-         * CalendarPK pk = new CalendarPK(yearMonth.getMonthValue(),
-         * yearMonth.getYear());
-         * 
-         * logger.info("El CalendarPK generado es " + pk);
-         * 
-         * Optional<Calendar> calendar = this.calendarRepository.findById(pk);
-         * if (!calendar.isPresent()) {
-         * throw new RuntimeException("Trying to generate a schedule for a non existing
-         * calendar");
-         * }
-         * 
-         * if (this.scheduleRepository.findById(pk).isPresent()) {
-         * throw new RuntimeException("The schedule is already generated");
-         * }
-         * logger.info("Persisting a schedule with status " +
-         * ScheduleStatus.BEING_GENERATED);
-         * Schedule schedule = new Schedule(ScheduleStatus.BEING_GENERATED);
-         * schedule.setCalendar(calendar.get());
-         * this.scheduleRepository.save(schedule);
-         */
-        Schedule solution = planner.solveProblem(yearMonth);
-
-        // this.schedulerService.startScheduleGeneration(calendar.get());
+        long processInstanceId = workItem.getProcessInstanceId();
+        long workItemId = workItem.getId();
+        if (months > 1) {
+            // El proceso sigue con el primer mes generado; los demás quedan pendientes de confirmación
+            this.schedulerService.startHorizonGeneration(yearMonth, months, profile,
+                    solutions -> completeWorkItem(processInstanceId, workItemId, solutions.get(0)),
+                    error -> failWorkItem(processInstanceId, workItemId, yearMonth, error));
+            logger.info("Horizonte de " + months + " meses desde " + yearMonth + " enviado al solver");
+            return;
+        }
+        // No se completa aquí: el hilo del motor queda libre mientras el solver trabaja
+        this.schedulerService.startScheduleGeneration(yearMonth, profile,
+                solution -> completeWorkItem(processInstanceId, workItemId, solution),
+                error -> failWorkItem(processInstanceId, workItemId, yearMonth, error));
+        logger.info("Generacion de " + yearMonth + " enviada al solver");
+    }
 
-        // Antes recuperábamos el schedule para guardar su id en el proceso que sera el
-        // mes y año de ese calendario
-        // ahora como solveProblem devuelve el schedule optimo ya generado lo usamos
-        // directamente
+    @Override
+    public void abortWorkItem(WorkItem workItem, WorkItemManager workItemManager) {
+        YearMonth yearMonth = obtainYearMonth(workItem);
+        CalendarPK pk = new CalendarPK(yearMonth.getMonthValue(), yearMonth.getYear());
+        if (this.schedulerService.cancelScheduleGeneration(pk)) {
+            logger.info("Generacion de " + yearMonth + " cancelada al abortar el work item " + workItem.getId());
+        } else {
+            logger.info("No habia ninguna generacion en curso para " + yearMonth);
+        }
+    }
 
-        // int scheduleMonth = this.scheduleRepository.findById(pk).get().getMonth();
-        int scheduleMonth = solution.getMonth();
-        int scheduleYear = solution.getYear();
-        // int scheduleYear = this.scheduleRepository.findById(pk).get().getYear();
+    private void completeWorkItem(long processInstanceId, long workItemId, Schedule solution) {
         // Para posteriormente en la tarea Validar planificacion podamos obtener el
         // schedule
-        String idPlanificacionProvisional = scheduleMonth + "-" + scheduleYear;
+        String idPlanificacionProvisional = solution.getMonth() + "-" + solution.getYear();
         logger.info("El id de la planificacion es " + idPlanificacionProvisional);
         Map<String, Object> results = new HashMap<>();
         results.put("Id_planficacion_provisional", idPlanificacionProvisional);
+        this.kieUtils.getProcessServicesClient().completeWorkItem(this.containerId, processInstanceId, workItemId,
+                results);
         logger.info("Se termina la tarea de Generar Planificacion");
-        workItemManager.completeWorkItem(workItem.getId(), results);
+    }
 
+    // Si la generación falla se aborta el work item, para que el proceso no se
+    // quede esperando en GenerarPlanificacion y el fallo se vea en el kie server
+    private void failWorkItem(long processInstanceId, long workItemId, YearMonth yearMonth, Throwable error) {
+        logger.error("No se ha podido generar la planificacion de " + yearMonth + ". Se aborta el work item "
+                + workItemId, error);
+        try {
+            this.kieUtils.getProcessServicesClient().abortWorkItem(this.containerId, processInstanceId, workItemId);
+        } catch (RuntimeException e) {
+            logger.error("No se ha podido abortar el work item " + workItemId, e);
+        }
     }
 
-    @Override
-    public void abortWorkItem(WorkItem workItem, WorkItemManager workItemManager) {
+    // El perfil es opcional: QUICK_DRAFT, STANDARD u OVERNIGHT. REPAIR es sólo
+    // para reparar una planificación confirmada. Un valor no válido no debe
+    // dejar el proceso sin planificación, así que se usa el perfil por defecto
+    private SolverProfile obtainProfile(WorkItem workItem) {
+        Object perfil = workItem.getParameter("Perfil_generacion");
+        if (perfil == null || perfil.toString().trim().isEmpty()) {
+            return this.defaultProfile;
+        }
+        SolverProfile profile;
+        try {
+            profile = SolverProfile.valueOf(perfil.toString().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Perfil_generacion desconocido: " + perfil + ". Se usa " + this.defaultProfile);
+            return this.defaultProfile;
+        }
+        if (profile == SolverProfile.REPAIR) {
+            logger.warn("El perfil REPAIR sólo sirve para reparar una planificación confirmada. Se usa "
+                    + this.defaultProfile);
+            return this.defaultProfile;
+        }
+        return profile;
+    }
 
+    // El horizonte es opcional: por defecto se genera sólo el mes pedido
+    private int obtainHorizonMonths(WorkItem workItem) {
+        Object meses = workItem.getParameter("Meses_horizonte");
+        if (meses == null || meses.toString().trim().isEmpty()) {
+            return 1;
+        }
+        try {
+            int months = Integer.parseInt(meses.toString().trim());
+            if (months >= 1) {
+                return months;
+            }
+        } catch (NumberFormatException e) {
+            // Se trata igual que un número fuera de rango
+        }
+        logger.warn("Meses_horizonte no valido: " + meses + ". Se genera solo el mes pedido");
+        return 1;
+    }
+
+    private YearMonth obtainYearMonth(WorkItem workItem) {
+        String idCalendarioFestivos = (String) workItem.getParameter("Id_calendario_festivos");
+        String[] parts = idCalendarioFestivos.split("-");
+        int month = Integer.parseInt(parts[0]);
+        int year = Integer.parseInt(parts[1]);
+        return YearMonth.of(year, month);
     }
 }
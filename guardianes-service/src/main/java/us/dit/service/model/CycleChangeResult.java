@@ -0,0 +1,65 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.model;
+
+import java.util.List;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+import lombok.Getter;
+import lombok.ToString;
+import us.dit.service.model.entities.CycleChange;
+
+/**
+ * Resultado de aplicar un {@link CycleChange} sobre una planificación ya
+ * generada, sin volver a resolverla
+ *
+ * @author josperart3
+ */
+@Getter
+@ToString
+public class CycleChangeResult {
+
+    private final CycleChange cycleChange;
+    private final HardSoftScore scoreBefore;
+    private final HardSoftScore scoreAfter;
+    /** Restricciones duras que el cambio incumple y antes se cumplían */
+    private final List<String> hardViolations;
+    /** Si se han enviado los calendarios de los dos médicos */
+    private final boolean published;
+
+    public CycleChangeResult(CycleChange cycleChange, HardSoftScore scoreBefore, HardSoftScore scoreAfter,
+            List<String> hardViolations, boolean published) {
+        this.cycleChange = cycleChange;
+        this.scoreBefore = scoreBefore;
+        this.scoreAfter = scoreAfter;
+        this.hardViolations = hardViolations;
+        this.published = published;
+    }
+
+    public boolean hasHardViolations() {
+        return !hardViolations.isEmpty();
+    }
+
+    /**
+     * Copia del resultado una vez publicado
+     */
+    public CycleChangeResult withPublished(boolean published) {
+        return new CycleChangeResult(cycleChange, scoreBefore, scoreAfter, hardViolations, published);
+    }
+}
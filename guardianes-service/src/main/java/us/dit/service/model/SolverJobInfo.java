@@ -0,0 +1,91 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import org.optaplanner.core.api.score.Score;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+
+/**
+ * Estado de una generación de planificación enviada al SolverManager
+ * <p>
+ * Lo actualizan a la vez el hilo del solver y los hilos web, por eso los
+ * campos mutables son volatile.
+ *
+ * @author josperart3
+ */
+@Getter
+@ToString
+public class SolverJobInfo {
+
+    public enum JobStatus {
+        SOLVING, COMPLETED, CANCELLED, FAILED
+    }
+
+    public enum JobType {
+        /** Planificación nueva del mes */
+        GENERATION,
+        /** Reparación de una planificación ya confirmada */
+        REPAIR,
+        /** Varios meses seguidos resueltos como un único problema */
+        HORIZON
+    }
+
+    private final CalendarPK problemId;
+    private final JobType type;
+    private final Instant startTime = Instant.now();
+    @Setter
+    private volatile JobStatus status = JobStatus.SOLVING;
+    @Setter
+    private volatile Score<?> bestScore;
+    @Setter
+    private volatile Instant endTime;
+    /** Avisos del análisis de capacidad previo a la resolución */
+    @Setter
+    private volatile List<String> capacityProblems = Collections.emptyList();
+    /** Meses que se guardan al terminar; en un horizonte puede haber varios */
+    @Setter
+    private volatile List<CalendarPK> months;
+
+    public SolverJobInfo(CalendarPK problemId) {
+        this(problemId, JobType.GENERATION);
+    }
+
+    public SolverJobInfo(CalendarPK problemId, JobType type) {
+        this.problemId = problemId;
+        this.type = type;
+        this.months = Collections.singletonList(problemId);
+    }
+
+    public boolean isRunning() {
+        return status == JobStatus.SOLVING;
+    }
+
+    public Duration getElapsedTime() {
+        Instant end = endTime;
+        return Duration.between(startTime, end != null ? end : Instant.now());
+    }
+}
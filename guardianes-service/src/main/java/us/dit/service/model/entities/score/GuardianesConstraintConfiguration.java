@@ -46,6 +46,7 @@ public class GuardianesConstraintConfiguration extends AbstractPersistable {
     public static final String FAIRNESS_GUARDIAS = "Fairness in Guardias";
     public static final String MIN_DAYS_BETWEEN_GUARDIAS = "Minimum days between Guardias";
     public static final String AVOID_CONSECUTIVE_TARDES = "Avoid consecutive Tardes";
+    public static final String KEEP_PUBLISHED_PLAN = "Keep published plan";
 
     // Hard Constraints 
 
@@ -87,6 +88,10 @@ public class GuardianesConstraintConfiguration extends AbstractPersistable {
     @ConstraintWeight(AVOID_CONSECUTIVE_TARDES)
     private HardSoftScore avoidConsecutiveTardes = HardSoftScore.ofSoft(10);
 
+    // Sólo al reparar: cada turno que cambia de médico pesa más que lo que puede ganar la equidad de GUARDIA
+    @ConstraintWeight(KEEP_PUBLISHED_PLAN)
+    private HardSoftScore keepPublishedPlan = HardSoftScore.ofSoft(100);
+
 
     public GuardianesConstraintConfiguration() {
     }
@@ -194,4 +199,12 @@ public class GuardianesConstraintConfiguration extends AbstractPersistable {
     public void setAvoidConsecutiveTardes(HardSoftScore s){ 
         this.avoidConsecutiveTardes = s; 
     }
+
+    public HardSoftScore getKeepPublishedPlan(){
+        return keepPublishedPlan;
+    }
+
+    public void setKeepPublishedPlan(HardSoftScore s){
+        this.keepPublishedPlan = s;
+    }
 }
\ No newline at end of file
@@ -19,12 +19,14 @@ package us.dit.service.model.repositories;
 
 import us.dit.service.model.entities.Schedule;
 import us.dit.service.model.entities.primarykeys.CalendarPK;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.Entity;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -54,4 +56,9 @@ public interface ScheduleRepository extends JpaRepository<Schedule, CalendarPK>
     // 4. Consulta auxiliar: Rellena las consultas (consultations) de los días ya cargados
     @Query("SELECT DISTINCT s FROM Schedule s LEFT JOIN FETCH s.days d LEFT JOIN FETCH d.consultations WHERE s.month = :month AND s.year = :year")
     Schedule fetchConsultations(@Param("month") Integer month, @Param("year") Integer year);
+
+    // 5. Planificaciones con ese estado anteriores al mes indicado, de la más reciente a la más antigua
+    @Query("SELECT s FROM Schedule s WHERE s.status = :status AND (s.year < :year OR (s.year = :year AND s.month < :month)) ORDER BY s.year DESC, s.month DESC")
+    List<Schedule> findLatestBefore(@Param("month") Integer month, @Param("year") Integer year,
+            @Param("status") Schedule.ScheduleStatus status, Pageable pageable);
 }
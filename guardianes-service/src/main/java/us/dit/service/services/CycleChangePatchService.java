@@ -0,0 +1,215 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import us.dit.service.calDavService.calendarioGeneral;
+import us.dit.service.model.CycleChangeResult;
+import us.dit.service.model.entities.CycleChange;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.model.entities.Schedule.ScheduleStatus;
+import us.dit.service.model.entities.ScheduleDay;
+import us.dit.service.model.entities.ShiftAssignment;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+import us.dit.service.model.repositories.ScheduleRepository;
+import us.dit.service.solver.SolverScheduleMapper;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Aplica un {@link CycleChange} directamente sobre una planificación ya
+ * generada, sin volver a resolverla
+ * <p>
+ * La GUARDIA del médico que cede pasa al que la recibe en sus
+ * {@link ShiftAssignment} y en {@link ScheduleDay#getCycle()}. La nueva
+ * puntuación se calcula de forma incremental: sólo se notifica al score
+ * director el cambio de esa asignación. Las restricciones duras que el cambio
+ * incumple se devuelven en el resultado, pero el cambio se guarda igualmente
+ * porque ya lo han acordado los dos médicos. Si la planificación está
+ * confirmada sólo se envían los calendarios de esos dos médicos.
+ *
+ * @author josperart3
+ */
+@Lazy
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CycleChangePatchService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final SolverFactory<SolverSchedule> solverFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final calendarioGeneral calendarService;
+
+    /**
+     * @throws IllegalStateException si el mes no tiene planificación, si el
+     *         médico que cede no tiene GUARDIA ese día o si el que la recibe ya
+     *         la tiene o no forma parte de la planificación
+     */
+    public CycleChangeResult applyCycleChange(CycleChange cycleChange) {
+        CalendarPK pk = new CalendarPK(cycleChange.getMonth(), cycleChange.getYear());
+        ScheduleDay[] patchedDay = new ScheduleDay[1];
+        boolean[] confirmed = new boolean[1];
+        CycleChangeResult result = transactionTemplate.execute(status -> {
+            Schedule schedule = scheduleRepository.findById(pk)
+                    .orElseThrow(() -> new IllegalStateException("No hay planificación para " + pk.getMonth() + "/"
+                            + pk.getYear()));
+            if (schedule.getStatus() != ScheduleStatus.PENDING_CONFIRMATION
+                    && schedule.getStatus() != ScheduleStatus.CONFIRMED) {
+                throw new IllegalStateException("La planificación de " + pk.getMonth() + "/" + pk.getYear()
+                        + " está en " + schedule.getStatus());
+            }
+            confirmed[0] = schedule.getStatus() == ScheduleStatus.CONFIRMED;
+            CycleChangeResult patched = patch(schedule, cycleChange);
+            patchedDay[0] = schedule.getDays().stream()
+                    .filter(day -> day.getDay().equals(cycleChange.getDay()))
+                    .findFirst().orElse(null);
+            scheduleRepository.saveAndFlush(schedule);
+            return patched;
+        });
+        log.info("Cambio de guardia aplicado: {}", result);
+        if (result.hasHardViolations()) {
+            log.warn("El cambio de guardia del {}/{}/{} incumple {}", cycleChange.getDay(), pk.getMonth(),
+                    pk.getYear(), result.getHardViolations());
+        }
+        if (!confirmed[0] || patchedDay[0] == null) {
+            // Todavía no se ha publicado: los médicos lo recibirán al confirmarla
+            return result;
+        }
+        return result.withPublished(publish(patchedDay[0]));
+    }
+
+    private CycleChangeResult patch(Schedule schedule, CycleChange cycleChange) {
+        Long giverId = cycleChange.getCycleGiver().getId();
+        Long receiverId = cycleChange.getCycleReceiver().getId();
+        ShiftAssignment given = null;
+        for (ShiftAssignment sa : schedule.getShiftAssignments()) {
+            if (!isGuardiaOn(sa, cycleChange.getDay()) || sa.getDoctor() == null) {
+                continue;
+            }
+            if (sa.getDoctor().getId().equals(receiverId)) {
+                throw new IllegalStateException("El médico " + receiverId + " ya tiene GUARDIA el día "
+                        + cycleChange.getDay());
+            }
+            if (sa.getDoctor().getId().equals(giverId)) {
+                given = sa;
+            }
+        }
+        if (given == null) {
+            throw new IllegalStateException("El médico " + giverId + " no tiene GUARDIA el día "
+                    + cycleChange.getDay());
+        }
+        Doctor receiver = SolverScheduleMapper.doctorsById(schedule).get(receiverId);
+        if (receiver == null) {
+            throw new IllegalStateException("El médico " + receiverId + " no forma parte de la planificación");
+        }
+
+        // Puntuación antes y después, notificando sólo el cambio de esta asignación
+        SolverSchedule solverSchedule = SolverScheduleMapper.toSolverSchedule(schedule);
+        HardSoftScore scoreBefore;
+        HardSoftScore scoreAfter;
+        List<String> hardViolations = new ArrayList<>();
+        try (ScoreDirector<SolverSchedule> scoreDirector = solverFactory.getScoreDirectorFactory()
+                .buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(solverSchedule);
+            scoreBefore = (HardSoftScore) scoreDirector.calculateScore();
+            Map<String, Integer> hardBefore = hardScoresByConstraint(scoreDirector);
+
+            SolverShiftAssignment solverSa = findAssignment(solverSchedule, given.getId());
+            SolverDoctor solverReceiver = solverSchedule.getDoctorList().stream()
+                    .filter(doctor -> doctor.getId().equals(receiverId))
+                    .findFirst().orElseThrow(IllegalStateException::new);
+            scoreDirector.beforeVariableChanged(solverSa, "doctor");
+            solverSa.setDoctor(solverReceiver);
+            scoreDirector.afterVariableChanged(solverSa, "doctor");
+            scoreDirector.triggerVariableListeners();
+            scoreAfter = (HardSoftScore) scoreDirector.calculateScore();
+
+            hardScoresByConstraint(scoreDirector).forEach((constraint, hardScore) -> {
+                if (hardScore < hardBefore.getOrDefault(constraint, 0)) {
+                    hardViolations.add(constraint);
+                }
+            });
+        }
+
+        given.setDoctor(receiver);
+        for (ScheduleDay day : schedule.getDays()) {
+            if (day.getDay().equals(cycleChange.getDay())) {
+                day.getCycle().removeIf(doctor -> doctor.getId().equals(giverId));
+                day.getCycle().add(receiver);
+            }
+        }
+        schedule.setScore(scoreAfter);
+        return new CycleChangeResult(cycleChange, scoreBefore, scoreAfter, hardViolations, false);
+    }
+
+    private boolean publish(ScheduleDay day) {
+        try {
+            log.info(calendarService.publicarCambioCiclicas(day));
+            return true;
+        } catch (Exception e) {
+            // El cambio ya está guardado; se puede volver a publicar más tarde
+            log.error("No se pudieron enviar los calendarios del cambio de guardia del {}/{}/{}", day.getDay(),
+                    day.getMonth(), day.getYear(), e);
+            return false;
+        }
+    }
+
+    private static boolean isGuardiaOn(ShiftAssignment sa, int day) {
+        return ShiftType.GUARDIA.name().equals(sa.getShift().getShiftType())
+                && sa.getDayConfiguration().getDay() == day;
+    }
+
+    private static SolverShiftAssignment findAssignment(SolverSchedule solverSchedule, Long id) {
+        for (SolverShiftAssignment sa : solverSchedule.getAssignmentList()) {
+            if (sa.getId().equals(id)) {
+                return sa;
+            }
+        }
+        throw new IllegalStateException("La asignación " + id + " no está en el problema");
+    }
+
+    /**
+     * Parte dura de la puntuación de cada restricción, copiada porque el score
+     * director la actualiza en el sitio
+     */
+    private static Map<String, Integer> hardScoresByConstraint(ScoreDirector<SolverSchedule> scoreDirector) {
+        Map<String, Integer> hardScores = new HashMap<>();
+        for (ConstraintMatchTotal total : scoreDirector.getConstraintMatchTotals()) {
+            hardScores.put(total.getConstraintName(), ((HardSoftScore) total.getScore()).getHardScore());
+        }
+        return hardScores;
+    }
+}
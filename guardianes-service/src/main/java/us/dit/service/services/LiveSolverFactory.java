@@ -0,0 +1,92 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.services;
+
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
+
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * {@link SolverFactory} que recuerda el último {@link Solver} que ha construido
+ * <p>
+ * El SolverManager de esta versión de OptaPlanner no deja enviar cambios de
+ * hechos a un trabajo en curso; sólo el Solver los admite. Como cada
+ * generación tiene su propio SolverManager, el último Solver construido es el
+ * que está resolviendo.
+ * <p>
+ * SolverManager.create construye un Solver sólo para validar la
+ * configuración, que nunca resuelve nada. Por eso sólo se recuerdan los que
+ * se construyen después de {@link #startSolving()}; un cambio enviado antes
+ * se perdería en ese Solver de validación.
+ *
+ * @author josperart3
+ */
+class LiveSolverFactory extends SolverFactory<SolverSchedule> {
+
+    private final SolverFactory<SolverSchedule> delegate;
+    private volatile boolean solving;
+    private volatile Solver<SolverSchedule> lastSolver;
+
+    LiveSolverFactory(SolverFactory<SolverSchedule> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Solver<SolverSchedule> buildSolver() {
+        Solver<SolverSchedule> solver = delegate.buildSolver();
+        if (solving) {
+            lastSolver = solver;
+        }
+        return solver;
+    }
+
+    /**
+     * Llamar justo antes de solveAndListen, que construye el Solver del
+     * trabajo en el mismo hilo
+     */
+    void startSolving() {
+        solving = true;
+    }
+
+    /**
+     * @return null si todavía no se ha construido el Solver del trabajo
+     */
+    Solver<SolverSchedule> getLastSolver() {
+        return lastSolver;
+    }
+
+    @Override
+    public ScoreDirectorFactory<SolverSchedule> getScoreDirectorFactory() {
+        return delegate.getScoreDirectorFactory();
+    }
+
+    @Override
+    @Deprecated
+    public SolverConfig getSolverConfig() {
+        return delegate.getSolverConfig();
+    }
+
+    @Override
+    @Deprecated
+    public SolverFactory<SolverSchedule> cloneSolverFactory() {
+        return delegate.cloneSolverFactory();
+    }
+}
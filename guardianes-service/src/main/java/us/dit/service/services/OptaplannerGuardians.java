@@ -17,18 +17,22 @@
 **/
 package us.dit.service.services;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.score.ScoreManager; 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import us.dit.service.model.entities.Calendar; 
 import us.dit.service.model.entities.*;
@@ -37,6 +41,15 @@ import us.dit.service.model.repositories.ShiftRepository;
 import us.dit.service.model.repositories.CalendarRepository;
 import us.dit.service.model.repositories.ScheduleRepository;
 import us.dit.service.model.repositories.DoctorRepository;
+import us.dit.service.solver.ScheduleRepair;
+import us.dit.service.solver.SolverHorizon;
+import us.dit.service.solver.SolverScheduleMapper;
+import us.dit.service.solver.WarmStartInitializer;
+import us.dit.service.solver.capacity.CapacityAnalyzer;
+import us.dit.service.solver.capacity.CapacityReport;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
 import javax.persistence.EntityManager;
 
 /**
@@ -55,41 +68,240 @@ public class OptaplannerGuardians {
     private final DoctorRepository doctorRepository;
     private final ShiftRepository shiftRepository;
     private final EntityManager entityManager;
+    private final SolverFactory<SolverSchedule> solverFactory;
+    private final TransactionTemplate transactionTemplate;
 
     private static final int GUARDIAS_POR_DIA = 2; 
     private static final int SHIFTS_BASE_POR_LABORABLE = 2; // Mínimo base, pero puede subir
 
-    @Transactional(timeout = 900)
+    /**
+     * Genera la planificación del mes de forma síncrona en tres pasos: una
+     * transacción corta que construye el problema, la resolución sobre una
+     * copia desconectada de la base de datos y otra transacción corta que
+     * guarda el resultado. Ninguna conexión queda ocupada mientras el solver
+     * trabaja.
+     */
     public Schedule solveProblem(YearMonth ym) {
         log.info(">>> 1. INICIO OptaplannerGuardians.solveProblem para {}", ym);
 
         // Construir y GUARDAR el problema inicial con capacidad calculada
-        Schedule managedProblem = buildAndSaveInitialProblem(ym);
+        SolverSchedule problem = prepareProblem(ym);
         
         log.info(">>> 2. Problema persistido. Iniciando Solver...");
 
-        SolverFactory<Schedule> factory = SolverFactory.createFromXmlResource("solver/guardianesSolverConfig.xml");
-        Solver<Schedule> solver = factory.buildSolver();
+        // La factoría es un singleton precalentado: las reglas ya están compiladas
+        Solver<SolverSchedule> solver = solverFactory.buildSolver();
 
         //  Resolver
-        Schedule bestSolution = solver.solve(managedProblem);
+        SolverSchedule bestSolution = solver.solve(problem);
 
         // --- DIAGNÓSTICO DEL SCORE ---
-        ScoreManager<Schedule> scoreManager = ScoreManager.create(factory);
+        ScoreManager<SolverSchedule> scoreManager = ScoreManager.create(solverFactory);
         log.info("--- EXPLICACIÓN DEL SCORE ---");
         log.info(scoreManager.explainScore(bestSolution));
         // -----------------------------
 
         log.info(">>> 3. Resolución completada! Score: {}", bestSolution.getScore());
 
-        // Actualizar visualización
-        updateScheduleWithSolution(managedProblem, bestSolution);
+        return saveSolution(bestSolution);
+    }
+
+    /**
+     * Prepara varios meses seguidos como un único problema, para que las
+     * reglas de descanso y la equidad de GUARDIA crucen el cambio de mes (ver
+     * {@link SolverHorizon}). Los meses ya confirmados entran fijados; los
+     * demás se preparan como en {@link #prepareProblem(YearMonth)}, así que se
+     * borra lo que tuvieran. No resuelve nada: lo hace {@link SchedulerService}
+     *
+     * @throws IllegalStateException si todos los meses están ya confirmados
+     */
+    public HorizonProblem prepareHorizon(YearMonth first, int months) {
+        log.info(">>> 1. Preparando el horizonte de {} meses desde {}", months, first);
+        // Se comprueba antes de preparar nada, porque preparar un mes borra lo que hubiera
+        List<SolverSchedule> published = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            published.add(loadPublished(first.plusMonths(i)));
+        }
+        if (!published.contains(null)) {
+            throw new IllegalStateException("Los " + months + " meses desde " + first + " ya están confirmados");
+        }
+
+        List<SolverSchedule> problems = new ArrayList<>(months);
+        List<Boolean> pinned = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            SolverSchedule month = published.get(i);
+            if (month != null) {
+                SolverHorizon.pin(month);
+                problems.add(month);
+            } else {
+                problems.add(prepareProblem(first.plusMonths(i)));
+            }
+            pinned.add(month != null);
+        }
+        SolverSchedule horizon = SolverHorizon.combine(problems);
+        log.info(">>> 2. Horizonte preparado: {} turnos, {} fijados", horizon.getAssignmentList().size(),
+                horizon.getAssignmentList().stream().filter(SolverShiftAssignment::isPinned).count());
+        return new HorizonProblem(horizon, problems, pinned);
+    }
+
+    /**
+     * Separa la solución de un horizonte en sus meses y guarda, pendientes de
+     * confirmación, los que no estaban confirmados, cada uno con la puntuación
+     * de su propio mes
+     *
+     * @return las planificaciones guardadas, en orden
+     */
+    public List<Schedule> saveHorizon(SolverSchedule bestSolution, HorizonProblem problem) {
+        ScoreManager<SolverSchedule> scoreManager = ScoreManager.create(solverFactory);
+        List<SolverSchedule> solutions = SolverHorizon.split(bestSolution, problem.getMonths());
+        List<Schedule> saved = new ArrayList<>();
+        for (int i = 0; i < solutions.size(); i++) {
+            if (!problem.getPublished().get(i)) {
+                scoreManager.updateScore(solutions.get(i));
+                saved.add(saveSolution(solutions.get(i)));
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Problema de un horizonte junto con los meses que lo forman, que hacen
+     * falta para separar y guardar su solución
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class HorizonProblem {
+        private final SolverSchedule horizon;
+        private final List<SolverSchedule> months;
+        /** Por mes, si ya estaba confirmado y entra fijado */
+        private final List<Boolean> published;
+
+        /**
+         * Meses que se generan, es decir, los que no estaban confirmados
+         */
+        public List<CalendarPK> getGeneratedMonths() {
+            List<CalendarPK> generated = new ArrayList<>();
+            for (int i = 0; i < months.size(); i++) {
+                if (!published.get(i)) {
+                    generated.add(new CalendarPK(months.get(i).getMonth(), months.get(i).getYear()));
+                }
+            }
+            return generated;
+        }
+    }
+
+    /**
+     * Planificación confirmada del mes en el modelo del solver, o null si no
+     * está confirmada
+     */
+    private SolverSchedule loadPublished(YearMonth ym) {
+        CalendarPK pk = new CalendarPK(ym.getMonthValue(), ym.getYear());
+        return this.transactionTemplate.execute(status -> this.scheduleRepository.findById(pk)
+                .filter(schedule -> schedule.getStatus() == Schedule.ScheduleStatus.CONFIRMED)
+                .map(SolverScheduleMapper::toSolverSchedule)
+                .orElse(null));
+    }
+
+    /**
+     * Construye y persiste el problema del mes en su propia transacción, sin
+     * resolverlo. Devuelve el problema traducido al modelo del solver, que no
+     * depende de la sesión de Hibernate
+     */
+    public SolverSchedule prepareProblem(YearMonth ym) {
+        log.info(">>> 1. Preparando el problema de {}", ym);
+        return this.transactionTemplate.execute(status -> {
+            List<String> capacityProblems = new ArrayList<>();
+            SolverSchedule problem = SolverScheduleMapper.toSolverSchedule(
+                    buildAndSaveInitialProblem(ym, capacityProblems));
+            problem.setCapacityProblems(capacityProblems);
+            warmStart(ym, problem);
+            return problem;
+        });
+    }
+
+    /**
+     * Prepara la reparación de una planificación confirmada, en su propia
+     * transacción y sin borrar nada: sólo se liberan los días en los que algún
+     * médico ya no puede hacer su turno (ver {@link ScheduleRepair})
+     *
+     * @throws IllegalStateException si la planificación no está confirmada o
+     *         no hay ningún turno afectado
+     */
+    public SolverSchedule prepareRepair(YearMonth ym) {
+        CalendarPK pk = new CalendarPK(ym.getMonthValue(), ym.getYear());
+        log.info(">>> 1. Preparando la reparación de {}", ym);
+        return this.transactionTemplate.execute(status -> {
+            Schedule schedule = this.scheduleRepository.findById(pk)
+                    .orElseThrow(() -> new IllegalStateException("No se encontró la planificación " + ym));
+            if (schedule.getStatus() != Schedule.ScheduleStatus.CONFIRMED) {
+                throw new IllegalStateException("Sólo se reparan planificaciones confirmadas y la de " + ym
+                        + " está en " + schedule.getStatus());
+            }
+            SolverSchedule problem = SolverScheduleMapper.toSolverSchedule(schedule);
+            SortedSet<LocalDate> affectedDays = ScheduleRepair.prepare(problem);
+            if (affectedDays.isEmpty()) {
+                throw new IllegalStateException("La planificación de " + ym + " no tiene turnos afectados");
+            }
+            long free = problem.getAssignmentList().stream().filter(sa -> !sa.isPinned()).count();
+            log.info(">>> Días afectados: {}. Se replanifican {} de {} turnos", affectedDays, free,
+                    problem.getAssignmentList().size());
+            return problem;
+        });
+    }
+
+    /**
+     * Siembra el problema con la última planificación confirmada, para que la
+     * búsqueda local empiece cerca de una solución factible. Si no la hay o no
+     * se puede traducir, se resuelve desde cero
+     */
+    private void warmStart(YearMonth ym, SolverSchedule problem) {
+        List<Schedule> confirmed = this.scheduleRepository.findLatestBefore(ym.getMonthValue(), ym.getYear(),
+                Schedule.ScheduleStatus.CONFIRMED, PageRequest.of(0, 1));
+        if (confirmed.isEmpty()) {
+            log.info(">>> Sin planificación confirmada anterior a {}, se empieza desde cero", ym);
+            return;
+        }
+        Schedule previous = confirmed.get(0);
+        try {
+            int seeded = WarmStartInitializer.seedFromPrevious(problem,
+                    SolverScheduleMapper.toSolverSchedule(previous));
+            log.info(">>> Arranque en caliente desde {}/{}: {} de {} turnos sembrados", previous.getMonth(),
+                    previous.getYear(), seeded, problem.getAssignmentList().size());
+        } catch (IllegalStateException e) {
+            log.warn(">>> No se pudo usar la planificación {}/{} para el arranque en caliente: {}",
+                    previous.getMonth(), previous.getYear(), e.getMessage());
+        }
+    }
 
-        // Guardar cambios finales
-        return this.scheduleRepository.saveAndFlush(managedProblem);
+    /**
+     * Vuelca la mejor solución encontrada sobre la planificación persistida,
+     * en su propia transacción, y la deja pendiente de confirmación
+     */
+    public Schedule saveSolution(SolverSchedule solution) {
+        CalendarPK pk = new CalendarPK(solution.getMonth(), solution.getYear());
+        log.info(">>> 4. Guardando la solución de {}/{}. Score: {}", pk.getMonth(), pk.getYear(), solution.getScore());
+        return this.transactionTemplate.execute(status -> {
+            Schedule managed = this.scheduleRepository.findById(pk)
+                    .orElseThrow(() -> new RuntimeException("No se encontró la planificación " + pk));
+            // Actualizar visualización
+            updateScheduleWithSolution(managed, solution);
+            // Guardar cambios finales
+            return this.scheduleRepository.saveAndFlush(managed);
+        });
     }
 
-    private Schedule buildAndSaveInitialProblem(YearMonth ym) {
+    @Transactional
+    public void updateStatus(CalendarPK pk, Schedule.ScheduleStatus status) {
+        this.scheduleRepository.findById(pk).ifPresent(schedule -> {
+            schedule.setStatus(status);
+            this.scheduleRepository.save(schedule);
+        });
+    }
+
+    /**
+     * @param capacityProblems recibe los motivos por los que el mes no es factible
+     */
+    private Schedule buildAndSaveInitialProblem(YearMonth ym, List<String> capacityProblems) {
         CalendarPK pk = new CalendarPK(ym.getMonthValue(), ym.getYear());
 
         // --- LIMPIEZA ---
@@ -103,56 +315,18 @@ public class OptaplannerGuardians {
                 .filter(d -> d.getStatus() == Doctor.DoctorStatus.AVAILABLE && d.getShiftConfiguration() != null)
                 .collect(Collectors.toList());
 
-        // Demanda de Consultas
-        int totalConsultasNecesarias = allDoctors.stream()
-                .mapToInt(d -> d.getShiftConfiguration().getNumConsultations())
-                .sum();
-        
-        //  Demanda de Shifts (Cont. Asist) - ¡LA CLAVE DE TU CAMBIO!
-        int totalMinShiftsNecesarios = allDoctors.stream()
-                .mapToInt(d -> d.getShiftConfiguration().getMinShifts())
-                .sum();
-
-        // --- PREPARACIÓN DE DÍAS ---
-        List<DayConfiguration> workingDays = new ArrayList<>();
-        // Mapa para controlar cuántos Shifts (Tarde) se crean cada día
-        Map<Integer, Integer> shiftsPerDayMap = new HashMap<>();
-
-        for (DayConfiguration dc : cal.getDayConfigurations()) {
-            // Inicializamos a 0
-            shiftsPerDayMap.put(dc.getDay(), 0); 
-            
-            if (dc.getIsWorkingDay()) {
-                workingDays.add(dc);
-                // Por defecto, ponemos la base (2)
-                shiftsPerDayMap.put(dc.getDay(), SHIFTS_BASE_POR_LABORABLE);
-            }
-        }
-
-        // --- AJUSTE DE OFERTA VS DEMANDA (SHIFTS) ---
-        int capacidadBaseTotal = workingDays.size() * SHIFTS_BASE_POR_LABORABLE;
-        
-        log.info("ANÁLISIS DE CAPACIDAD: Se necesitan mínimo {} huecos de Cont. Asist. La base (2/día) ofrece {}.", 
-                totalMinShiftsNecesarios, capacidadBaseTotal);
-
-        if (totalMinShiftsNecesarios > capacidadBaseTotal) {
-            int deficit = totalMinShiftsNecesarios - capacidadBaseTotal;
-            log.info(">>> DÉFICIT DETECTADO: Faltan {} huecos. Se añadirán dinámicamente.", deficit);
-            
-            // Repartimos el déficit entre los días laborables aleatoriamente
-            Collections.shuffle(workingDays); 
-            int i = 0;
-            while (deficit > 0) {
-                DayConfiguration dc = workingDays.get(i % workingDays.size());
-                int current = shiftsPerDayMap.get(dc.getDay());
-                
-                // Añadimos un hueco extra a este día
-                shiftsPerDayMap.put(dc.getDay(), current + 1);
-                
-                deficit--;
-                i++;
-            }
+        // --- ANÁLISIS DE CAPACIDAD ---
+        // Cuántas TARDE y CONSULTA hacen falta cada día y si el mes es factible,
+        // antes de crear nada y de lanzar el solver
+        CapacityReport capacity = CapacityAnalyzer.analyze(SolverScheduleMapper.toSolverDoctors(allDoctors),
+                SolverScheduleMapper.toSolverDays(cal.getDayConfigurations(), ym),
+                GUARDIAS_POR_DIA, SHIFTS_BASE_POR_LABORABLE);
+        log.info("ANÁLISIS DE CAPACIDAD: {} TARDE y {} CONSULTA para {} médicos", capacity.getTotalTardeSlots(),
+                capacity.getTotalConsultaSlots(), allDoctors.size());
+        for (String problem : capacity.getProblems()) {
+            log.warn(">>> MES NO FACTIBLE: {}", problem);
         }
+        capacityProblems.addAll(capacity.getProblems());
 
         // --- CREACIÓN FÍSICA DE LOS OBJETOS ---
         Schedule sch = new Schedule();
@@ -172,31 +346,21 @@ public class OptaplannerGuardians {
 
         // Bucle principal de creación
         for (DayConfiguration dc : cal.getDayConfigurations()) {
+            LocalDate date = SolverScheduleMapper.dateOf(dc, ym);
             
             // Guardias (Fijo: 2 por día)
             for (int k = 0; k < GUARDIAS_POR_DIA; k++) {
                 shiftsToSave.add(createShift(dc, "GUARDIA", false, false));
             }
 
-            // Shifts / Cont. Asist (Dinámico según el mapa calculado arriba)
-            // Si es festivo, el mapa devolverá 0. Si es laborable, devolverá 2, 3, o los que toquen.
-            int numShiftsHoy = shiftsPerDayMap.getOrDefault(dc.getDay(), 0);
-            for (int k = 0; k < numShiftsHoy; k++) {
+            // Shifts / Cont. Asist y Consultas según el análisis de capacidad.
+            // Si es festivo no hay ninguno
+            for (int k = 0; k < capacity.getTardeSlots(date); k++) {
                 shiftsToSave.add(createShift(dc, "TARDE", false, false));
             }
-        }
-
-        // Consultas (Distribución en huecos libres laborables)
-        // Re-barajamos para que no coincida necesariamente con donde pusimos los shifts extra
-        Collections.shuffle(workingDays);
-        int consultasCreadas = 0;
-        int dayIndex = 0;
-        
-        while (consultasCreadas < totalConsultasNecesarias && !workingDays.isEmpty()) {
-            DayConfiguration dc = workingDays.get(dayIndex % workingDays.size());
-            shiftsToSave.add(createShift(dc, "CONSULTA", false, true));
-            consultasCreadas++;
-            dayIndex++;
+            for (int k = 0; k < capacity.getConsultaSlots(date); k++) {
+                shiftsToSave.add(createShift(dc, "CONSULTA", false, true));
+            }
         }
 
         List<Shift> managedShifts = this.shiftRepository.saveAll(shiftsToSave);
@@ -231,7 +395,11 @@ public class OptaplannerGuardians {
         return this.scheduleRepository.saveAndFlush(savedSchedule);
     }
 
-    private void updateScheduleWithSolution(Schedule managed, Schedule solution) {
+    /**
+     * Vuelca la solución en una sola pasada: turnos, médicos y días se
+     * localizan por id en lugar de recorrer las listas para cada asignación
+     */
+    private void updateScheduleWithSolution(Schedule managed, SolverSchedule solution) {
         managed.setStatus(Schedule.ScheduleStatus.PENDING_CONFIRMATION);
         managed.setScore(solution.getScore());
         
@@ -252,28 +420,51 @@ public class OptaplannerGuardians {
             }
         }
 
-        Map<Long, ShiftAssignment> solutionMap = solution.getShiftAssignments().stream()
-                .collect(Collectors.toMap(sa -> sa.getShift().getId(), sa -> sa));
+        Map<Long, SolverShiftAssignment> solutionMap = new HashMap<>();
+        for (SolverShiftAssignment sa : solution.getAssignmentList()) {
+            solutionMap.put(sa.getShiftId(), sa);
+        }
+        Map<Long, Doctor> doctorsById = SolverScheduleMapper.doctorsById(managed);
+        // Médicos incorporados mientras se resolvía (ver AddDoctorChange)
+        for (SolverDoctor solverDoctor : solution.getDoctorList()) {
+            if (!doctorsById.containsKey(solverDoctor.getId())) {
+                this.doctorRepository.findById(solverDoctor.getId()).ifPresent(doctor -> {
+                    managed.getDoctorList().add(doctor);
+                    doctorsById.put(doctor.getId(), doctor);
+                });
+            }
+        }
+        Map<Integer, ScheduleDay> daysByNumber = new HashMap<>();
+        for (ScheduleDay sd : managed.getDays()) {
+            daysByNumber.put(sd.getDay(), sd);
+            // Al reparar una planificación ya publicada los días tienen los médicos anteriores
+            if (sd.getCycle() != null) sd.getCycle().clear();
+            if (sd.getShifts() != null) sd.getShifts().clear();
+            if (sd.getConsultations() != null) sd.getConsultations().clear();
+        }
 
         for (ShiftAssignment managedSa : managed.getShiftAssignments()) {
-            ShiftAssignment solvedSa = solutionMap.get(managedSa.getShift().getId());
+            SolverShiftAssignment solvedSa = solutionMap.get(managedSa.getShift().getId());
+            // Sin asignación en la solución: el turno era de un día que pasó a festivo
+            if (solvedSa == null || solvedSa.getDoctor() == null) {
+                managedSa.setDoctor(null);
+            }
             
             if (solvedSa != null && solvedSa.getDoctor() != null) {
-                managedSa.setDoctor(solvedSa.getDoctor());
+                Doctor doc = doctorsById.get(solvedSa.getDoctor().getId());
+                managedSa.setDoctor(doc);
                 
-                int day = managedSa.getDayConfiguration().getDay();
-                ScheduleDay sd = managed.getDays().stream().filter(d -> d.getDay() == day).findFirst().orElse(null);
+                ScheduleDay sd = daysByNumber.get(managedSa.getDayConfiguration().getDay());
                 
                 if (sd != null) {
                     if (sd.getCycle() == null) sd.setCycle(new ArrayList<>());
                     if (sd.getShifts() == null) sd.setShifts(new ArrayList<>());
                     if (sd.getConsultations() == null) sd.setConsultations(new ArrayList<>());
 
-                    Doctor doc = solvedSa.getDoctor();
-                    switch (managedSa.getShift().getShiftType()) {
-                        case "GUARDIA": sd.getCycle().add(doc); break;
-                        case "CONSULTA": sd.getConsultations().add(doc); break;
-                        case "TARDE": sd.getShifts().add(doc); break;
+                    switch (solvedSa.getShiftType()) {
+                        case GUARDIA: sd.getCycle().add(doc); break;
+                        case CONSULTA: sd.getConsultations().add(doc); break;
+                        case TARDE: sd.getShifts().add(doc); break;
                     }
                 }
             }
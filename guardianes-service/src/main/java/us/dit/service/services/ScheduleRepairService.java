@@ -0,0 +1,85 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.services;
+
+import java.time.YearMonth;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import us.dit.service.calDavService.calendarioGeneral;
+import us.dit.service.model.SolverJobInfo;
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.model.entities.Schedule.ScheduleStatus;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+import us.dit.service.model.repositories.ScheduleRepository;
+
+/**
+ * Repara una planificación ya confirmada y vuelve a publicarla
+ * <p>
+ * La reparación la hace {@link SchedulerService#startScheduleRepair}, que deja
+ * la planificación pendiente de confirmación. Como los médicos ya tenían sus
+ * calendarios, al terminar se confirma de nuevo y se les envían los
+ * calendarios reparados. Si la reparación falla o se cancela, la planificación
+ * confirmada queda como estaba.
+ *
+ * @author josperart3
+ */
+@Lazy
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleRepairService {
+
+    private final SchedulerService schedulerService;
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final calendarioGeneral calendarService;
+
+    /**
+     * @throws IllegalStateException si la planificación no está confirmada,
+     *         no tiene turnos afectados o ya hay un trabajo en curso para el mes
+     */
+    public SolverJobInfo startRepair(YearMonth yearMonth) {
+        return schedulerService.startScheduleRepair(yearMonth, this::publish,
+                error -> log.error("No se ha podido reparar la planificación de {}, sigue la confirmada", yearMonth,
+                        error));
+    }
+
+    private void publish(Schedule repaired) {
+        CalendarPK pk = new CalendarPK(repaired.getMonth(), repaired.getYear());
+        // En la misma transacción, porque los calendarios recorren los días y sus médicos
+        transactionTemplate.executeWithoutResult(status -> {
+            Schedule schedule = scheduleRepository.findById(pk)
+                    .orElseThrow(() -> new IllegalStateException("No se encontró la planificación " + pk));
+            schedule.setStatus(ScheduleStatus.CONFIRMED);
+            scheduleRepository.saveAndFlush(schedule);
+            try {
+                calendarService.setHorario(schedule);
+                log.info("Planificación {}/{} reparada y publicada", pk.getMonth(), pk.getYear());
+            } catch (Exception e) {
+                // La reparación ya está guardada; se puede volver a publicar más tarde
+                log.error("No se pudieron enviar los calendarios reparados de {}/{}", pk.getMonth(), pk.getYear(),
+                        e);
+            }
+        });
+    }
+}
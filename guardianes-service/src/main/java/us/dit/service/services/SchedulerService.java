@@ -17,40 +17,71 @@
 **/
 package us.dit.service.services;
 
+import javax.annotation.PreDestroy;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverManager;
-import org.optaplanner.core.api.solver.SolverJob;
+import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.impl.solver.ProblemFactChange;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.context.annotation.Lazy;
-import us.dit.service.model.entities.Calendar;
-import us.dit.service.model.entities.DayConfiguration;
-import us.dit.service.model.entities.Doctor;
+import us.dit.service.config.SolverFactoryProvider;
+import us.dit.service.model.SolverJobInfo;
+import us.dit.service.model.SolverJobInfo.JobStatus;
+import us.dit.service.model.SolverJobInfo.JobType;
 import us.dit.service.model.entities.Schedule;
 import us.dit.service.model.entities.Schedule.ScheduleStatus;
-import us.dit.service.model.entities.Shift;
-import us.dit.service.model.entities.ShiftAssignment;
 import us.dit.service.model.entities.primarykeys.CalendarPK;
-import us.dit.service.model.repositories.DayConfigurationRepository;
-import us.dit.service.model.repositories.DoctorRepository;
-import us.dit.service.model.repositories.ScheduleRepository;
-import us.dit.service.model.repositories.ShiftRepository;
+import us.dit.service.services.OptaplannerGuardians.HorizonProblem;
+import us.dit.service.solver.ScoreBoundCalculator;
+import us.dit.service.solver.SolverPortfolio;
+import us.dit.service.solver.SolverProfile;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverScheduleCloner;
 
-import java.util.*;
-import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
- * Service responsible for generating and optimizing the medical schedule using OptaPlanner.
- * 
- * This class handles the orchestration of the solving process, including:
- * 
- * Analyzing the resource demand (doctors' contracts) to calculate the necessary capacity (elastic demand).
- * Building the initial {@link Schedule} problem with unassigned shifts.
- * Running the Solver to find the best assignment according to hard/soft constraints.
- * Persisting the final solution and mapping it back to the persistence layer.
- * 
+ * Servicio que ejecuta la generación de planificaciones de forma asíncrona con
+ * el {@link SolverManager} de OptaPlanner
+ * <p>
+ * {@link OptaplannerGuardians} construye y guarda el problema, y el solver
+ * trabaja en un hilo del SolverManager, así quien lo llama (el motor de jBPM) no
+ * se queda bloqueado. Cada trabajo se registra en {@link SolverJobRegistry} y se
+ * puede cancelar en cualquier momento.
+ * <p>
+ * Cada trabajo tiene su propio SolverManager, porque la terminación depende del
+ * {@link SolverProfile} elegido para esa generación. Las reglas compiladas se
+ * comparten a través de {@link SolverFactoryProvider}. Con el portfolio
+ * activado una generación tiene un SolverManager por cada configuración de
+ * {@link SolverPortfolio}: resuelven a la vez, se guarda la mejor solución y se
+ * anota qué configuración ha ganado.
+ * <p>
+ * Una planificación confirmada también se puede reparar: sólo se vuelven a
+ * planificar los días afectados por una ausencia tardía, y el plan publicado se
+ * conserva aparte.
+ * <p>
+ * Varios meses seguidos se pueden generar como un único trabajo (un
+ * horizonte), registrado con el primero de ellos.
+ * <p>
+ * Los cambios que llegan con un trabajo en curso (ausencias, festivos, médicos
+ * nuevos) se envían al solver como cambios de hechos, así conserva su mejor
+ * solución en lugar de empezar de cero.
  *
  * @author josperart3
  */
@@ -60,137 +91,396 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SchedulerService {
 
-    private final ScheduleRepository scheduleRepository;
-    private final ShiftRepository shiftRepository;
-    private final DoctorRepository doctorRepository;
-    private final DayConfigurationRepository dayConfigurationRepository; 
+    private final OptaplannerGuardians planner;
+    private final SolverJobRegistry jobRegistry;
+    private final SolverFactoryProvider solverFactoryProvider;
+    // Sólo se crea si gana alguna configuración del portfolio
+    private final ObjectProvider<SolverPortfolio> solverPortfolio;
+    private final ConcurrentMap<CalendarPK, SolverRun> solverRuns = new ConcurrentHashMap<>();
 
-    private final SolverManager<Schedule, CalendarPK> solverManager;
+    /**
+     * Como {@link #startScheduleGeneration(YearMonth, SolverProfile, Consumer, Consumer)}
+     * con el perfil {@link SolverProfile#STANDARD}
+     */
+    public SolverJobInfo startScheduleGeneration(YearMonth yearMonth, Consumer<Schedule> onGenerated,
+            Consumer<Throwable> onFailed) {
+        return startScheduleGeneration(yearMonth, SolverProfile.STANDARD, onGenerated, onFailed);
+    }
 
     /**
-     * Genera y persiste la planificación para el {@link Calendar} indicado usando OptaPlanner 8.7.0.Final.
-     * Sustituye al antiguo scheduler en Python.
+     * Prepara el problema del mes y lo envía al SolverManager. Vuelve en cuanto
+     * el trabajo queda encolado; el resultado llega por los callbacks
+     *
+     * @param profile decide cuándo para el solver
+     * @param onGenerated recibe la planificación ya persistida, pendiente de confirmación
+     * @param onFailed recibe el error si la generación falla
      */
-    @Transactional
-    public void startScheduleGeneration(Calendar calendar) {
-        Objects.requireNonNull(calendar, "calendar must not be null");
-        final Integer month = calendar.getMonth();
-        final Integer year  = calendar.getYear();
-        final CalendarPK problemId = new CalendarPK(month, year);
-
-        log.info("Iniciando generación con OptaPlanner para {}/{}", month, year);
-
-        // 1) Cargar/crear el Schedule de trabajo (estado BEING_GENERATED)
-        Schedule workingSchedule = scheduleRepository.findById(new CalendarPK(month, year))
-                .orElseGet(() -> {
-                    Schedule s = new Schedule();
-                    s.setMonth(month);
-                    s.setYear(year);
-                    s.setCalendar(calendar);
-                    return s;
-                });
-
-        workingSchedule.setStatus(ScheduleStatus.BEING_GENERATED);
-
-        // 2) Poblar FACTS (rangos) y entidades planificables
-        populateFactsAndEntities(workingSchedule);
+    public SolverJobInfo startScheduleGeneration(YearMonth yearMonth, SolverProfile profile,
+            Consumer<Schedule> onGenerated, Consumer<Throwable> onFailed) {
+        CalendarPK problemId = new CalendarPK(yearMonth.getMonthValue(), yearMonth.getYear());
+        SolverJobInfo job = jobRegistry.register(problemId);
 
+        SolverSchedule problem;
         try {
-	        // 3) Resolver SINCRÓNICAMENTE con SolverManager
-	        //    (solve(...) bloquea hasta obtener la mejor solución)
-	        SolverJob<Schedule, CalendarPK> job = solverManager.solve(problemId, workingSchedule);
-	        Schedule bestSolution = job.getFinalBestSolution(); // bloquea hasta la mejor solución
-
-	        workingSchedule.setShiftAssignments(bestSolution.getShiftAssignments());
-            workingSchedule.setScore(bestSolution.getScore()); 
+            problem = planner.prepareProblem(yearMonth);
+        } catch (RuntimeException e) {
+            jobRegistry.finish(problemId, JobStatus.FAILED);
+            throw e;
+        }
+        if (!problem.getCapacityProblems().isEmpty()) {
+            // Se resuelve igualmente: la mejor solución no factible sigue siendo útil para revisarla
+            log.warn("El mes {}/{} no tiene capacidad suficiente, el solver no llegará a 0hard: {}",
+                    problemId.getMonth(), problemId.getYear(), problem.getCapacityProblems());
+            job.setCapacityProblems(problem.getCapacityProblems());
+        }
 
+        log.info("Enviando la generación de {}/{} al SolverManager con el perfil {}", problemId.getMonth(),
+                problemId.getYear(), profile);
+        // Si el solver llega a la cota la solución es óptima y no hace falta esperar
+        HardSoftScore bestScoreBound = ScoreBoundCalculator.bestScoreBound(problem);
+        log.info("Mejor puntuación posible para {}/{}: {}", problemId.getMonth(), problemId.getYear(),
+                bestScoreBound != null ? bestScoreBound : "ninguna, no hay médicos para todas las GUARDIA");
+        submit(problemId, problem, solverFactoryProvider.getGenerationSolverFactories(profile, bestScoreBound),
+                planner::saveSolution, onGenerated, onFailed);
+        return job;
+    }
 
-            if (workingSchedule.getShiftAssignments() != null) {
-                workingSchedule.getShiftAssignments().forEach(a -> a.setSchedule(workingSchedule));
+    /**
+     * Genera varios meses seguidos como un único problema, para que los
+     * descansos y la equidad de GUARDIA crucen el cambio de mes. El trabajo se
+     * registra con el primer mes, que es el que se usa para cancelarlo o para
+     * enviarle cambios de hechos. Los meses ya confirmados entran fijados y no
+     * se vuelven a guardar
+     *
+     * @param months número de meses, contando el primero
+     * @param onGenerated recibe las planificaciones generadas, en orden
+     * @param onFailed recibe el error si la generación falla
+     * @throws IllegalStateException si alguno de los meses ya tiene un trabajo
+     *         en curso o todos están confirmados
+     */
+    public SolverJobInfo startHorizonGeneration(YearMonth first, int months, SolverProfile profile,
+            Consumer<List<Schedule>> onGenerated, Consumer<Throwable> onFailed) {
+        if (months < 1) {
+            throw new IllegalArgumentException("El horizonte necesita al menos un mes: " + months);
+        }
+        // Preparar el horizonte borra los meses que genera, así que ninguno puede estar en curso
+        for (int i = 1; i < months; i++) {
+            YearMonth month = first.plusMonths(i);
+            if (jobRegistry.find(new CalendarPK(month.getMonthValue(), month.getYear()))
+                    .map(SolverJobInfo::isRunning).orElse(false)) {
+                throw new IllegalStateException("Ya hay una generación en curso para " + month.getMonthValue() + "/"
+                        + month.getYear());
             }
+        }
+        CalendarPK problemId = new CalendarPK(first.getMonthValue(), first.getYear());
+        SolverJobInfo job = jobRegistry.register(problemId, JobType.HORIZON);
+
+        HorizonProblem problem;
+        try {
+            problem = planner.prepareHorizon(first, months);
+        } catch (RuntimeException e) {
+            jobRegistry.finish(problemId, JobStatus.FAILED);
+            throw e;
+        }
+        job.setMonths(problem.getGeneratedMonths());
+        if (!problem.getHorizon().getCapacityProblems().isEmpty()) {
+            log.warn("El horizonte desde {}/{} no tiene capacidad suficiente, el solver no llegará a 0hard: {}",
+                    problemId.getMonth(), problemId.getYear(), problem.getHorizon().getCapacityProblems());
+            job.setCapacityProblems(problem.getHorizon().getCapacityProblems());
+        }
+
+        log.info("Enviando el horizonte de {} meses desde {}/{} al SolverManager con el perfil {}", months,
+                problemId.getMonth(), problemId.getYear(), profile);
+        submit(problemId, problem.getHorizon(), single(solverFactoryProvider.getHorizonSolverFactory(profile)),
+                bestSolution -> planner.saveHorizon(bestSolution, problem), onGenerated, onFailed);
+        return job;
+    }
+
+    /**
+     * Repara una planificación confirmada a la que le ha llegado una ausencia
+     * u otro cambio que invalida algunos turnos. Sólo se replanifican los días
+     * afectados y se intenta cambiar lo menos posible lo ya publicado. Si se
+     * cancela o falla, la planificación confirmada queda como estaba
+     *
+     * @param onRepaired recibe la planificación reparada, de nuevo pendiente de confirmación
+     * @param onFailed recibe el error si la reparación falla
+     * @throws IllegalStateException si la planificación no está confirmada o
+     *         no tiene turnos afectados
+     */
+    public SolverJobInfo startScheduleRepair(YearMonth yearMonth, Consumer<Schedule> onRepaired,
+            Consumer<Throwable> onFailed) {
+        CalendarPK problemId = new CalendarPK(yearMonth.getMonthValue(), yearMonth.getYear());
+        SolverJobInfo job = jobRegistry.register(problemId, JobType.REPAIR);
+
+        SolverSchedule problem;
+        try {
+            problem = planner.prepareRepair(yearMonth);
+        } catch (RuntimeException e) {
+            jobRegistry.finish(problemId, JobStatus.FAILED);
+            throw e;
+        }
+
+        log.info("Enviando la reparación de {}/{} al SolverManager", problemId.getMonth(), problemId.getYear());
+        // Sin cota: la regla que conserva lo publicado no entra en ella
+        submit(problemId, problem, single(solverFactoryProvider.getSolverFactory(SolverProfile.REPAIR, null)),
+                planner::saveSolution, onRepaired, onFailed);
+        return job;
+    }
+
+    /**
+     * Cancela la generación o reparación en curso del mes indicado, o el
+     * horizonte que empieza en él. La mejor solución encontrada hasta el
+     * momento se descarta
+     *
+     * @return false si no había ninguna generación en curso
+     */
+    public boolean cancelScheduleGeneration(CalendarPK problemId) {
+        if (!jobRegistry.finish(problemId, JobStatus.CANCELLED)) {
+            return false;
+        }
+        log.info("Cancelando la generación de {}/{}", problemId.getMonth(), problemId.getYear());
+        SolverRun run = solverRuns.get(problemId);
+        if (run != null) {
+            // Bloquea hasta que los solvers han terminado y ya no llamarán a los callbacks
+            run.terminateEarly(problemId);
+            release(problemId, run);
+        }
+        updateStatus(problemId, ScheduleStatus.NOT_CREATED);
+        return true;
+    }
+
+    /**
+     * Aplica un cambio de hechos (una ausencia, un festivo, un médico nuevo)
+     * a la generación o reparación en curso del mes, sin empezar de nuevo: el
+     * solver parte de su mejor solución con el cambio aplicado. Si el solver
+     * termina justo antes de procesarlo el cambio no llega a aplicarse
+     *
+     * @return false si no hay ninguna generación en curso para ese mes
+     */
+    public boolean addProblemFactChange(CalendarPK problemId, ProblemFactChange<SolverSchedule> problemFactChange) {
+        SolverRun run = solverRuns.get(problemId);
+        List<Solver<SolverSchedule>> solvers = run != null ? run.getSolvers() : Collections.emptyList();
+        if (solvers.isEmpty() || !jobRegistry.find(problemId).map(SolverJobInfo::isRunning).orElse(false)) {
+            return false;
+        }
+        log.info("Aplicando {} a la generación de {}/{}", problemFactChange, problemId.getMonth(),
+                problemId.getYear());
+        // Con el portfolio cada solver trabaja sobre su copia y el cambio llega a todas
+        boolean added = true;
+        for (Solver<SolverSchedule> solver : solvers) {
+            added &= solver.addProblemFactChange(problemFactChange);
+        }
+        return added;
+    }
+
+    /**
+     * Detiene las generaciones que sigan en curso al parar la aplicación
+     */
+    @PreDestroy
+    public void close() {
+        solverRuns.forEach(this::release);
+    }
 
-            // 3. Actualizamos el estado en la entidad gestionada
-            workingSchedule.setStatus(ScheduleStatus.PENDING_CONFIRMATION);
-
-            // 4. Guardamos la entidad gestionada
-            scheduleRepository.saveAndFlush(workingSchedule);
-
-            log.info("Planificación {}/{} generada y persistida. Estado final: {}", month, year, workingSchedule.getStatus());
-        
-        } catch(InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Solver interrumpido para {}/{}", month, year, e);
-            workingSchedule.setStatus(ScheduleStatus.GENERATION_ERROR);
-            scheduleRepository.saveAndFlush(workingSchedule);
-        
-        } catch(ExecutionException e) {
-            log.error("Error durante la resolución del solver para {}/{}", month, year, e);
-            workingSchedule.setStatus(ScheduleStatus.GENERATION_ERROR);
-            scheduleRepository.save(workingSchedule);
+    /**
+     * Resuelve el problema con cada factoría en un SolverManager propio, que se
+     * cierra cuando han terminado todos. Con varias factorías (el portfolio)
+     * cada una trabaja sobre su propia copia y se guarda la mejor solución
+     *
+     * @param save guarda la mejor solución; lo que devuelve llega a onGenerated
+     */
+    private <T> void submit(CalendarPK problemId, SolverSchedule problem,
+            Map<String, SolverFactory<SolverSchedule>> solverFactories, Function<SolverSchedule, T> save,
+            Consumer<T> onGenerated, Consumer<Throwable> onFailed) {
+        SolverRun run = new SolverRun(solverFactories);
+        solverRuns.put(problemId, run);
+        SolverScheduleCloner cloner = new SolverScheduleCloner();
+        for (SolverRun.Member member : run.members) {
+            SolverSchedule memberProblem = run.members.size() == 1 ? problem : cloner.cloneSolution(problem);
+            member.liveSolverFactory.startSolving();
+            member.solverManager.solveAndListen(problemId,
+                    id -> memberProblem,
+                    bestSolution -> onBestSolution(problemId, run, bestSolution),
+                    finalBestSolution -> {
+                        if (!run.finish(member.name, finalBestSolution)) {
+                            return;
+                        }
+                        try {
+                            onSolved(problemId, run, save, onGenerated, onFailed);
+                        } finally {
+                            release(problemId, run);
+                        }
+                    },
+                    (id, error) -> {
+                        boolean last = run.finish(member.name, null);
+                        try {
+                            onError(problemId, error, onFailed);
+                        } finally {
+                            if (last) {
+                                release(problemId, run);
+                            }
+                        }
+                    });
         }
     }
 
+    private static Map<String, SolverFactory<SolverSchedule>> single(SolverFactory<SolverSchedule> solverFactory) {
+        return Collections.singletonMap(SolverFactoryProvider.DEFAULT_SOLVER, solverFactory);
+    }
+
     /**
-     * Construye las colecciones que OptaPlanner necesita dentro del Schedule:
-     *  - doctorList (rango doctorRange)
-     *  - shiftList (hechos del problema)
-     *  - dayConfigurationList (hechos del problema)
-     *  - shiftAssignments (entidades planificables)
+     * Libera los hilos de los SolverManager de una generación. Sólo se quita
+     * del mapa si sigue siendo la de ese mes: puede haberse lanzado ya otra
+     * generación del mismo mes
      */
-    private void populateFactsAndEntities(Schedule schedule) {
-        final Integer month = schedule.getMonth();
-        final Integer year  = schedule.getYear();
-
-        // 2.1 Doctores (rango de valores @ValueRangeProvider("doctorRange"))
-        // Filtra doctores eliminados/inactivos
-        List<Doctor> allDoctors = doctorRepository.findAll();
-        List<Doctor> doctorRange = allDoctors.stream()
-                .filter(this::isAssignableDoctor)
-                .collect(Collectors.toList());
-        schedule.setDoctorList(doctorRange);
-
-        // 2.2 DayConfiguration (hechos)
-        List<DayConfiguration> dayConfigs = dayConfigurationRepository
-                .findByCalendarMonthAndCalendarYear(month, year);
-
-        schedule.setDayConfigurationList(dayConfigs);
-
-        // 2.3 Shifts (hechos)
-        List<Shift> shifts = shiftRepository.findByDayConfigurationCalendarMonthAndDayConfigurationCalendarYear(month, year);
-        schedule.setShiftList(shifts);
-
-        // 2.4 ShiftAssignments (entidades planificables)
-        // Crea un ShiftAssignment por cada Shift si no existe ya.
-        List<ShiftAssignment> existing = Optional.ofNullable(schedule.getShiftAssignments()).orElseGet(ArrayList::new);
-
-        	Map<Long, ShiftAssignment> currentByShiftId = existing.stream()
-        	    .filter(sa -> sa.getShift() != null)
-        	    .collect(Collectors.toMap(
-        	        (ShiftAssignment sa) -> sa.getShift().getId(),
-        	        (ShiftAssignment sa) -> sa,
-        	        (a, b) -> a,
-        	        LinkedHashMap::new
-        	    ));
-
-        List<ShiftAssignment> assignments = new ArrayList<>(shifts.size());
-        for (Shift shift : shifts) {
-            ShiftAssignment saExisting = currentByShiftId.get(shift.getId());
-            if (saExisting != null) {
-                saExisting.setSchedule(schedule);
-                assignments.add(saExisting);
-            } else {
-                ShiftAssignment sa = new ShiftAssignment(shift);
-                sa.setSchedule(schedule);
-                sa.setPinned(false);
-                assignments.add(sa);
+    private void release(CalendarPK problemId, SolverRun run) {
+        solverRuns.remove(problemId, run);
+        run.close();
+    }
+
+    private void onBestSolution(CalendarPK problemId, SolverRun run, SolverSchedule bestSolution) {
+        // Con el portfolio sólo cuenta si mejora la de las demás configuraciones
+        boolean running = run.improves(bestSolution.getScore())
+                ? jobRegistry.updateBestScore(problemId, bestSolution.getScore())
+                : jobRegistry.find(problemId).map(SolverJobInfo::isRunning).orElse(false);
+        if (!running) {
+            // terminateEarly() se pierde si llega justo antes de que el solver
+            // arranque; la excepción detiene el solver igualmente
+            throw new CancellationException("La generación de " + problemId.getMonth() + "/"
+                    + problemId.getYear() + " se ha cancelado");
+        }
+    }
+
+    private <T> void onSolved(CalendarPK problemId, SolverRun run, Function<SolverSchedule, T> save,
+            Consumer<T> onGenerated, Consumer<Throwable> onFailed) {
+        if (!jobRegistry.find(problemId).map(SolverJobInfo::isRunning).orElse(false)) {
+            log.info("La generación de {}/{} se canceló o falló, se descarta su solución", problemId.getMonth(),
+                    problemId.getYear());
+            return;
+        }
+        SolverSchedule finalBestSolution = run.bestSolution;
+        jobRegistry.updateBestScore(problemId, finalBestSolution.getScore());
+        if (run.members.size() > 1) {
+            log.info("Portfolio de {}/{}: gana {} con {}. Puntuaciones: {}", problemId.getMonth(),
+                    problemId.getYear(), run.winner, finalBestSolution.getScore(), run.scores);
+            solverPortfolio.getObject().recordWin(run.winner);
+        }
+        try {
+            T saved = save.apply(finalBestSolution);
+            if (jobRegistry.finish(problemId, JobStatus.COMPLETED)) {
+                log.info("Planificación {}/{} generada y persistida. Score: {}", problemId.getMonth(),
+                        problemId.getYear(), finalBestSolution.getScore());
+                onGenerated.accept(saved);
             }
+        } catch (RuntimeException e) {
+            onError(problemId, e, onFailed);
         }
-        schedule.setShiftAssignments(assignments);
     }
 
+    private void onError(CalendarPK problemId, Throwable error, Consumer<Throwable> onFailed) {
+        if (!jobRegistry.finish(problemId, JobStatus.FAILED)) {
+            return;
+        }
+        log.error("Error durante la generación de {}/{}", problemId.getMonth(), problemId.getYear(), error);
+        try {
+            updateStatus(problemId, ScheduleStatus.GENERATION_ERROR);
+        } finally {
+            onFailed.accept(error);
+        }
+    }
 
-    private boolean isAssignableDoctor(Doctor d) {
-        // return d.getStatus() != DoctorStatus.DELETED;
-        return true;
+    /**
+     * Marca los meses que generaba un trabajo que no ha terminado. Una
+     * reparación no toca la planificación confirmada hasta guardar la
+     * solución, así que en ese caso no hay estado que corregir
+     */
+    private void updateStatus(CalendarPK problemId, ScheduleStatus status) {
+        jobRegistry.find(problemId)
+                .filter(job -> job.getType() != JobType.REPAIR)
+                .ifPresent(job -> job.getMonths().forEach(month -> planner.updateStatus(month, status)));
+    }
+
+    /**
+     * SolverManagers de una generación, uno por configuración, y la mejor
+     * solución que han encontrado entre todos
+     */
+    private static class SolverRun {
+
+        private final List<Member> members = new ArrayList<>();
+        private final Map<String, HardSoftScore> scores = new LinkedHashMap<>();
+        private int pending;
+        private HardSoftScore bestScore;
+        private String winner;
+        private SolverSchedule bestSolution;
+
+        SolverRun(Map<String, SolverFactory<SolverSchedule>> solverFactories) {
+            solverFactories.forEach((name, solverFactory) -> members.add(new Member(name, solverFactory)));
+            pending = members.size();
+        }
+
+        /**
+         * @return true si la puntuación mejora la de todas las configuraciones
+         */
+        synchronized boolean improves(HardSoftScore score) {
+            if (bestScore != null && score.compareTo(bestScore) <= 0) {
+                return false;
+            }
+            bestScore = score;
+            return true;
+        }
+
+        /**
+         * Anota cómo ha terminado una configuración; sin solución si ha
+         * fallado. En caso de empate gana la primera, la configuración por
+         * defecto
+         *
+         * @return true si era la última en terminar y hay alguna solución
+         */
+        synchronized boolean finish(String name, SolverSchedule finalBestSolution) {
+            pending--;
+            if (finalBestSolution != null) {
+                scores.put(name, finalBestSolution.getScore());
+                if (bestSolution == null || finalBestSolution.getScore().compareTo(bestSolution.getScore()) > 0) {
+                    winner = name;
+                    bestSolution = finalBestSolution;
+                }
+            }
+            return pending == 0 && bestSolution != null;
+        }
+
+        /**
+         * @return vacía si alguno de los solvers todavía no se ha construido
+         */
+        List<Solver<SolverSchedule>> getSolvers() {
+            List<Solver<SolverSchedule>> solvers = new ArrayList<>(members.size());
+            for (Member member : members) {
+                Solver<SolverSchedule> solver = member.liveSolverFactory.getLastSolver();
+                if (solver == null) {
+                    return Collections.emptyList();
+                }
+                solvers.add(solver);
+            }
+            return solvers;
+        }
+
+        void terminateEarly(CalendarPK problemId) {
+            members.forEach(member -> member.solverManager.terminateEarly(problemId));
+        }
+
+        void close() {
+            members.forEach(member -> member.solverManager.close());
+        }
+
+        private static class Member {
+            private final String name;
+            private final LiveSolverFactory liveSolverFactory;
+            private final SolverManager<SolverSchedule, CalendarPK> solverManager;
+
+            Member(String name, SolverFactory<SolverSchedule> solverFactory) {
+                this.name = name;
+                this.liveSolverFactory = new LiveSolverFactory(solverFactory);
+                this.solverManager = SolverManager.create(liveSolverFactory,
+                        new SolverManagerConfig().withParallelSolverCount("1"));
+            }
+        }
     }
-}
\ No newline at end of file
+}
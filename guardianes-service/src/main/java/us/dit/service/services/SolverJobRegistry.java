@@ -0,0 +1,125 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.services;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.optaplanner.core.api.score.Score;
+import org.springframework.stereotype.Component;
+
+import us.dit.service.model.SolverJobInfo;
+import us.dit.service.model.SolverJobInfo.JobStatus;
+import us.dit.service.model.SolverJobInfo.JobType;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+
+/**
+ * Registro de las generaciones de planificación, una por {@link CalendarPK}
+ * <p>
+ * Los trabajos terminados se conservan para poder consultar cómo acabaron,
+ * hasta que se lanza una nueva generación del mismo mes.
+ *
+ * @author josperart3
+ */
+@Component
+public class SolverJobRegistry {
+
+    private final ConcurrentMap<CalendarPK, SolverJobInfo> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Registra una nueva generación para el mes indicado
+     *
+     * @throws IllegalStateException si ya hay una generación en curso para ese mes
+     */
+    public SolverJobInfo register(CalendarPK problemId) {
+        return register(problemId, JobType.GENERATION);
+    }
+
+    /**
+     * Registra una generación o una reparación. Nunca hay dos trabajos en
+     * curso sobre el mismo mes
+     *
+     * @throws IllegalStateException si ya hay un trabajo en curso para ese mes
+     */
+    public SolverJobInfo register(CalendarPK problemId, JobType type) {
+        return jobs.compute(problemId, (pk, current) -> {
+            if (current != null && current.isRunning()) {
+                throw new IllegalStateException("Ya hay una generación en curso para " + pk.getMonth() + "/"
+                        + pk.getYear());
+            }
+            return new SolverJobInfo(pk, type);
+        });
+    }
+
+    public Optional<SolverJobInfo> find(CalendarPK problemId) {
+        return Optional.ofNullable(jobs.get(problemId));
+    }
+
+    /**
+     * Trabajo del mes o, si no tiene uno propio, el horizonte que lo genera
+     */
+    public Optional<SolverJobInfo> findByMonth(CalendarPK month) {
+        SolverJobInfo job = jobs.get(month);
+        if (job != null) {
+            return Optional.of(job);
+        }
+        return jobs.values().stream().filter(horizon -> horizon.getMonths().contains(month)).findFirst();
+    }
+
+    public Collection<SolverJobInfo> findAll() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * @return false si el trabajo ya no está en curso, por ejemplo porque se ha
+     *         cancelado
+     */
+    public boolean updateBestScore(CalendarPK problemId, Score<?> bestScore) {
+        SolverJobInfo job = jobs.get(problemId);
+        if (job == null || !job.isRunning()) {
+            return false;
+        }
+        job.setBestScore(bestScore);
+        return true;
+    }
+
+    /**
+     * Cierra el trabajo con el estado indicado. Sólo el primero que lo cierra
+     * gana, así una cancelación y el final del solver no se pisan
+     *
+     * @return true si el trabajo seguía en curso y se ha cerrado ahora
+     */
+    public boolean finish(CalendarPK problemId, JobStatus status) {
+        SolverJobInfo job = jobs.get(problemId);
+        if (job == null) {
+            return false;
+        }
+        synchronized (job) {
+            if (!job.isRunning()) {
+                return false;
+            }
+            job.setStatus(status);
+            job.setEndTime(Instant.now());
+            return true;
+        }
+    }
+}
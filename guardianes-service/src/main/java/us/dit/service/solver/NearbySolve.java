@@ -0,0 +1,90 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.util.Arrays;
+
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.heuristic.selector.common.nearby.NearbySelectionConfig;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+
+import us.dit.service.solver.domain.SolverShiftAssignment;
+import us.dit.service.solver.move.DateShiftTypeDistanceMeter;
+
+/**
+ * Búsqueda local con intercambios entre asignaciones cercanas
+ * <p>
+ * El intercambio genérico elige la pareja al azar, y cambiar la GUARDIA del
+ * día 1 con la TARDE del día 28 casi nunca mejora nada. Aquí la segunda
+ * asignación se elige con la selección cercana de OptaPlanner según
+ * {@link DateShiftTypeDistanceMeter}, con una distribución parabólica: casi
+ * siempre entre las {@code distributionSizeMaximum} más cercanas y sobre todo
+ * entre las primeras. Los cambios de médico no tienen una segunda fecha de la
+ * que estar cerca, así que siguen siendo los genéricos.
+ * <p>
+ * A diferencia de {@link us.dit.service.solver.move.DayWindowSwapMoveIteratorFactory},
+ * que usa {@link SolverHorizon}, OptaPlanner ordena para cada asignación todas
+ * las demás por distancia, así que la memoria crece con el cuadrado del número
+ * de asignaciones. Para un mes no importa; para horizontes largos es mejor la
+ * ventana de días.
+ *
+ * @author josperart3
+ */
+public final class NearbySolve {
+
+    /** En un mes de 60 médicos, 40 asignaciones son unos cinco días de turnos */
+    public static final int DEFAULT_DISTRIBUTION_SIZE_MAXIMUM = 40;
+
+    private NearbySolve() {
+    }
+
+    /**
+     * Copia de la configuración base con construcción y búsqueda local de
+     * cambios e intercambios cercanos
+     */
+    public static SolverConfig nearbyConfig(SolverConfig baseConfig) {
+        return nearbyConfig(baseConfig, DEFAULT_DISTRIBUTION_SIZE_MAXIMUM);
+    }
+
+    public static SolverConfig nearbyConfig(SolverConfig baseConfig, int distributionSizeMaximum) {
+        EntitySelectorConfig origin = new EntitySelectorConfig(SolverShiftAssignment.class);
+        origin.setId("nearbyOrigin");
+        EntitySelectorConfig mimicOrigin = new EntitySelectorConfig();
+        mimicOrigin.setMimicSelectorRef("nearbyOrigin");
+
+        NearbySelectionConfig nearby = new NearbySelectionConfig();
+        nearby.setOriginEntitySelectorConfig(mimicOrigin);
+        nearby.setNearbyDistanceMeterClass(DateShiftTypeDistanceMeter.class);
+        nearby.setParabolicDistributionSizeMaximum(distributionSizeMaximum);
+        EntitySelectorConfig partner = new EntitySelectorConfig(SolverShiftAssignment.class);
+        partner.setNearbySelectionConfig(nearby);
+
+        SwapMoveSelectorConfig nearbySwap = new SwapMoveSelectorConfig();
+        nearbySwap.setEntitySelectorConfig(origin);
+        nearbySwap.setSecondaryEntitySelectorConfig(partner);
+
+        LocalSearchPhaseConfig localSearch = new LocalSearchPhaseConfig().withMoveSelectorConfig(
+                new UnionMoveSelectorConfig(Arrays.asList(new ChangeMoveSelectorConfig(), nearbySwap)));
+        return new SolverConfig(baseConfig).withPhases(new ConstructionHeuristicPhaseConfig(), localSearch);
+    }
+}
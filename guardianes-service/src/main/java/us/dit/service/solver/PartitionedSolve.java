@@ -0,0 +1,81 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.phase.PhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.solver.partition.WeekPartitioner;
+
+/**
+ * Resolución por semanas en paralelo seguida de una búsqueda local global
+ * <p>
+ * Con muchos médicos un solo hilo de búsqueda local sobre todo el mes se queda
+ * corto. Aquí {@link WeekPartitioner} reparte las semanas ISO en partes que se
+ * resuelven a la vez, cada una en su hilo, con construcción y búsqueda local
+ * hasta que llevan {@code partUnimprovedSeconds} sin mejorar. Después una
+ * búsqueda local sobre toda la solución arregla lo que las partes no podían
+ * ver entre sí, sobre todo el descanso entre GUARDIA en los cambios de semana,
+ * y corre hasta la terminación del solver.
+ * <p>
+ * Los hilos de las partes se limitan con runnablePartThreadLimit AUTO: todos
+ * los núcleos menos dos, y al menos uno. Las partes terminan en un orden que
+ * depende de la máquina, así que el resultado no se repite aunque el modo de
+ * entorno sea REPRODUCIBLE.
+ *
+ * @author josperart3
+ */
+public final class PartitionedSolve {
+
+    /** Segundos sin mejorar tras los que termina cada parte */
+    public static final long DEFAULT_PART_UNIMPROVED_SECONDS = 10L;
+
+    private PartitionedSolve() {
+    }
+
+    /**
+     * Copia de la configuración base con las fases por semanas, en partCount partes
+     */
+    public static SolverConfig partitionedConfig(SolverConfig baseConfig, int partCount) {
+        return partitionedConfig(baseConfig, partCount, DEFAULT_PART_UNIMPROVED_SECONDS);
+    }
+
+    public static SolverConfig partitionedConfig(SolverConfig baseConfig, int partCount,
+            long partUnimprovedSeconds) {
+        LocalSearchPhaseConfig partLocalSearch = new LocalSearchPhaseConfig();
+        partLocalSearch.setTerminationConfig(new TerminationConfig()
+                .withUnimprovedSecondsSpentLimit(partUnimprovedSeconds));
+
+        PartitionedSearchPhaseConfig partitionedSearch = new PartitionedSearchPhaseConfig();
+        partitionedSearch.setSolutionPartitionerClass(WeekPartitioner.class);
+        partitionedSearch.setSolutionPartitionerCustomProperties(
+                Collections.singletonMap("partCount", Integer.toString(partCount)));
+        partitionedSearch.setRunnablePartThreadLimit(PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_AUTO);
+        partitionedSearch.setPhaseConfigList(
+                Arrays.<PhaseConfig>asList(new ConstructionHeuristicPhaseConfig(), partLocalSearch));
+
+        return new SolverConfig(baseConfig).withPhases(partitionedSearch, new LocalSearchPhaseConfig());
+    }
+}
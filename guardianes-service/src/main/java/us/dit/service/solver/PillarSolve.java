@@ -0,0 +1,168 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.entity.pillar.PillarSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.factory.MoveIteratorFactoryConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.AbstractPillarMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.PillarChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.PillarSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SubPillarType;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+import us.dit.service.solver.move.DoctorWeekSwapMoveIteratorFactory;
+
+/**
+ * Búsqueda local que además mueve grupos de turnos de un médico
+ * <p>
+ * La equidad y el descanso dependen de todas las GUARDIA de cada médico, y
+ * con cambios e intercambios de un solo turno la búsqueda se queda a menudo a
+ * un paso de un reparto mucho más justo. Aquí, cuando la búsqueda local
+ * genérica lleva {@code singleMovesUnimprovedSeconds} sin mejorar, sigue otra
+ * que añade:
+ * <ul>
+ * <li>cambios e intercambios de pilares: los turnos de un mismo tipo que tiene
+ * un médico, o una racha seguida de ellos en orden de fecha, pasan a otro
+ * médico o se cambian por los de otro. Hay un selector por tipo de turno, así
+ * que un pilar nunca mezcla GUARDIA con TARDE o CONSULTA.</li>
+ * <li>intercambios de la semana entera entre dos médicos
+ * ({@link us.dit.service.solver.move.DoctorWeekSwapMove}).</li>
+ * </ul>
+ * Los movimientos de un turno se siguen eligiendo, y más a menudo que los de
+ * grupos (ver {@link #SINGLE_MOVE_WEIGHT}). Desde el principio los grupos
+ * retrasan la primera solución factible: son más caros y casi nunca mejoran
+ * una solución todavía mala.
+ *
+ * @author josperart3
+ */
+public final class PillarSolve {
+
+    /** Segundos sin mejorar tras los que se pasa a la búsqueda con grupos */
+    public static final long DEFAULT_SINGLE_MOVES_UNIMPROVED_SECONDS = 10L;
+
+    /** Turnos como mucho en una racha; una semana de GUARDIA cada tres días son tres */
+    public static final int DEFAULT_MAXIMUM_SUB_PILLAR_SIZE = 4;
+
+    /**
+     * Peso de los cambios e intercambios de un turno frente al de cada selector
+     * de grupos, que es 1. Con pesos iguales siete de cada nueve movimientos
+     * serían de grupos, más caros y casi siempre peores
+     */
+    public static final double SINGLE_MOVE_WEIGHT = 4.0;
+
+    private PillarSolve() {
+    }
+
+    /**
+     * Copia de la configuración base con construcción, búsqueda local genérica
+     * y búsqueda local con pilares e intercambios de semanas
+     */
+    public static SolverConfig pillarConfig(SolverConfig baseConfig) {
+        return pillarConfig(baseConfig, DEFAULT_SINGLE_MOVES_UNIMPROVED_SECONDS, DEFAULT_MAXIMUM_SUB_PILLAR_SIZE);
+    }
+
+    public static SolverConfig pillarConfig(SolverConfig baseConfig, long singleMovesUnimprovedSeconds,
+            int maximumSubPillarSize) {
+        List<MoveSelectorConfig> moveSelectors = new ArrayList<>();
+        moveSelectors.add(new ChangeMoveSelectorConfig().withFixedProbabilityWeight(SINGLE_MOVE_WEIGHT));
+        moveSelectors.add(new SwapMoveSelectorConfig().withFixedProbabilityWeight(SINGLE_MOVE_WEIGHT));
+        for (Class<? extends SelectionFilter> filterClass : Arrays.asList(StagedSolve.GuardiaFilter.class,
+                TardeFilter.class, ConsultaFilter.class)) {
+            moveSelectors.add(pillarMove(new PillarChangeMoveSelectorConfig(), filterClass, maximumSubPillarSize));
+            moveSelectors.add(pillarMove(new PillarSwapMoveSelectorConfig(), filterClass, maximumSubPillarSize));
+        }
+        MoveIteratorFactoryConfig weekSwap = new MoveIteratorFactoryConfig();
+        weekSwap.setMoveIteratorFactoryClass(DoctorWeekSwapMoveIteratorFactory.class);
+        moveSelectors.add(weekSwap);
+
+        LocalSearchPhaseConfig singleMoves = new LocalSearchPhaseConfig();
+        singleMoves.setTerminationConfig(new TerminationConfig()
+                .withUnimprovedSecondsSpentLimit(singleMovesUnimprovedSeconds));
+        LocalSearchPhaseConfig groupMoves = new LocalSearchPhaseConfig()
+                .withMoveSelectorConfig(new UnionMoveSelectorConfig(moveSelectors));
+        return new SolverConfig(baseConfig).withPhases(new ConstructionHeuristicPhaseConfig(), singleMoves,
+                groupMoves);
+    }
+
+    private static <C extends AbstractPillarMoveSelectorConfig<C>> C pillarMove(C pillarMove,
+            Class<? extends SelectionFilter> filterClass, int maximumSubPillarSize) {
+        EntitySelectorConfig entitySelector = new EntitySelectorConfig(SolverShiftAssignment.class);
+        entitySelector.setFilterClassList(Collections.singletonList(filterClass));
+        PillarSelectorConfig pillarSelector = new PillarSelectorConfig();
+        pillarSelector.setEntitySelectorConfig(entitySelector);
+        pillarSelector.setMaximumSubPillarSize(maximumSubPillarSize);
+        pillarMove.setPillarSelectorConfig(pillarSelector);
+        // Los subpilares son rachas de turnos seguidos en el calendario del médico
+        pillarMove.setSubPillarType(SubPillarType.SEQUENCE);
+        pillarMove.setSubPillarSequenceComparatorClass(DateComparator.class);
+        return pillarMove;
+    }
+
+    /**
+     * Sólo las tardes
+     */
+    public static class TardeFilter implements SelectionFilter<SolverSchedule, SolverShiftAssignment> {
+
+        @Override
+        public boolean accept(ScoreDirector<SolverSchedule> scoreDirector, SolverShiftAssignment selection) {
+            return selection.getShiftType() == ShiftType.TARDE;
+        }
+    }
+
+    /**
+     * Sólo las consultas
+     */
+    public static class ConsultaFilter implements SelectionFilter<SolverSchedule, SolverShiftAssignment> {
+
+        @Override
+        public boolean accept(ScoreDirector<SolverSchedule> scoreDirector, SolverShiftAssignment selection) {
+            return selection.getShiftType() == ShiftType.CONSULTA;
+        }
+    }
+
+    /**
+     * Orden de los turnos de un pilar: por día y, dentro del día, por id
+     */
+    public static class DateComparator implements Comparator<SolverShiftAssignment> {
+
+        @Override
+        public int compare(SolverShiftAssignment a, SolverShiftAssignment b) {
+            int byDay = Integer.compare(a.getEpochDay(), b.getEpochDay());
+            return byDay != 0 ? byDay : a.getId().compareTo(b.getId());
+        }
+    }
+}
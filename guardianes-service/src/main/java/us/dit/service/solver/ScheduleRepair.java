@@ -0,0 +1,87 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.time.LocalDate;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Reparación de una planificación ya publicada con el menor número de cambios
+ * <p>
+ * Los días afectados son los que tienen algún turno cuyo médico ya no puede
+ * hacerlo, normalmente por una ausencia comunicada después de confirmar. Esos
+ * turnos se quedan sin médico y sólo se desbloquean los turnos de los días
+ * afectados y de los {@link #NEIGHBORHOOD_DAYS} días de alrededor; el resto se
+ * fija con {@code @PlanningPin}. Cada asignación recuerda su médico publicado
+ * y la regla "Keep published plan" penaliza cada cambio, así que el solver
+ * sólo mueve lo imprescindible.
+ *
+ * @author josperart3
+ */
+public final class ScheduleRepair {
+
+    /**
+     * Días que se liberan antes y después de cada día afectado. Dos GUARDIA del
+     * mismo médico a menos de tres días ya se penalizan, así que dos días
+     * bastan para poder recolocar sin chocar con lo fijado
+     */
+    public static final int NEIGHBORHOOD_DAYS = 2;
+
+    private ScheduleRepair() {
+    }
+
+    /**
+     * Prepara la planificación publicada para repararla: guarda el médico
+     * publicado, quita los médicos que ya no pueden hacer su turno y fija todo
+     * lo que queda fuera de los días afectados
+     *
+     * @return los días afectados; si no hay ninguno no hay nada que reparar
+     */
+    public static SortedSet<LocalDate> prepare(SolverSchedule schedule) {
+        SortedSet<LocalDate> affectedDays = new TreeSet<>();
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            sa.setPublishedDoctor(sa.getDoctor());
+            if (sa.getDoctor() != null && !sa.getDoctor().isEligibleFor(sa.getShiftType(), sa.getDay())) {
+                affectedDays.add(sa.getDay().getDate());
+            }
+        }
+
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (sa.isPinned()) {
+                // Fijado a mano en la planificación: se respeta también al reparar
+                continue;
+            }
+            if (!isNear(sa.getDay().getDate(), affectedDays)) {
+                sa.setPinned(true);
+            } else if (sa.getDoctor() != null && !sa.getDoctor().isEligibleFor(sa.getShiftType(), sa.getDay())) {
+                sa.setDoctor(null);
+            }
+        }
+        return affectedDays;
+    }
+
+    private static boolean isNear(LocalDate date, SortedSet<LocalDate> affectedDays) {
+        SortedSet<LocalDate> near = affectedDays.subSet(date.minusDays(NEIGHBORHOOD_DAYS),
+                date.plusDays(NEIGHBORHOOD_DAYS + 1));
+        return !near.isEmpty();
+    }
+}
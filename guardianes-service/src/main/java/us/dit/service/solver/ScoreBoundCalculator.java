@@ -0,0 +1,120 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Cota superior de la puntuación que puede alcanzar un problema, calculada
+ * antes de resolverlo
+ * <p>
+ * Con 0hard todas las GUARDIA están asignadas, cada una a un médico que hace
+ * ciclos y como mucho una por médico y día. "Fairness in Guardias" penaliza la
+ * suma de los cuadrados de las GUARDIA de cada médico, que es mínima cuando se
+ * reparten lo más igualadas posible sin superar los días en que cada médico
+ * puede hacerlas. Las otras dos reglas soft pueden llegar a cero, así que la
+ * cota es 0hard menos la penalización mínima de equidad. Si el solver la
+ * alcanza, la solución es óptima y puede parar.
+ *
+ * @author josperart3
+ */
+public final class ScoreBoundCalculator {
+
+    /** No hay bastantes médicos para cubrir todas las GUARDIA */
+    public static final long NO_BOUND = -1L;
+
+    private ScoreBoundCalculator() {
+    }
+
+    /**
+     * @return la mejor puntuación posible, o null si el problema no puede
+     *         llegar a 0hard por falta de médicos para las GUARDIA
+     */
+    public static HardSoftScore bestScoreBound(SolverSchedule schedule) {
+        long minimumPenalty = minimumFairnessPenalty(schedule);
+        if (minimumPenalty == NO_BOUND) {
+            return null;
+        }
+        HardSoftScore weight = schedule.getConstraintConfiguration().getFairnessGuardias();
+        return weight.multiply(minimumPenalty).negate();
+    }
+
+    /**
+     * Mínimo de la suma de cuadrados de las GUARDIA por médico, sin pesos
+     *
+     * @return {@link #NO_BOUND} si no se pueden cubrir todas las GUARDIA
+     */
+    public static long minimumFairnessPenalty(SolverSchedule schedule) {
+        int guardias = 0;
+        Set<SolverDay> guardiaDays = new HashSet<>();
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (sa.getShiftType() == ShiftType.GUARDIA) {
+                guardias++;
+                guardiaDays.add(sa.getDay());
+            }
+        }
+        // Días del mes con GUARDIA en que cada médico podría hacer una
+        int[] capacities = new int[schedule.getDoctorList().size()];
+        int i = 0;
+        for (SolverDoctor doctor : schedule.getDoctorList()) {
+            for (SolverDay day : guardiaDays) {
+                if (doctor.isEligibleFor(ShiftType.GUARDIA, day)) {
+                    capacities[i]++;
+                }
+            }
+            i++;
+        }
+        return minimumSumOfSquares(guardias, capacities);
+    }
+
+    /**
+     * Reparte total unidades con capacities[i] como máximo para cada uno,
+     * minimizando la suma de cuadrados. Se llena por niveles: los de menor
+     * capacidad se llenan del todo y el resto se reparte a partes iguales
+     *
+     * @return {@link #NO_BOUND} si las capacidades no llegan al total
+     */
+    static long minimumSumOfSquares(int total, int[] capacities) {
+        int[] sorted = capacities.clone();
+        Arrays.sort(sorted);
+        long sum = 0;
+        int remaining = total;
+        for (int i = 0; i < sorted.length; i++) {
+            int left = sorted.length - i;
+            // Si ni con el reparto igualado se llena éste, tampoco los siguientes
+            if ((long) sorted[i] * left >= remaining) {
+                long q = remaining / left;
+                long r = remaining % left;
+                return sum + r * (q + 1) * (q + 1) + (left - r) * q * q;
+            }
+            sum += (long) sorted[i] * sorted[i];
+            remaining -= sorted[i];
+        }
+        return remaining == 0 ? sum : NO_BOUND;
+    }
+}
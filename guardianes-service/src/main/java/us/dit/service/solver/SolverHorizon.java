@@ -0,0 +1,210 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.factory.MoveIteratorFactoryConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverScheduleCloner;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+import us.dit.service.solver.move.DayWindowSwapMoveIteratorFactory;
+
+/**
+ * Horizonte de varios meses resuelto de una vez
+ * <p>
+ * Al resolver mes a mes las reglas de descanso no ven el final del mes
+ * anterior y la equidad de GUARDIA empieza de cero cada mes. Aquí se juntan
+ * varios meses en un único problema: los ya publicados entran fijados
+ * ({@link #pin(SolverSchedule)}) y sólo se mueven los demás. Los contratos se
+ * siguen exigiendo mes a mes (ver {@link SolverDay#getPeriod()}).
+ * <p>
+ * Cada médico aparece una vez, con su contrato más reciente, y sólo es
+ * elegible para los turnos de los meses en cuya plantilla está. Las
+ * asignaciones se renumeran para que los ids no se repitan entre meses; al
+ * separar la solución ({@link #split(SolverSchedule, List)}) cada mes recupera
+ * las suyas por posición.
+ * <p>
+ * La búsqueda local usa intercambios dentro de una ventana de una semana
+ * ({@link DayWindowSwapMoveIteratorFactory}), así que el coste de cada paso no
+ * crece con el número de meses.
+ *
+ * @author josperart3
+ */
+public final class SolverHorizon {
+
+    private SolverHorizon() {
+    }
+
+    /**
+     * Fija todas las asignaciones de una planificación ya publicada
+     */
+    public static void pin(SolverSchedule month) {
+        for (SolverShiftAssignment sa : month.getAssignmentList()) {
+            sa.setPinned(true);
+        }
+    }
+
+    /**
+     * Junta los meses, en orden cronológico, en un único problema. Los meses
+     * no se modifican
+     *
+     * @throws IllegalArgumentException si no hay meses o no están en orden
+     */
+    public static SolverSchedule combine(List<SolverSchedule> months) {
+        if (months.isEmpty()) {
+            throw new IllegalArgumentException("El horizonte necesita al menos un mes");
+        }
+        int previousPeriod = Integer.MIN_VALUE;
+        for (SolverSchedule month : months) {
+            int period = month.getYear() * 12 + month.getMonth() - 1;
+            if (period <= previousPeriod) {
+                throw new IllegalArgumentException("Los meses del horizonte deben estar en orden y sin repetirse: "
+                        + month.getMonth() + "/" + month.getYear());
+            }
+            previousPeriod = period;
+        }
+        SolverSchedule first = months.get(0);
+        SolverSchedule last = months.get(months.size() - 1);
+
+        // Cada médico con su versión más reciente
+        Map<Long, SolverDoctor> latestById = new LinkedHashMap<>();
+        for (SolverSchedule month : months) {
+            for (SolverDoctor doctor : month.getDoctorList()) {
+                latestById.put(doctor.getId(), doctor);
+            }
+        }
+        List<SolverDoctor> doctors = new ArrayList<>(latestById.size());
+        Map<Long, SolverDoctor> doctorsById = new HashMap<>();
+        for (SolverDoctor doctor : latestById.values()) {
+            SolverDoctor indexed = doctor.withIndex(doctors.size());
+            doctors.add(indexed);
+            doctorsById.put(indexed.getId(), indexed);
+        }
+
+        List<SolverDay> days = new ArrayList<>();
+        List<SolverShiftAssignment> assignments = new ArrayList<>();
+        List<String> capacityProblems = new ArrayList<>();
+        for (SolverSchedule month : months) {
+            Map<SolverDay, SolverDay> monthDays = new IdentityHashMap<>();
+            for (SolverDay day : month.getDayList()) {
+                SolverDay horizonDay = new SolverDay(days.size(), day.getDate(), day.isWorkingDay());
+                days.add(horizonDay);
+                monthDays.put(day, horizonDay);
+            }
+            List<SolverDoctor> staff = new ArrayList<>(month.getDoctorList().size());
+            for (SolverDoctor doctor : month.getDoctorList()) {
+                staff.add(doctorsById.get(doctor.getId()));
+            }
+            // Como en SolverScheduleMapper, los turnos del mismo día y tipo comparten la lista
+            Map<Integer, List<SolverDoctor>> eligibleByDayAndType = new HashMap<>();
+            for (SolverShiftAssignment sa : month.getAssignmentList()) {
+                SolverDay day = monthDays.get(sa.getDay());
+                SolverShiftAssignment horizonSa = new SolverShiftAssignment((long) assignments.size() + 1,
+                        sa.getShiftId(), sa.getShiftType(), day);
+                horizonSa.setPinned(sa.isPinned());
+                horizonSa.setDoctor(sa.getDoctor() != null ? doctorsById.get(sa.getDoctor().getId()) : null);
+                horizonSa.setPublishedDoctor(
+                        sa.getPublishedDoctor() != null ? doctorsById.get(sa.getPublishedDoctor().getId()) : null);
+                horizonSa.setEligibleDoctors(eligibleByDayAndType.computeIfAbsent(
+                        day.getIndex() * ShiftType.values().length + sa.getShiftType().ordinal(),
+                        key -> eligible(staff, sa.getShiftType(), day)));
+                assignments.add(horizonSa);
+            }
+            capacityProblems.addAll(month.getCapacityProblems());
+        }
+
+        SolverSchedule horizon = new SolverSchedule();
+        horizon.setMonth(first.getMonth());
+        horizon.setYear(first.getYear());
+        horizon.setConstraintConfiguration(last.getConstraintConfiguration());
+        horizon.setDoctorList(doctors);
+        horizon.setDayList(days);
+        horizon.setAssignmentList(assignments);
+        horizon.setCapacityProblems(capacityProblems);
+        return horizon;
+    }
+
+    /**
+     * Copia de cada mes con los médicos de la solución del horizonte, sin
+     * puntuación: la del horizonte incluye las reglas entre meses
+     *
+     * @param months los mismos meses, en el mismo orden, que se pasaron a
+     *        {@link #combine(List)}
+     */
+    public static List<SolverSchedule> split(SolverSchedule horizon, List<SolverSchedule> months) {
+        SolverScheduleCloner cloner = new SolverScheduleCloner();
+        Iterator<SolverShiftAssignment> solved = horizon.getAssignmentList().iterator();
+        List<SolverSchedule> solutions = new ArrayList<>(months.size());
+        for (SolverSchedule month : months) {
+            Map<Long, SolverDoctor> doctorsById = new HashMap<>();
+            for (SolverDoctor doctor : month.getDoctorList()) {
+                doctorsById.put(doctor.getId(), doctor);
+            }
+            SolverSchedule solution = cloner.cloneSolution(month);
+            for (SolverShiftAssignment sa : solution.getAssignmentList()) {
+                SolverShiftAssignment solvedSa = solved.hasNext() ? solved.next() : null;
+                if (solvedSa == null || !solvedSa.getShiftId().equals(sa.getShiftId())) {
+                    throw new IllegalStateException("La solución no corresponde a los meses del horizonte");
+                }
+                sa.setDoctor(solvedSa.getDoctor() != null ? doctorsById.get(solvedSa.getDoctor().getId()) : null);
+            }
+            solution.setScore(null);
+            solutions.add(solution);
+        }
+        return solutions;
+    }
+
+    /**
+     * Copia de la configuración base con una heurística de construcción y una
+     * búsqueda local de cambios e intercambios dentro de la misma semana
+     */
+    public static SolverConfig horizonConfig(SolverConfig baseConfig) {
+        MoveIteratorFactoryConfig dayWindowSwaps = new MoveIteratorFactoryConfig();
+        dayWindowSwaps.setMoveIteratorFactoryClass(DayWindowSwapMoveIteratorFactory.class);
+        LocalSearchPhaseConfig localSearch = new LocalSearchPhaseConfig().withMoveSelectorConfig(
+                new UnionMoveSelectorConfig(Arrays.asList(new ChangeMoveSelectorConfig(), dayWindowSwaps)));
+        return new SolverConfig(baseConfig).withPhases(new ConstructionHeuristicPhaseConfig(), localSearch);
+    }
+
+    private static List<SolverDoctor> eligible(List<SolverDoctor> staff, ShiftType shiftType, SolverDay day) {
+        List<SolverDoctor> eligible = new ArrayList<>();
+        for (SolverDoctor doctor : staff) {
+            if (doctor.isEligibleFor(shiftType, day)) {
+                eligible.add(doctor);
+            }
+        }
+        return eligible;
+    }
+}
@@ -0,0 +1,210 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.decider.acceptor.AcceptorConfig;
+import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverScheduleCloner;
+
+/**
+ * Portfolio de solvers: resuelve el mismo problema con varias configuraciones a
+ * la vez y se queda con la mejor solución
+ * <p>
+ * Cada configuración tiene su propio aceptador, semilla y selectores de
+ * movimientos. Todas arrancan juntas y comparten el límite de tiempo de
+ * guardianesSolverConfig.xml. Se lleva la cuenta de qué configuración gana
+ * cada vez, para saber cuál conviene dejar por defecto.
+ *
+ * @author josperart3
+ */
+@Slf4j
+public class SolverPortfolio {
+
+    public static final String LATE_ACCEPTANCE = "late-acceptance";
+    public static final String TABU_SEARCH = "tabu-search";
+    public static final String SIMULATED_ANNEALING = "simulated-annealing";
+    public static final String LATE_ACCEPTANCE_SWAP = "late-acceptance-swap";
+
+    private final Map<String, SolverFactory<SolverSchedule>> solverFactories;
+    private final ConcurrentMap<String, AtomicInteger> wins = new ConcurrentHashMap<>();
+
+    public SolverPortfolio(Map<String, SolverFactory<SolverSchedule>> solverFactories) {
+        if (solverFactories.isEmpty()) {
+            throw new IllegalArgumentException("El portfolio necesita al menos una configuración");
+        }
+        this.solverFactories = new LinkedHashMap<>(solverFactories);
+    }
+
+    /**
+     * Configuraciones por defecto a partir de la configuración base del
+     * servicio, a la que sólo se le cambian las fases y la semilla
+     */
+    public static Map<String, SolverConfig> defaultConfigs(SolverConfig baseConfig) {
+        Map<String, SolverConfig> configs = new LinkedHashMap<>();
+        configs.put(LATE_ACCEPTANCE, memberConfig(baseConfig, 1L,
+                new AcceptorConfig().withLateAcceptanceSize(400), 1,
+                changeAndSwapMoves(1.0, 1.0)));
+        configs.put(TABU_SEARCH, memberConfig(baseConfig, 2L,
+                new AcceptorConfig().withEntityTabuSize(7), 1000,
+                new ChangeMoveSelectorConfig()));
+        configs.put(SIMULATED_ANNEALING, memberConfig(baseConfig, 3L,
+                new AcceptorConfig().withSimulatedAnnealingStartingTemperature("100hard/1000soft"), 4,
+                changeAndSwapMoves(1.0, 1.0)));
+        // Los intercambios no cambian cuántos turnos tiene cada médico, sólo cuáles
+        configs.put(LATE_ACCEPTANCE_SWAP, memberConfig(baseConfig, 4L,
+                new AcceptorConfig().withLateAcceptanceSize(2000), 1,
+                changeAndSwapMoves(1.0, 3.0)));
+        return configs;
+    }
+
+    /**
+     * Resuelve con todas las configuraciones en paralelo. El problema no se
+     * modifica: cada solver trabaja sobre su propia copia
+     *
+     * @throws IllegalStateException si no termina ninguna configuración
+     */
+    public Result solve(SolverSchedule problem) {
+        SolverScheduleCloner cloner = new SolverScheduleCloner();
+        ExecutorService executor = Executors.newFixedThreadPool(solverFactories.size());
+        List<Solver<SolverSchedule>> solvers = new ArrayList<>();
+        Map<String, Future<SolverSchedule>> futures = new LinkedHashMap<>();
+        try {
+            solverFactories.forEach((name, solverFactory) -> {
+                Solver<SolverSchedule> solver = solverFactory.buildSolver();
+                SolverSchedule copy = cloner.cloneSolution(problem);
+                solvers.add(solver);
+                futures.put(name, executor.submit(() -> solver.solve(copy)));
+            });
+
+            String winner = null;
+            SolverSchedule bestSolution = null;
+            Map<String, HardSoftScore> scores = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<SolverSchedule>> entry : futures.entrySet()) {
+                SolverSchedule solution;
+                try {
+                    solution = entry.getValue().get();
+                } catch (ExecutionException e) {
+                    log.warn("La configuración {} del portfolio ha fallado", entry.getKey(), e.getCause());
+                    continue;
+                }
+                scores.put(entry.getKey(), solution.getScore());
+                // En caso de empate gana la primera, que es la configuración por defecto
+                if (bestSolution == null || solution.getScore().compareTo(bestSolution.getScore()) > 0) {
+                    winner = entry.getKey();
+                    bestSolution = solution;
+                }
+            }
+            if (bestSolution == null) {
+                throw new IllegalStateException("No ha terminado ninguna configuración del portfolio");
+            }
+
+            log.info("Portfolio: gana {} con {}. Puntuaciones: {}", winner, bestSolution.getScore(), scores);
+            recordWin(winner);
+            return new Result(winner, bestSolution, scores);
+        } catch (InterruptedException e) {
+            solvers.forEach(Solver::terminateEarly);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Resolución con el portfolio interrumpida", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Anota una victoria de la configuración indicada. Lo usa también
+     * SchedulerService, que resuelve las mismas configuraciones por su cuenta
+     */
+    public void recordWin(String winner) {
+        wins.computeIfAbsent(winner, name -> new AtomicInteger()).incrementAndGet();
+        log.info("Portfolio: victorias acumuladas {}", getWinCounts());
+    }
+
+    /**
+     * Veces que ha ganado cada configuración desde que arrancó la aplicación
+     */
+    public Map<String, Integer> getWinCounts() {
+        Map<String, Integer> winCounts = new LinkedHashMap<>();
+        for (String name : solverFactories.keySet()) {
+            AtomicInteger count = wins.get(name);
+            winCounts.put(name, count == null ? 0 : count.get());
+        }
+        return winCounts;
+    }
+
+    public List<String> getConfigurationNames() {
+        return Collections.unmodifiableList(new ArrayList<>(solverFactories.keySet()));
+    }
+
+    private static SolverConfig memberConfig(SolverConfig baseConfig, long randomSeed, AcceptorConfig acceptorConfig,
+            int acceptedCountLimit, MoveSelectorConfig<?> moveSelectorConfig) {
+        LocalSearchPhaseConfig localSearch = new LocalSearchPhaseConfig()
+                .withAcceptorConfig(acceptorConfig)
+                .withForagerConfig(new LocalSearchForagerConfig().withAcceptedCountLimit(acceptedCountLimit))
+                .withMoveSelectorConfig(moveSelectorConfig);
+        return new SolverConfig(baseConfig)
+                .withRandomSeed(randomSeed)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), localSearch);
+    }
+
+    private static MoveSelectorConfig<?> changeAndSwapMoves(double changeWeight, double swapWeight) {
+        return new UnionMoveSelectorConfig(Arrays.asList(
+                new ChangeMoveSelectorConfig().withFixedProbabilityWeight(changeWeight),
+                new SwapMoveSelectorConfig().withFixedProbabilityWeight(swapWeight)));
+    }
+
+    /**
+     * Mejor solución del portfolio, la configuración que la encontró y la
+     * puntuación final de cada configuración
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final String winner;
+        private final SolverSchedule bestSolution;
+        private final Map<String, HardSoftScore> scores;
+    }
+}
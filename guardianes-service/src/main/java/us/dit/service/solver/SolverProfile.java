@@ -0,0 +1,77 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.util.Collections;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.config.solver.termination.TerminationCompositionStyle;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import lombok.Getter;
+
+/**
+ * Perfiles de generación: cuánto se deja trabajar al solver
+ * <p>
+ * El solver para en cuanto se cumple una de estas condiciones:
+ * <ul>
+ * <li>alcanza la puntuación objetivo, que no se puede mejorar</li>
+ * <li>la solución es factible y no mejora durante unimprovedSecondsSpentLimit</li>
+ * <li>se agota secondsSpentLimit</li>
+ * </ul>
+ * Un mes típico es factible en pocos segundos y deja de mejorar poco después,
+ * así que la generación no espera al límite de tiempo.
+ *
+ * @author josperart3
+ */
+@Getter
+public enum SolverProfile {
+
+    /** Borrador para revisar enseguida */
+    QUICK_DRAFT(60, 10),
+    /** Generación normal, con el mismo límite que guardianesSolverConfig.xml */
+    STANDARD(200, 30),
+    /** Se lanza al final del día y se revisa a la mañana siguiente */
+    OVERNIGHT(8 * 60 * 60, 20 * 60),
+    /** Reparación de una planificación publicada: sólo se mueven unos pocos días */
+    REPAIR(30, 3);
+
+    private final long secondsSpentLimit;
+    private final long unimprovedSecondsSpentLimit;
+
+    SolverProfile(long secondsSpentLimit, long unimprovedSecondsSpentLimit) {
+        this.secondsSpentLimit = secondsSpentLimit;
+        this.unimprovedSecondsSpentLimit = unimprovedSecondsSpentLimit;
+    }
+
+    /**
+     * @param bestScoreTarget puntuación a partir de la cual no merece la pena
+     *        seguir buscando, o null si no se conoce
+     */
+    public TerminationConfig buildTerminationConfig(HardSoftScore bestScoreTarget) {
+        TerminationConfig feasiblePlateau = new TerminationConfig()
+                .withTerminationCompositionStyle(TerminationCompositionStyle.AND)
+                .withBestScoreFeasible(true)
+                .withUnimprovedSecondsSpentLimit(unimprovedSecondsSpentLimit);
+        return new TerminationConfig()
+                .withTerminationCompositionStyle(TerminationCompositionStyle.OR)
+                .withSecondsSpentLimit(secondsSpentLimit)
+                .withBestScoreLimit(bestScoreTarget != null ? bestScoreTarget.toString() : null)
+                .withTerminationConfigList(Collections.singletonList(feasiblePlateau));
+    }
+}
@@ -0,0 +1,191 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.dit.service.model.entities.Absence;
+import us.dit.service.model.entities.DayConfiguration;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.model.entities.Shift;
+import us.dit.service.model.entities.ShiftAssignment;
+import us.dit.service.model.entities.ShiftConfiguration;
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Traduce una {@link Schedule} persistida al modelo del solver
+ * <p>
+ * Debe llamarse dentro de la transacción que cargó la planificación, porque
+ * recorre una única vez sus médicos, días y asignaciones. El resultado ya no
+ * depende de la sesión de Hibernate.
+ *
+ * @author josperart3
+ */
+public final class SolverScheduleMapper {
+
+    private SolverScheduleMapper() {
+    }
+
+    public static SolverSchedule toSolverSchedule(Schedule schedule) {
+        SolverSchedule solverSchedule = new SolverSchedule();
+        solverSchedule.setMonth(schedule.getMonth());
+        solverSchedule.setYear(schedule.getYear());
+        GuardianesConstraintConfiguration constraintConfiguration = schedule.getConstraintConfiguration();
+        solverSchedule.setConstraintConfiguration(
+                constraintConfiguration != null ? constraintConfiguration : new GuardianesConstraintConfiguration(0L));
+
+        // Médicos, con el contrato y la ausencia ya resueltos
+        List<SolverDoctor> doctors = toSolverDoctors(schedule.getDoctorList());
+        Map<Long, SolverDoctor> doctorsById = new HashMap<>();
+        for (SolverDoctor solverDoctor : doctors) {
+            doctorsById.put(solverDoctor.getId(), solverDoctor);
+        }
+        solverSchedule.setDoctorList(doctors);
+
+        // Días ordenados por fecha; se localizan por su distancia al primero
+        YearMonth yearMonth = YearMonth.of(schedule.getYear(), schedule.getMonth());
+        List<SolverDay> days = toSolverDays(schedule.getDayConfigurationList(), yearMonth);
+        solverSchedule.setDayList(days);
+        SolverDay[] daysByOffset = new SolverDay[days.isEmpty() ? 0
+                : days.get(days.size() - 1).getEpochDay() - days.get(0).getEpochDay() + 1];
+        for (SolverDay day : days) {
+            daysByOffset[day.getEpochDay() - days.get(0).getEpochDay()] = day;
+        }
+
+        List<SolverShiftAssignment> assignments = new ArrayList<>(schedule.getShiftAssignments().size());
+        for (ShiftAssignment sa : schedule.getShiftAssignments()) {
+            Shift shift = sa.getShift();
+            int offset = days.isEmpty() ? -1
+                    : (int) dateOf(shift.getDayConfiguration(), yearMonth).toEpochDay() - days.get(0).getEpochDay();
+            if (offset < 0 || offset >= daysByOffset.length || daysByOffset[offset] == null) {
+                throw new IllegalStateException("El turno " + shift.getId() + " no pertenece a ningún día del mes");
+            }
+            SolverShiftAssignment solverSa = new SolverShiftAssignment(sa.getId(), shift.getId(),
+                    ShiftType.valueOf(shift.getShiftType()), daysByOffset[offset]);
+            solverSa.setPinned(sa.isPinned());
+            if (sa.getDoctor() != null) {
+                solverSa.setDoctor(doctorsById.get(sa.getDoctor().getId()));
+            }
+            assignments.add(solverSa);
+        }
+        solverSchedule.setAssignmentList(assignments);
+        assignEligibleDoctors(solverSchedule);
+        return solverSchedule;
+    }
+
+    /**
+     * Calcula los médicos elegibles de cada asignación, una sola vez por
+     * resolución. Los turnos del mismo tipo y día comparten la misma lista, así
+     * que como mucho hay tres listas por día
+     */
+    public static void assignEligibleDoctors(SolverSchedule schedule) {
+        ShiftType[] shiftTypes = ShiftType.values();
+        List<List<SolverDoctor>> eligibleByDayAndType = new ArrayList<>(
+                Collections.nCopies(schedule.getDayList().size() * shiftTypes.length, null));
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            SolverDay day = sa.getDay();
+            int key = day.getIndex() * shiftTypes.length + sa.getShiftType().ordinal();
+            List<SolverDoctor> eligible = eligibleByDayAndType.get(key);
+            if (eligible == null) {
+                eligible = new ArrayList<>();
+                for (SolverDoctor doctor : schedule.getDoctorList()) {
+                    if (doctor.isEligibleFor(sa.getShiftType(), day)) {
+                        eligible.add(doctor);
+                    }
+                }
+                eligibleByDayAndType.set(key, eligible);
+            }
+            sa.setEligibleDoctors(eligible);
+        }
+    }
+
+    /**
+     * Índice por id de los médicos de la planificación, para volcar la
+     * solución sobre las entidades sin búsquedas lineales
+     */
+    public static Map<Long, Doctor> doctorsById(Schedule schedule) {
+        Map<Long, Doctor> doctors = new HashMap<>();
+        for (Doctor doctor : schedule.getDoctorList()) {
+            doctors.put(doctor.getId(), doctor);
+        }
+        return doctors;
+    }
+
+    /**
+     * Médicos del solver en el mismo orden, con su posición como índice
+     */
+    public static List<SolverDoctor> toSolverDoctors(List<Doctor> doctors) {
+        List<SolverDoctor> solverDoctors = new ArrayList<>(doctors.size());
+        for (Doctor doctor : doctors) {
+            solverDoctors.add(toSolverDoctor(doctor, solverDoctors.size()));
+        }
+        return solverDoctors;
+    }
+
+    /**
+     * Días del solver ordenados por fecha
+     */
+    public static List<SolverDay> toSolverDays(Collection<DayConfiguration> dayConfigurations, YearMonth yearMonth) {
+        List<DayConfiguration> sorted = new ArrayList<>(dayConfigurations);
+        sorted.sort(Comparator.comparing(dc -> dateOf(dc, yearMonth)));
+        List<SolverDay> days = new ArrayList<>(sorted.size());
+        for (DayConfiguration dc : sorted) {
+            days.add(new SolverDay(days.size(), dateOf(dc, yearMonth), Boolean.TRUE.equals(dc.getIsWorkingDay())));
+        }
+        return days;
+    }
+
+    /**
+     * Fecha de un día del calendario. Los días antiguos sólo guardan el número
+     * de día, así que se completa con el mes
+     */
+    public static LocalDate dateOf(DayConfiguration dc, YearMonth yearMonth) {
+        LocalDate date = dc.getDate();
+        return date != null ? date : yearMonth.atDay(dc.getDay());
+    }
+
+    private static SolverDoctor toSolverDoctor(Doctor doctor, int index) {
+        ShiftConfiguration sc = doctor.getShiftConfiguration();
+        if (sc == null) {
+            throw new IllegalStateException("El médico " + doctor.getId() + " no tiene configuración de turnos");
+        }
+        Absence absence = doctor.getAbsence();
+        return new SolverDoctor(doctor.getId(), index,
+                intValue(sc.getMinShifts()), intValue(sc.getMaxShifts()), intValue(sc.getNumConsultations()),
+                Boolean.TRUE.equals(sc.getDoesCycleShifts()), Boolean.TRUE.equals(sc.getHasShiftsOnlyWhenCycleShifts()),
+                absence != null ? absence.getStartDate() : null, absence != null ? absence.getEndDate() : null);
+    }
+
+    private static int intValue(Integer value) {
+        return value != null ? value : 0;
+    }
+}
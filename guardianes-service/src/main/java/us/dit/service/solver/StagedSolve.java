@@ -0,0 +1,135 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Resolución por etapas: primero las guardias, luego tardes y consultas y al
+ * final un pulido de todo
+ * <p>
+ * Las guardias son las que deciden la equidad y el descanso, y las tardes y
+ * consultas se acomodan después a los huecos que dejan. Las dos primeras
+ * etapas sólo mueven los turnos de su tipo, así que en la segunda las guardias
+ * quedan fijas sin marcarlas como {@code pinned} y la búsqueda es mucho más
+ * pequeña. El pulido final mueve cualquier turno y corre hasta la terminación
+ * del solver, la del perfil de la generación.
+ * <p>
+ * Cada etapa termina cuando lleva {@code stageUnimprovedSeconds} sin mejorar.
+ * guardianesBenchmarkConfig.xml compara esta configuración con la de una sola
+ * fase.
+ *
+ * @author josperart3
+ */
+public final class StagedSolve {
+
+    /** Segundos sin mejorar tras los que se pasa a la siguiente etapa */
+    public static final long DEFAULT_STAGE_UNIMPROVED_SECONDS = 10L;
+
+    private StagedSolve() {
+    }
+
+    /**
+     * Copia de la configuración base con las fases por etapas
+     */
+    public static SolverConfig stagedConfig(SolverConfig baseConfig) {
+        return stagedConfig(baseConfig, DEFAULT_STAGE_UNIMPROVED_SECONDS);
+    }
+
+    public static SolverConfig stagedConfig(SolverConfig baseConfig, long stageUnimprovedSeconds) {
+        return new SolverConfig(baseConfig).withPhases(
+                constructionHeuristic("guardiaEntities", GuardiaFilter.class),
+                localSearch(GuardiaFilter.class, stageUnimprovedSeconds),
+                constructionHeuristic("tardeConsultaEntities", TardeConsultaFilter.class),
+                localSearch(TardeConsultaFilter.class, stageUnimprovedSeconds),
+                new LocalSearchPhaseConfig());
+    }
+
+    private static ConstructionHeuristicPhaseConfig constructionHeuristic(String entitySelectorId,
+            Class<? extends SelectionFilter> filterClass) {
+        EntitySelectorConfig entitySelector = entitySelector(filterClass);
+        entitySelector.setId(entitySelectorId);
+        // La cola de entidades se calcula al empezar la fase, ya con el filtro
+        entitySelector.setCacheType(SelectionCacheType.PHASE);
+        QueuedEntityPlacerConfig entityPlacer = new QueuedEntityPlacerConfig();
+        entityPlacer.setEntitySelectorConfig(entitySelector);
+        return new ConstructionHeuristicPhaseConfig().withEntityPlacerConfig(entityPlacer);
+    }
+
+    private static LocalSearchPhaseConfig localSearch(Class<? extends SelectionFilter> filterClass,
+            long stageUnimprovedSeconds) {
+        ChangeMoveSelectorConfig change = new ChangeMoveSelectorConfig();
+        change.setEntitySelectorConfig(entitySelector(filterClass));
+        // Los dos turnos del intercambio son del mismo grupo
+        SwapMoveSelectorConfig swap = new SwapMoveSelectorConfig();
+        swap.setEntitySelectorConfig(entitySelector(filterClass));
+        swap.setSecondaryEntitySelectorConfig(entitySelector(filterClass));
+
+        LocalSearchPhaseConfig localSearch = new LocalSearchPhaseConfig()
+                .withMoveSelectorConfig(new UnionMoveSelectorConfig(Arrays.asList(change, swap)));
+        localSearch.setTerminationConfig(new TerminationConfig()
+                .withUnimprovedSecondsSpentLimit(stageUnimprovedSeconds));
+        return localSearch;
+    }
+
+    private static EntitySelectorConfig entitySelector(Class<? extends SelectionFilter> filterClass) {
+        EntitySelectorConfig entitySelector = new EntitySelectorConfig(SolverShiftAssignment.class);
+        entitySelector.setFilterClassList(Collections.singletonList(filterClass));
+        return entitySelector;
+    }
+
+    /**
+     * Sólo las guardias. Se usa también desde guardianesBenchmarkConfig.xml
+     */
+    public static class GuardiaFilter implements SelectionFilter<SolverSchedule, SolverShiftAssignment> {
+
+        @Override
+        public boolean accept(ScoreDirector<SolverSchedule> scoreDirector, SolverShiftAssignment selection) {
+            return selection.getShiftType() == ShiftType.GUARDIA;
+        }
+    }
+
+    /**
+     * Sólo las tardes y las consultas
+     */
+    public static class TardeConsultaFilter implements SelectionFilter<SolverSchedule, SolverShiftAssignment> {
+
+        @Override
+        public boolean accept(ScoreDirector<SolverSchedule> scoreDirector, SolverShiftAssignment selection) {
+            return selection.getShiftType() != ShiftType.GUARDIA;
+        }
+    }
+}
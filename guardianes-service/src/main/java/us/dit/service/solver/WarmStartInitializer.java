@@ -0,0 +1,183 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Arranque en caliente a partir de una planificación confirmada
+ * <p>
+ * Cada turno sin médico recibe el que hizo un turno del mismo tipo en el día
+ * equivalente de la planificación anterior: el mismo día de la semana, con un
+ * desplazamiento de semanas completas que lleva el primer día del mes al
+ * primero de la anterior. Así se conserva la rotación semanal de GUARDIA,
+ * TARDE y CONSULTA.
+ * <p>
+ * Sólo se siembra un médico si sigue en la plantilla y no incumple con
+ * seguridad una restricción dura: está disponible ese día (las ausencias
+ * nuevas se respetan), no tiene ya un turno incompatible y no supera su
+ * máximo de TARDE ni su número de CONSULTA. Lo que no se puede sembrar queda
+ * sin asignar para la heurística de construcción, que sólo rellena los turnos
+ * vacíos.
+ *
+ * @author josperart3
+ */
+public final class WarmStartInitializer {
+
+    private static final int GUARDIA = 1 << ShiftType.GUARDIA.ordinal();
+    private static final int CONSULTA = 1 << ShiftType.CONSULTA.ordinal();
+
+    private WarmStartInitializer() {
+    }
+
+    /**
+     * @param previous planificación confirmada, normalmente la del mes anterior
+     * @return número de asignaciones sembradas
+     */
+    public static int seedFromPrevious(SolverSchedule problem, SolverSchedule previous) {
+        List<SolverDay> previousDays = previous.getDayList();
+        List<SolverDay> days = problem.getDayList();
+        if (previousDays.isEmpty() || days.isEmpty()) {
+            return 0;
+        }
+        LocalDate firstPrevious = previousDays.get(0).getDate();
+        LocalDate lastPrevious = previousDays.get(previousDays.size() - 1).getDate();
+        long weeks = rotationOffsetWeeks(days.get(0).getDate(), firstPrevious);
+
+        // Médicos de la planificación anterior por día y tipo, en el orden de sus turnos
+        Map<LocalDate, Map<ShiftType, LinkedList<Long>>> previousDoctors = new HashMap<>();
+        for (SolverShiftAssignment sa : previous.getAssignmentList()) {
+            if (sa.getDoctor() != null) {
+                previousDoctors.computeIfAbsent(sa.getDay().getDate(), date -> new EnumMap<>(ShiftType.class))
+                        .computeIfAbsent(sa.getShiftType(), type -> new LinkedList<>())
+                        .add(sa.getDoctor().getId());
+            }
+        }
+
+        List<SolverDoctor> doctors = problem.getDoctorList();
+        Map<Long, SolverDoctor> doctorsById = new HashMap<>();
+        for (SolverDoctor doctor : doctors) {
+            doctorsById.put(doctor.getId(), doctor);
+        }
+        // Tipos de turno de cada médico y día, y TARDE y CONSULTA que ya tiene
+        int[][] shiftsByDay = new int[doctors.size()][days.size()];
+        int[] tardes = new int[doctors.size()];
+        int[] consultas = new int[doctors.size()];
+        for (SolverShiftAssignment sa : problem.getAssignmentList()) {
+            if (sa.getDoctor() != null) {
+                register(sa.getDoctor(), sa, shiftsByDay, tardes, consultas);
+            }
+        }
+
+        // Primero las GUARDIA, de las que dependen las TARDE de quien sólo las hace con GUARDIA
+        List<SolverShiftAssignment> pending = new ArrayList<>();
+        for (SolverShiftAssignment sa : problem.getAssignmentList()) {
+            if (sa.getDoctor() == null && !sa.isPinned()) {
+                pending.add(sa);
+            }
+        }
+        pending.sort(Comparator.comparing(SolverShiftAssignment::getShiftType)
+                .thenComparing(sa -> sa.getDay().getIndex()));
+
+        int seeded = 0;
+        for (SolverShiftAssignment sa : pending) {
+            LocalDate source = sourceDate(sa.getDay().getDate(), weeks, firstPrevious, lastPrevious);
+            Map<ShiftType, LinkedList<Long>> byType = source != null ? previousDoctors.get(source) : null;
+            LinkedList<Long> candidates = byType != null ? byType.get(sa.getShiftType()) : null;
+            if (candidates == null) {
+                continue;
+            }
+            for (Iterator<Long> it = candidates.iterator(); it.hasNext();) {
+                SolverDoctor doctor = doctorsById.get(it.next());
+                if (doctor != null && fits(doctor, sa, shiftsByDay, tardes, consultas)) {
+                    it.remove();
+                    sa.setDoctor(doctor);
+                    register(doctor, sa, shiftsByDay, tardes, consultas);
+                    seeded++;
+                    break;
+                }
+            }
+        }
+        return seeded;
+    }
+
+    /**
+     * Semanas completas más cercanas a la distancia entre los dos primeros días
+     */
+    static long rotationOffsetWeeks(LocalDate first, LocalDate firstPrevious) {
+        return Math.round((first.toEpochDay() - firstPrevious.toEpochDay()) / 7.0);
+    }
+
+    /**
+     * Día de la planificación anterior con el mismo día de la semana. Los días
+     * que caen fuera se acercan de semana en semana
+     *
+     * @return null si no hay ningún día equivalente
+     */
+    static LocalDate sourceDate(LocalDate date, long weeks, LocalDate firstPrevious, LocalDate lastPrevious) {
+        LocalDate source = date.minusWeeks(weeks);
+        while (source.isAfter(lastPrevious)) {
+            source = source.minusWeeks(1);
+        }
+        while (source.isBefore(firstPrevious)) {
+            source = source.plusWeeks(1);
+        }
+        return source.isAfter(lastPrevious) ? null : source;
+    }
+
+    private static boolean fits(SolverDoctor doctor, SolverShiftAssignment sa, int[][] shiftsByDay, int[] tardes,
+            int[] consultas) {
+        if (!doctor.isEligibleFor(sa.getShiftType(), sa.getDay())) {
+            return false;
+        }
+        int sameDay = shiftsByDay[doctor.getIndex()][sa.getDay().getIndex()];
+        switch (sa.getShiftType()) {
+        case GUARDIA:
+            return (sameDay & (GUARDIA | CONSULTA)) == 0;
+        case TARDE:
+            return (sameDay & ~GUARDIA) == 0 && tardes[doctor.getIndex()] < doctor.getMaxShifts()
+                    && (!doctor.isHasShiftsOnlyWhenCycleShifts() || (sameDay & GUARDIA) != 0);
+        default:
+            return sameDay == 0 && consultas[doctor.getIndex()] < doctor.getNumConsultations();
+        }
+    }
+
+    private static void register(SolverDoctor doctor, SolverShiftAssignment sa, int[][] shiftsByDay, int[] tardes,
+            int[] consultas) {
+        shiftsByDay[doctor.getIndex()][sa.getDay().getIndex()] |= 1 << sa.getShiftType().ordinal();
+        if (sa.getShiftType() == ShiftType.TARDE) {
+            tardes[doctor.getIndex()]++;
+        } else if (sa.getShiftType() == ShiftType.CONSULTA) {
+            consultas[doctor.getIndex()]++;
+        }
+    }
+}
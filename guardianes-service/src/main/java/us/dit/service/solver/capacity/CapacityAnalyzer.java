@@ -0,0 +1,223 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.capacity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverDoctor;
+
+/**
+ * Análisis de capacidad de un mes antes de crear sus turnos
+ * <p>
+ * Decide cuántas TARDE y CONSULTA se crean cada día a partir de la demanda de
+ * los médicos y de cuántos pueden cubrirlas ese día, y comprueba con cotas de
+ * conteo y flujo máximo sobre médicos × días × tipos de turno que el mes puede
+ * cubrirse sin incumplir restricciones duras. Las comprobaciones son
+ * condiciones necesarias: si fallan, el solver no llegará a 0hard y no merece
+ * la pena esperarle para saberlo.
+ *
+ * @author josperart3
+ */
+public final class CapacityAnalyzer {
+
+    private CapacityAnalyzer() {
+    }
+
+    /**
+     * @param guardiasPerDay GUARDIA que se crean cada día
+     * @param baseTardesPerWorkingDay TARDE mínimas de cada día laborable,
+     *        aunque los médicos pidan menos
+     */
+    public static CapacityReport analyze(List<SolverDoctor> doctors, List<SolverDay> days, int guardiasPerDay,
+            int baseTardesPerWorkingDay) {
+        List<String> problems = new ArrayList<>();
+        List<SolverDay> workingDays = new ArrayList<>();
+        for (SolverDay day : days) {
+            if (day.isWorkingDay()) {
+                workingDays.add(day);
+            }
+        }
+
+        // GUARDIA: cada día necesita guardiasPerDay médicos distintos
+        for (SolverDay day : days) {
+            int eligible = countEligible(doctors, ShiftType.GUARDIA, day);
+            if (eligible < guardiasPerDay) {
+                problems.add("El " + day.getDate() + " sólo pueden hacer GUARDIA " + eligible
+                        + " médicos y hacen falta " + guardiasPerDay);
+            }
+        }
+
+        // Elegibilidad de cada médico para TARDE y CONSULTA en cada día laborable
+        boolean[][] tardeEdges = new boolean[doctors.size()][workingDays.size()];
+        boolean[][] consultaEdges = new boolean[doctors.size()][workingDays.size()];
+        int[] tardeEligible = new int[workingDays.size()];
+        int[] consultaEligible = new int[workingDays.size()];
+        int[] minShifts = new int[doctors.size()];
+        int[] maxShifts = new int[doctors.size()];
+        int[] consultations = new int[doctors.size()];
+        int totalMinShifts = 0;
+        int totalMaxShifts = 0;
+        int totalConsultations = 0;
+        for (int i = 0; i < doctors.size(); i++) {
+            SolverDoctor doctor = doctors.get(i);
+            int tardeDays = 0;
+            int availableDays = 0;
+            for (int w = 0; w < workingDays.size(); w++) {
+                tardeEdges[i][w] = doctor.isEligibleFor(ShiftType.TARDE, workingDays.get(w));
+                consultaEdges[i][w] = doctor.isEligibleFor(ShiftType.CONSULTA, workingDays.get(w));
+                if (tardeEdges[i][w]) {
+                    tardeEligible[w]++;
+                    tardeDays++;
+                }
+                if (consultaEdges[i][w]) {
+                    consultaEligible[w]++;
+                    availableDays++;
+                }
+            }
+            minShifts[i] = doctor.getMinShifts();
+            maxShifts[i] = doctor.getMaxShifts();
+            consultations[i] = doctor.getNumConsultations();
+            totalMinShifts += minShifts[i];
+            totalMaxShifts += maxShifts[i];
+            totalConsultations += consultations[i];
+
+            if (minShifts[i] > maxShifts[i]) {
+                problems.add(doctor + " tiene un mínimo de " + minShifts[i] + " TARDE mayor que su máximo de "
+                        + maxShifts[i]);
+            }
+            if (tardeDays < minShifts[i]) {
+                problems.add(doctor + " sólo puede hacer TARDE " + tardeDays + " días y su mínimo es " + minShifts[i]);
+            }
+            // El día de CONSULTA no puede tener otro turno, así que no sirve para las TARDE
+            if (availableDays < minShifts[i] + consultations[i]) {
+                problems.add(doctor + " está disponible " + availableDays + " días laborables y necesita "
+                        + minShifts[i] + " TARDE y " + consultations[i] + " CONSULTA");
+            }
+        }
+
+        // TARDE: la base de cada día laborable, y si los mínimos suman más, el
+        // resto en los días con más médicos libres
+        int[] tardeSlots = new int[workingDays.size()];
+        int totalTardes = Math.max(baseTardesPerWorkingDay * workingDays.size(), totalMinShifts);
+        if (workingDays.isEmpty()) {
+            totalTardes = 0;
+            if (totalMinShifts + totalConsultations > 0) {
+                problems.add("El mes no tiene días laborables para las TARDE y CONSULTA de los médicos");
+            }
+        } else {
+            for (int w = 0; w < workingDays.size(); w++) {
+                tardeSlots[w] = baseTardesPerWorkingDay;
+            }
+            for (int extra = totalTardes - baseTardesPerWorkingDay * workingDays.size(); extra > 0; extra--) {
+                tardeSlots[mostSpareDay(tardeEligible, tardeSlots, null)]++;
+            }
+        }
+        if (totalTardes > totalMaxShifts) {
+            problems.add("Hay " + totalTardes + " TARDE y entre todos los médicos sólo pueden hacer " + totalMaxShifts);
+        }
+
+        // CONSULTA: una a una en el día con más médicos que no tienen ya TARDE o CONSULTA
+        int[] consultaSlots = new int[workingDays.size()];
+        if (!workingDays.isEmpty()) {
+            for (int c = 0; c < totalConsultations; c++) {
+                consultaSlots[mostSpareDay(consultaEligible, consultaSlots, tardeSlots)]++;
+            }
+        }
+
+        // Cotas de flujo: las TARDE creadas caben en los máximos, los mínimos
+        // caben en las TARDE creadas y las CONSULTA de cada médico en sus días
+        int coverable = new BipartiteFlow(maxShifts, tardeSlots, tardeEdges).maxFlow();
+        if (coverable < totalTardes) {
+            problems.add("Sólo se pueden cubrir " + coverable + " de las " + totalTardes
+                    + " TARDE respetando los máximos y los días de cada médico");
+        }
+        int reachableMinimum = new BipartiteFlow(minShifts, tardeSlots, tardeEdges).maxFlow();
+        if (reachableMinimum < totalMinShifts) {
+            problems.add("Los médicos sólo pueden completar " + reachableMinimum + " de las " + totalMinShifts
+                    + " TARDE mínimas con las TARDE de cada día");
+        }
+        // Quien sólo hace TARDE con GUARDIA necesita una GUARDIA en un laborable por cada TARDE mínima
+        int[] conditionalMinShifts = new int[doctors.size()];
+        boolean[][] conditionalEdges = new boolean[doctors.size()][workingDays.size()];
+        int totalConditionalMinShifts = 0;
+        for (int i = 0; i < doctors.size(); i++) {
+            if (doctors.get(i).isHasShiftsOnlyWhenCycleShifts()) {
+                conditionalMinShifts[i] = minShifts[i];
+                totalConditionalMinShifts += minShifts[i];
+                for (int w = 0; w < workingDays.size(); w++) {
+                    conditionalEdges[i][w] = tardeEdges[i][w]
+                            && doctors.get(i).isEligibleFor(ShiftType.GUARDIA, workingDays.get(w));
+                }
+            }
+        }
+        int[] guardiaSlots = new int[workingDays.size()];
+        Arrays.fill(guardiaSlots, guardiasPerDay);
+        int reachableConditional = new BipartiteFlow(conditionalMinShifts, guardiaSlots, conditionalEdges).maxFlow();
+        if (reachableConditional < totalConditionalMinShifts) {
+            problems.add("Los médicos que sólo hacen TARDE con GUARDIA necesitan " + totalConditionalMinShifts
+                    + " GUARDIA en días laborables y sólo pueden tener " + reachableConditional);
+        }
+        int assignableConsultations = new BipartiteFlow(consultations, consultaSlots, consultaEdges).maxFlow();
+        if (assignableConsultations < totalConsultations) {
+            problems.add("Sólo se pueden asignar " + assignableConsultations + " de las " + totalConsultations
+                    + " CONSULTA en los días en que cada médico está disponible");
+        }
+
+        Map<LocalDate, Integer> tardesByDate = new LinkedHashMap<>();
+        Map<LocalDate, Integer> consultasByDate = new LinkedHashMap<>();
+        for (int w = 0; w < workingDays.size(); w++) {
+            tardesByDate.put(workingDays.get(w).getDate(), tardeSlots[w]);
+            consultasByDate.put(workingDays.get(w).getDate(), consultaSlots[w]);
+        }
+        return new CapacityReport(tardesByDate, consultasByDate, problems);
+    }
+
+    private static int countEligible(List<SolverDoctor> doctors, ShiftType shiftType, SolverDay day) {
+        int eligible = 0;
+        for (SolverDoctor doctor : doctors) {
+            if (doctor.isEligibleFor(shiftType, day)) {
+                eligible++;
+            }
+        }
+        return eligible;
+    }
+
+    /**
+     * Día con más médicos elegibles sin turno asignado; en caso de empate, el
+     * primero del mes
+     */
+    private static int mostSpareDay(int[] eligible, int[] slots, int[] otherSlots) {
+        int best = 0;
+        int bestSpare = Integer.MIN_VALUE;
+        for (int w = 0; w < eligible.length; w++) {
+            int spare = eligible[w] - slots[w] - (otherSlots != null ? otherSlots[w] : 0);
+            if (spare > bestSpare) {
+                best = w;
+                bestSpare = spare;
+            }
+        }
+        return best;
+    }
+}
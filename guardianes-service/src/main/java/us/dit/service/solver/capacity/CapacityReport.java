@@ -0,0 +1,73 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.capacity;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import lombok.ToString;
+
+/**
+ * Resultado de {@link CapacityAnalyzer}: cuántas TARDE y CONSULTA hay que
+ * crear cada día y los motivos por los que el mes no puede tener una solución
+ * sin incumplir restricciones duras
+ *
+ * @author josperart3
+ */
+@ToString
+public class CapacityReport {
+
+    private final Map<LocalDate, Integer> tardeSlots;
+    private final Map<LocalDate, Integer> consultaSlots;
+    private final List<String> problems;
+
+    CapacityReport(Map<LocalDate, Integer> tardeSlots, Map<LocalDate, Integer> consultaSlots, List<String> problems) {
+        this.tardeSlots = Collections.unmodifiableMap(tardeSlots);
+        this.consultaSlots = Collections.unmodifiableMap(consultaSlots);
+        this.problems = Collections.unmodifiableList(problems);
+    }
+
+    /**
+     * @return false si el mes no tiene ninguna solución con 0hard
+     */
+    public boolean isFeasible() {
+        return problems.isEmpty();
+    }
+
+    public List<String> getProblems() {
+        return problems;
+    }
+
+    public int getTardeSlots(LocalDate date) {
+        return tardeSlots.getOrDefault(date, 0);
+    }
+
+    public int getConsultaSlots(LocalDate date) {
+        return consultaSlots.getOrDefault(date, 0);
+    }
+
+    public int getTotalTardeSlots() {
+        return tardeSlots.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int getTotalConsultaSlots() {
+        return consultaSlots.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,69 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.change;
+
+import java.time.LocalDate;
+
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.ProblemFactChange;
+
+import lombok.Getter;
+import lombok.ToString;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Ausencia nueva o modificada de un médico mientras se resuelve. Sustituye a
+ * la que tuviera y los turnos que ya no puede hacer se quedan sin médico
+ * <p>
+ * Si el médico no forma parte del problema no hace nada.
+ *
+ * @author josperart3
+ */
+@Getter
+@ToString
+public class AbsenceChange implements ProblemFactChange<SolverSchedule> {
+
+    private final Long doctorId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * @param startDate primer día de la ausencia; null junto con endDate para quitarla
+     * @param endDate último día de la ausencia, incluido
+     */
+    public AbsenceChange(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("La ausencia termina (" + endDate + ") antes de empezar ("
+                    + startDate + ")");
+        }
+        this.doctorId = doctorId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public void doChange(ScoreDirector<SolverSchedule> scoreDirector) {
+        SolverDoctor doctor = SolverChanges.findDoctor(scoreDirector.getWorkingSolution(), doctorId);
+        if (doctor == null) {
+            return;
+        }
+        SolverChanges.replaceDoctor(scoreDirector, doctor, doctor.withAbsence(startDate, endDate));
+        SolverChanges.releaseIneligible(scoreDirector);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.change;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.ProblemFactChange;
+
+import lombok.Getter;
+import lombok.ToString;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverDoctorLoad;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Médico que se incorpora al mes mientras se resuelve. Queda disponible para
+ * todos los turnos que puede hacer y su contrato entra en las reglas
+ * <p>
+ * Si el médico ya forma parte del problema no hace nada.
+ *
+ * @author josperart3
+ */
+@Getter
+@ToString
+public class AddDoctorChange implements ProblemFactChange<SolverSchedule> {
+
+    /** Médico construido con {@link us.dit.service.solver.SolverScheduleMapper#toSolverDoctors} */
+    private final SolverDoctor doctor;
+
+    public AddDoctorChange(SolverDoctor doctor) {
+        this.doctor = doctor;
+    }
+
+    @Override
+    public void doChange(ScoreDirector<SolverSchedule> scoreDirector) {
+        SolverSchedule schedule = scoreDirector.getWorkingSolution();
+        if (SolverChanges.findDoctor(schedule, doctor.getId()) != null) {
+            return;
+        }
+        // El índice tiene que coincidir con su posición en la lista
+        SolverDoctor added = doctor.withIndex(schedule.getDoctorList().size());
+        List<SolverDoctor> doctors = new ArrayList<>(schedule.getDoctorList());
+        scoreDirector.beforeProblemFactAdded(added);
+        doctors.add(added);
+        schedule.setDoctorList(doctors);
+        scoreDirector.afterProblemFactAdded(added);
+        // setDoctorList ya le ha dado una carga; hay que meterla en la sesión del score director
+        SolverDoctorLoad load = schedule.getDoctorLoadList().get(added.getIndex());
+        scoreDirector.beforeEntityAdded(load);
+        scoreDirector.afterEntityAdded(load);
+        SolverChanges.releaseIneligible(scoreDirector);
+    }
+}
@@ -0,0 +1,123 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.change;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.solver.SolverScheduleMapper;
+import us.dit.service.solver.domain.DoctorLoadVariableListener;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverDoctorLoad;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Operaciones comunes a los cambios de hechos
+ * <p>
+ * Médicos, días y listas de hechos se comparten entre la solución de trabajo y
+ * sus clones, así que nunca se modifican: se sustituyen por copias. Cada
+ * modificación se notifica al {@link ScoreDirector}.
+ *
+ * @author josperart3
+ */
+final class SolverChanges {
+
+    private SolverChanges() {
+    }
+
+    static SolverDoctor findDoctor(SolverSchedule schedule, Long doctorId) {
+        for (SolverDoctor doctor : schedule.getDoctorList()) {
+            if (doctor.getId().equals(doctorId)) {
+                return doctor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sustituye un médico por su copia modificada en la lista de médicos y en
+     * todas las asignaciones que lo referencian. Su carga pasa a la copia
+     */
+    static void replaceDoctor(ScoreDirector<SolverSchedule> scoreDirector, SolverDoctor old, SolverDoctor updated) {
+        SolverSchedule schedule = scoreDirector.getWorkingSolution();
+        List<SolverDoctor> doctors = new ArrayList<>(schedule.getDoctorList());
+        scoreDirector.beforeProblemFactRemoved(old);
+        scoreDirector.beforeProblemFactAdded(updated);
+        doctors.set(old.getIndex(), updated);
+        schedule.setDoctorList(doctors);
+        scoreDirector.afterProblemFactRemoved(old);
+        scoreDirector.afterProblemFactAdded(updated);
+
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (sa.getDoctor() == old) {
+                scoreDirector.beforeVariableChanged(sa, "doctor");
+                sa.setDoctor(updated);
+                scoreDirector.afterVariableChanged(sa, "doctor");
+            }
+            if (sa.getPublishedDoctor() == old) {
+                scoreDirector.beforeProblemPropertyChanged(sa);
+                sa.setPublishedDoctor(updated);
+                scoreDirector.afterProblemPropertyChanged(sa);
+            }
+        }
+    }
+
+    /**
+     * Recalcula los médicos elegibles y deja sin médico los turnos que su
+     * médico ya no puede hacer, para que el solver los vuelva a asignar. Si
+     * estaban fijados se desbloquean: fijados y sin médico no tendrían arreglo
+     */
+    static void releaseIneligible(ScoreDirector<SolverSchedule> scoreDirector) {
+        SolverSchedule schedule = scoreDirector.getWorkingSolution();
+        SolverScheduleMapper.assignEligibleDoctors(schedule);
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (sa.getDoctor() == null || sa.getDoctor().isEligibleFor(sa.getShiftType(), sa.getDay())) {
+                continue;
+            }
+            if (sa.isPinned()) {
+                scoreDirector.beforeProblemPropertyChanged(sa);
+                sa.setPinned(false);
+                scoreDirector.afterProblemPropertyChanged(sa);
+            }
+            scoreDirector.beforeVariableChanged(sa, "doctor");
+            sa.setDoctor(null);
+            scoreDirector.afterVariableChanged(sa, "doctor");
+        }
+        scoreDirector.triggerVariableListeners();
+        refreshLoads(scoreDirector);
+    }
+
+    /**
+     * Cada cambio de hechos recalcula las cargas de los médicos sin avisar (ver
+     * {@link DoctorLoadVariableListener}), así que al terminar hay que avisar de
+     * todas
+     */
+    static void refreshLoads(ScoreDirector<SolverSchedule> scoreDirector) {
+        SolverSchedule schedule = scoreDirector.getWorkingSolution();
+        List<SolverDoctorLoad> loads = new ArrayList<>(schedule.getDoctorLoadList());
+        loads.add(schedule.getUnassignedLoad());
+        for (SolverDoctorLoad load : loads) {
+            scoreDirector.beforeVariableChanged(load, DoctorLoadVariableListener.LOAD_VARIABLE);
+            scoreDirector.afterVariableChanged(load, DoctorLoadVariableListener.LOAD_VARIABLE);
+        }
+        scoreDirector.triggerVariableListeners();
+    }
+}
@@ -0,0 +1,99 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.change;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.ProblemFactChange;
+
+import lombok.Getter;
+import lombok.ToString;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Día que pasa a ser festivo o laborable mientras se resuelve
+ * <p>
+ * Un festivo sólo tiene GUARDIA, así que al pasar a festivo sus TARDE y
+ * CONSULTA dejan de planificarse y se guardan sin médico. Al pasar a laborable
+ * sólo cambia el día: sus TARDE y CONSULTA no existen todavía y se crean al
+ * volver a generar el mes. Si el día no es del mes no hace nada.
+ *
+ * @author josperart3
+ */
+@Getter
+@ToString
+public class WorkingDayChange implements ProblemFactChange<SolverSchedule> {
+
+    private final LocalDate date;
+    private final boolean workingDay;
+
+    public WorkingDayChange(LocalDate date, boolean workingDay) {
+        this.date = date;
+        this.workingDay = workingDay;
+    }
+
+    @Override
+    public void doChange(ScoreDirector<SolverSchedule> scoreDirector) {
+        SolverSchedule schedule = scoreDirector.getWorkingSolution();
+        SolverDay old = null;
+        for (SolverDay day : schedule.getDayList()) {
+            if (day.getDate().equals(date)) {
+                old = day;
+                break;
+            }
+        }
+        if (old == null || old.isWorkingDay() == workingDay) {
+            return;
+        }
+
+        SolverDay updated = old.withWorkingDay(workingDay);
+        List<SolverDay> days = new ArrayList<>(schedule.getDayList());
+        scoreDirector.beforeProblemFactRemoved(old);
+        scoreDirector.beforeProblemFactAdded(updated);
+        days.set(old.getIndex(), updated);
+        schedule.setDayList(days);
+        scoreDirector.afterProblemFactRemoved(old);
+        scoreDirector.afterProblemFactAdded(updated);
+
+        List<SolverShiftAssignment> assignments = new ArrayList<>(schedule.getAssignmentList());
+        schedule.setAssignmentList(assignments);
+        for (Iterator<SolverShiftAssignment> it = assignments.iterator(); it.hasNext();) {
+            SolverShiftAssignment sa = it.next();
+            if (sa.getDay() != old) {
+                continue;
+            }
+            if (!workingDay && sa.getShiftType() != ShiftType.GUARDIA) {
+                scoreDirector.beforeEntityRemoved(sa);
+                it.remove();
+                scoreDirector.afterEntityRemoved(sa);
+            } else {
+                scoreDirector.beforeProblemPropertyChanged(sa);
+                sa.setDay(updated);
+                scoreDirector.afterProblemPropertyChanged(sa);
+            }
+        }
+        SolverChanges.releaseIneligible(scoreDirector);
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * This package contains the problem fact changes that can be sent to a running
+ * solve through {@link us.dit.service.services.SchedulerService}, so the solver
+ * keeps its best solution instead of starting over
+ */
+package us.dit.service.solver.change;
@@ -0,0 +1,164 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Mantiene las {@link SolverDoctorLoad} al cambiar el médico de una asignación
+ * <p>
+ * Cada asignación está contada en la carga de su médico (o en la de los turnos
+ * sin médico) y recuerda en cuál ({@link SolverShiftAssignment#getDoctorLoad()}).
+ * Así sacarla y volver a meterla es siempre correcto, aunque entre medias se
+ * hayan recalculado las cargas: OptaPlanner llama a
+ * {@link #resetWorkingSolution(ScoreDirector)} al fijar la solución y tras
+ * cada cambio de hechos, y entonces se cuentan otra vez todas las
+ * asignaciones. Los cambios de hechos avisan después de las cargas al score
+ * director (ver {@link us.dit.service.solver.change}).
+ * <p>
+ * Supone que la lista de días está ordenada por fecha, como la dejan
+ * {@link us.dit.service.solver.SolverScheduleMapper} y
+ * {@link us.dit.service.solver.SolverHorizon}.
+ *
+ * @author josperart3
+ */
+public class DoctorLoadVariableListener implements VariableListener<SolverShiftAssignment> {
+
+    /** Constraint Streams vuelve a evaluar la carga entera con avisar de una de sus variables */
+    public static final String LOAD_VARIABLE = "guardias";
+
+    private int firstEpochDay;
+    private int firstPeriod;
+    /** Posición de cada mes, contado desde firstPeriod, entre los meses con días; -1 si no tiene */
+    private int[] periodIndexes = new int[0];
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector scoreDirector, SolverShiftAssignment sa) {
+        // Se cuenta al terminar de añadirla
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector scoreDirector, SolverShiftAssignment sa) {
+        insert(scoreDirector, sa);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector scoreDirector, SolverShiftAssignment sa) {
+        retract(scoreDirector, sa);
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector scoreDirector, SolverShiftAssignment sa) {
+        insert(scoreDirector, sa);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector scoreDirector, SolverShiftAssignment sa) {
+        retract(scoreDirector, sa);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector scoreDirector, SolverShiftAssignment sa) {
+        // Ya se descontó antes de quitarla
+    }
+
+    /**
+     * Recalcula todas las cargas desde cero sin avisar al score director: al
+     * fijar la solución todavía no hay sesión y en un cambio de hechos se avisa
+     * al final
+     */
+    @Override
+    public void resetWorkingSolution(ScoreDirector scoreDirector) {
+        SolverSchedule schedule = (SolverSchedule) scoreDirector.getWorkingSolution();
+        List<SolverDay> days = schedule.getDayList();
+        int dayCount = 0;
+        int periodCount = 0;
+        if (days.isEmpty()) {
+            periodIndexes = new int[0];
+        } else {
+            SolverDay first = days.get(0);
+            SolverDay last = days.get(days.size() - 1);
+            firstEpochDay = first.getEpochDay();
+            firstPeriod = first.getPeriod();
+            dayCount = last.getEpochDay() - firstEpochDay + 1;
+            periodIndexes = new int[last.getPeriod() - firstPeriod + 1];
+            Arrays.fill(periodIndexes, -1);
+            for (SolverDay day : days) {
+                if (periodIndexes[day.getPeriod() - firstPeriod] < 0) {
+                    periodIndexes[day.getPeriod() - firstPeriod] = periodCount++;
+                }
+            }
+        }
+
+        boolean[] tardePeriods = new boolean[periodCount];
+        boolean[] consultaPeriods = new boolean[periodCount];
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (sa.getShiftType() == ShiftType.TARDE) {
+                tardePeriods[periodOf(sa)] = true;
+            } else if (sa.getShiftType() == ShiftType.CONSULTA) {
+                consultaPeriods[periodOf(sa)] = true;
+            }
+        }
+        for (SolverDoctorLoad load : schedule.getDoctorLoadList()) {
+            load.reset(dayCount, tardePeriods, consultaPeriods);
+        }
+        schedule.getUnassignedLoad().reset(dayCount, tardePeriods, consultaPeriods);
+
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            SolverDoctorLoad load = loadOf(schedule, sa.getDoctor());
+            load.add(sa.getShiftType(), dayOf(sa), periodOf(sa));
+            sa.setDoctorLoad(load);
+        }
+    }
+
+    private void insert(ScoreDirector scoreDirector, SolverShiftAssignment sa) {
+        retract(scoreDirector, sa);
+        SolverDoctorLoad load = loadOf((SolverSchedule) scoreDirector.getWorkingSolution(), sa.getDoctor());
+        scoreDirector.beforeVariableChanged(load, LOAD_VARIABLE);
+        load.add(sa.getShiftType(), dayOf(sa), periodOf(sa));
+        scoreDirector.afterVariableChanged(load, LOAD_VARIABLE);
+        sa.setDoctorLoad(load);
+    }
+
+    private void retract(ScoreDirector scoreDirector, SolverShiftAssignment sa) {
+        SolverDoctorLoad load = sa.getDoctorLoad();
+        if (load == null) {
+            return;
+        }
+        scoreDirector.beforeVariableChanged(load, LOAD_VARIABLE);
+        load.remove(sa.getShiftType(), dayOf(sa), periodOf(sa));
+        scoreDirector.afterVariableChanged(load, LOAD_VARIABLE);
+        sa.setDoctorLoad(null);
+    }
+
+    private static SolverDoctorLoad loadOf(SolverSchedule schedule, SolverDoctor doctor) {
+        return doctor == null ? schedule.getUnassignedLoad() : schedule.getDoctorLoadList().get(doctor.getIndex());
+    }
+
+    private int dayOf(SolverShiftAssignment sa) {
+        return sa.getEpochDay() - firstEpochDay;
+    }
+
+    private int periodOf(SolverShiftAssignment sa) {
+        return periodIndexes[sa.getDay().getPeriod() - firstPeriod];
+    }
+}
@@ -0,0 +1,72 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+import lombok.Getter;
+
+/**
+ * Día del mes tal y como lo ve el solver
+ * <p>
+ * Las distancias entre días se calculan restando {@link #getEpochDay()}, sin
+ * crear objetos de fecha durante la evaluación de las reglas.
+ *
+ * @author josperart3
+ */
+@Getter
+public class SolverDay {
+
+    /** Posición del día dentro de {@link SolverSchedule#getDayList()} */
+    private final int index;
+    private final LocalDate date;
+    private final int epochDay;
+    private final int dayOfMonth;
+    /**
+     * Mes del día como año * 12 + mes - 1. Los contratos son mensuales, así que
+     * en un horizonte de varios meses las reglas de mínimos y máximos agrupan
+     * también por este valor
+     */
+    private final int period;
+    /** Semana ISO del día como año de la semana * 100 + número, que ordena bien entre años */
+    private final int week;
+    private final boolean workingDay;
+
+    public SolverDay(int index, LocalDate date, boolean workingDay) {
+        this.index = index;
+        this.date = date;
+        this.epochDay = (int) date.toEpochDay();
+        this.dayOfMonth = date.getDayOfMonth();
+        this.period = date.getYear() * 12 + date.getMonthValue() - 1;
+        this.week = date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+        this.workingDay = workingDay;
+    }
+
+    /**
+     * Copia del día que pasa a ser laborable o festivo
+     */
+    public SolverDay withWorkingDay(boolean workingDay) {
+        return new SolverDay(index, date, workingDay);
+    }
+
+    @Override
+    public String toString() {
+        return date.toString();
+    }
+}
@@ -0,0 +1,131 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import java.time.LocalDate;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+
+import lombok.Getter;
+
+/**
+ * Médico tal y como lo ve el solver
+ * <p>
+ * Copia de {@link us.dit.service.model.entities.Doctor} con los campos de su
+ * {@link us.dit.service.model.entities.ShiftConfiguration} y de su ausencia ya
+ * resueltos, para que las reglas no naveguen por proxies de Hibernate. Dos
+ * médicos son iguales sólo si son el mismo objeto, así el hash es inmediato.
+ * Es inmutable: los clones de la solución lo comparten, así que un cambio se
+ * hace sustituyéndolo por una copia (ver {@link us.dit.service.solver.change}).
+ *
+ * @author josperart3
+ */
+@Getter
+public class SolverDoctor {
+
+    /** Id de la entidad Doctor */
+    @PlanningId
+    private final Long id;
+    /** Posición del médico dentro de {@link SolverSchedule#getDoctorList()} */
+    private final int index;
+    private final int minShifts;
+    private final int maxShifts;
+    private final int numConsultations;
+    private final boolean doesCycleShifts;
+    private final boolean hasShiftsOnlyWhenCycleShifts;
+    // Ausencia en días desde epoch, ambos incluidos. Sin ausencia el rango queda vacío
+    private final int absenceStart;
+    private final int absenceEnd;
+
+    public SolverDoctor(Long id, int index, int minShifts, int maxShifts, int numConsultations,
+            boolean doesCycleShifts, boolean hasShiftsOnlyWhenCycleShifts, LocalDate absenceStart,
+            LocalDate absenceEnd) {
+        this.id = id;
+        this.index = index;
+        this.minShifts = minShifts;
+        this.maxShifts = maxShifts;
+        this.numConsultations = numConsultations;
+        this.doesCycleShifts = doesCycleShifts;
+        this.hasShiftsOnlyWhenCycleShifts = hasShiftsOnlyWhenCycleShifts;
+        if (absenceStart != null && absenceEnd != null) {
+            this.absenceStart = (int) absenceStart.toEpochDay();
+            this.absenceEnd = (int) absenceEnd.toEpochDay();
+        } else {
+            this.absenceStart = 1;
+            this.absenceEnd = 0;
+        }
+    }
+
+    private SolverDoctor(SolverDoctor other, int index, int absenceStart, int absenceEnd) {
+        this.id = other.id;
+        this.index = index;
+        this.minShifts = other.minShifts;
+        this.maxShifts = other.maxShifts;
+        this.numConsultations = other.numConsultations;
+        this.doesCycleShifts = other.doesCycleShifts;
+        this.hasShiftsOnlyWhenCycleShifts = other.hasShiftsOnlyWhenCycleShifts;
+        this.absenceStart = absenceStart;
+        this.absenceEnd = absenceEnd;
+    }
+
+    /**
+     * Copia del médico con otra ausencia, que sustituye a la que tuviera. Con
+     * fechas null el médico queda sin ausencia
+     */
+    public SolverDoctor withAbsence(LocalDate start, LocalDate end) {
+        return start != null && end != null
+                ? new SolverDoctor(this, index, (int) start.toEpochDay(), (int) end.toEpochDay())
+                : new SolverDoctor(this, index, 1, 0);
+    }
+
+    /**
+     * Copia del médico en otra posición de la lista de médicos
+     */
+    public SolverDoctor withIndex(int index) {
+        return new SolverDoctor(this, index, absenceStart, absenceEnd);
+    }
+
+    public boolean isAbsentOn(int epochDay) {
+        return epochDay >= absenceStart && epochDay <= absenceEnd;
+    }
+
+    /**
+     * Indica si el médico puede cubrir un turno de ese tipo ese día sin
+     * incumplir con seguridad una restricción dura: no está ausente, no hace
+     * GUARDIA si no hace ciclos y no hace TARDE si sólo puede hacerlas con
+     * GUARDIA y no hace ciclos
+     */
+    public boolean isEligibleFor(ShiftType shiftType, SolverDay day) {
+        if (isAbsentOn(day.getEpochDay())) {
+            return false;
+        }
+        switch (shiftType) {
+        case GUARDIA:
+            return doesCycleShifts;
+        case TARDE:
+            return doesCycleShifts || !hasShiftsOnlyWhenCycleShifts;
+        default:
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Doctor-" + id;
+    }
+}
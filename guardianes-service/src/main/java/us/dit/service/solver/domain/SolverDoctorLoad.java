@@ -0,0 +1,213 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.CustomShadowVariable;
+import org.optaplanner.core.api.domain.variable.PlanningVariableReference;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Turnos que lleva un médico en la solución de trabajo
+ * <p>
+ * Las reglas de contrato, de equidad y de descanso necesitan agregados por
+ * médico: cuántas TARDE hace cada mes, cuántas GUARDIA en total o cuántas
+ * GUARDIA caen demasiado cerca. En vez de recalcularlos con joins en cada
+ * movimiento, {@link DoctorLoadVariableListener} suma y resta cada asignación
+ * cuando cambia de médico y las reglas sólo leen las variables sombra.
+ * <p>
+ * La línea de tiempo es un contador de turnos por día desde el primer día de
+ * la solución, así que saber con cuántas GUARDIA choca una nueva es mirar los
+ * cinco días de alrededor. Hay una carga por médico, en la misma posición que
+ * en {@link SolverSchedule#getDoctorList()}, y otra para los turnos sin médico
+ * ({@link SolverSchedule#getUnassignedLoad()}), que sólo cuenta para el
+ * descanso entre GUARDIA, como en el DRL.
+ *
+ * @author josperart3
+ */
+@Getter
+@PlanningEntity
+public class SolverDoctorLoad {
+
+    /** Médico cuyos turnos se cuentan; null en la carga de los turnos sin médico */
+    @Setter
+    private SolverDoctor doctor;
+
+    // OptaPlanner no admite variables sombra de tipo primitivo. Los valores son
+    // pequeños y Integer los saca de su caché, sin crear objetos al cambiarlos
+    @CustomShadowVariable(variableListenerClass = DoctorLoadVariableListener.class,
+            sources = @PlanningVariableReference(entityClass = SolverShiftAssignment.class, variableName = "doctor"))
+    private Integer guardias = 0;
+    /** Parejas de GUARDIA separadas menos de 3 días */
+    @CustomShadowVariable(variableListenerRef = @PlanningVariableReference(variableName = "guardias"))
+    private Integer guardiaRestPairs = 0;
+    /** Parejas de TARDE en días seguidos */
+    @CustomShadowVariable(variableListenerRef = @PlanningVariableReference(variableName = "guardias"))
+    private Integer consecutiveTardePairs = 0;
+    /** TARDE por encima del máximo, sumadas mes a mes */
+    @CustomShadowVariable(variableListenerRef = @PlanningVariableReference(variableName = "guardias"))
+    private Integer tardeExcess = 0;
+    /** TARDE que faltan para el mínimo, sumadas mes a mes */
+    @CustomShadowVariable(variableListenerRef = @PlanningVariableReference(variableName = "guardias"))
+    private Integer tardeDeficit = 0;
+    /** Diferencia con las CONSULTA del contrato, sumada mes a mes */
+    @CustomShadowVariable(variableListenerRef = @PlanningVariableReference(variableName = "guardias"))
+    private Integer consultaDeviation = 0;
+
+    // Contadores de los que salen las variables sombra: por día desde el primero de
+    // la solución y por mes en el orden de la lista de días
+    @Getter(AccessLevel.NONE)
+    private int[] guardiasByDay = new int[0];
+    @Getter(AccessLevel.NONE)
+    private int[] tardesByDay = new int[0];
+    @Getter(AccessLevel.NONE)
+    private int[] tardesByPeriod = new int[0];
+    @Getter(AccessLevel.NONE)
+    private int[] consultasByPeriod = new int[0];
+
+    public SolverDoctorLoad() {
+    }
+
+    public SolverDoctorLoad(SolverDoctor doctor) {
+        this.doctor = doctor;
+    }
+
+    /**
+     * Copia para un clon de la solución
+     */
+    SolverDoctorLoad(SolverDoctorLoad other) {
+        this.doctor = other.doctor;
+        this.guardias = other.guardias;
+        this.guardiaRestPairs = other.guardiaRestPairs;
+        this.consecutiveTardePairs = other.consecutiveTardePairs;
+        this.tardeExcess = other.tardeExcess;
+        this.tardeDeficit = other.tardeDeficit;
+        this.consultaDeviation = other.consultaDeviation;
+        this.guardiasByDay = other.guardiasByDay.clone();
+        this.tardesByDay = other.tardesByDay.clone();
+        this.tardesByPeriod = other.tardesByPeriod.clone();
+        this.consultasByPeriod = other.consultasByPeriod.clone();
+    }
+
+    /**
+     * Deja la carga sin turnos. Cada mes con algún turno de TARDE (o de
+     * CONSULTA) empieza debiendo el mínimo (o las consultas) del contrato
+     */
+    void reset(int dayCount, boolean[] tardePeriods, boolean[] consultaPeriods) {
+        guardias = 0;
+        guardiaRestPairs = 0;
+        consecutiveTardePairs = 0;
+        tardeExcess = 0;
+        tardeDeficit = 0;
+        consultaDeviation = 0;
+        guardiasByDay = new int[dayCount];
+        tardesByDay = new int[dayCount];
+        tardesByPeriod = new int[tardePeriods.length];
+        consultasByPeriod = new int[consultaPeriods.length];
+        if (doctor == null) {
+            return;
+        }
+        for (int period = 0; period < tardePeriods.length; period++) {
+            if (tardePeriods[period]) {
+                tardeDeficit += doctor.getMinShifts();
+            }
+            if (consultaPeriods[period]) {
+                consultaDeviation += doctor.getNumConsultations();
+            }
+        }
+    }
+
+    void add(ShiftType shiftType, int day, int period) {
+        switch (shiftType) {
+        case GUARDIA:
+            guardiaRestPairs += countAround(guardiasByDay, day, 2);
+            guardiasByDay[day]++;
+            guardias++;
+            break;
+        case TARDE:
+            consecutiveTardePairs += countAt(tardesByDay, day - 1) + countAt(tardesByDay, day + 1);
+            tardesByDay[day]++;
+            changeTardes(period, 1);
+            break;
+        default:
+            changeConsultas(period, 1);
+        }
+    }
+
+    void remove(ShiftType shiftType, int day, int period) {
+        switch (shiftType) {
+        case GUARDIA:
+            guardias--;
+            guardiasByDay[day]--;
+            guardiaRestPairs -= countAround(guardiasByDay, day, 2);
+            break;
+        case TARDE:
+            tardesByDay[day]--;
+            consecutiveTardePairs -= countAt(tardesByDay, day - 1) + countAt(tardesByDay, day + 1);
+            changeTardes(period, -1);
+            break;
+        default:
+            changeConsultas(period, -1);
+        }
+    }
+
+    private void changeTardes(int period, int delta) {
+        int before = tardesByPeriod[period];
+        int after = before + delta;
+        tardesByPeriod[period] = after;
+        if (doctor == null) {
+            return;
+        }
+        int max = doctor.getMaxShifts();
+        tardeExcess += Math.max(0, after - max) - Math.max(0, before - max);
+        // Un mes en el que se mueve una TARDE tiene turnos de TARDE, así que ya debía el mínimo
+        int min = doctor.getMinShifts();
+        tardeDeficit += Math.max(0, min - after) - Math.max(0, min - before);
+    }
+
+    private void changeConsultas(int period, int delta) {
+        int before = consultasByPeriod[period];
+        int after = before + delta;
+        consultasByPeriod[period] = after;
+        if (doctor == null || doctor.getNumConsultations() == 0) {
+            return;
+        }
+        int expected = doctor.getNumConsultations();
+        consultaDeviation += Math.abs(after - expected) - Math.abs(before - expected);
+    }
+
+    private static int countAround(int[] byDay, int day, int radius) {
+        int count = 0;
+        for (int d = Math.max(0, day - radius); d <= Math.min(byDay.length - 1, day + radius); d++) {
+            count += byDay[d];
+        }
+        return count;
+    }
+
+    private static int countAt(int[] byDay, int day) {
+        return day >= 0 && day < byDay.length ? byDay[day] : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Load-" + (doctor != null ? doctor : "unassigned");
+    }
+}
@@ -0,0 +1,106 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.constraintweight.ConstraintConfigurationProvider;
+import org.optaplanner.core.api.domain.lookup.LookUpStrategyType;
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningEntityProperty;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+
+/**
+ * Problema de planificación de un mes tal y como lo resuelve OptaPlanner
+ * <p>
+ * Se construye a partir de {@link us.dit.service.model.entities.Schedule} con
+ * {@link us.dit.service.solver.SolverScheduleMapper}. Médicos y días llevan un
+ * índice denso que coincide con su posición en la lista correspondiente.
+ *
+ * @author josperart3
+ */
+@Getter
+@Setter
+@PlanningSolution(lookUpStrategyType = LookUpStrategyType.PLANNING_ID_OR_NONE,
+        solutionCloner = SolverScheduleCloner.class)
+public class SolverSchedule {
+
+    private int month;
+    private int year;
+
+    @ProblemFactCollectionProperty
+    private List<SolverDoctor> doctorList;
+
+    /**
+     * Carga de cada médico, en la misma posición que en {@link #doctorList}.
+     * Se ajusta sola al cambiar la lista de médicos
+     */
+    @PlanningEntityCollectionProperty
+    @Setter(AccessLevel.PACKAGE)
+    private List<SolverDoctorLoad> doctorLoadList = new ArrayList<>();
+
+    /** Carga de los turnos sin médico */
+    @PlanningEntityProperty
+    @Setter(AccessLevel.PACKAGE)
+    private SolverDoctorLoad unassignedLoad = new SolverDoctorLoad();
+
+    @ProblemFactCollectionProperty
+    private List<SolverDay> dayList;
+
+    @PlanningEntityCollectionProperty
+    private List<SolverShiftAssignment> assignmentList;
+
+    @ConstraintConfigurationProvider
+    private GuardianesConstraintConfiguration constraintConfiguration;
+
+    @PlanningScore
+    private HardSoftScore score;
+
+    /**
+     * Motivos por los que el análisis de capacidad considera el mes no
+     * factible. No forma parte del problema, el solver no lo usa
+     */
+    private List<String> capacityProblems = Collections.emptyList();
+
+    /**
+     * Sustituye la lista de médicos. Cada posición conserva su carga, que pasa
+     * a contar los turnos del médico nuevo, y los médicos añadidos reciben una
+     * carga vacía. Las cargas se recalculan en cuanto el score director se
+     * entera del cambio (ver {@link DoctorLoadVariableListener})
+     */
+    public void setDoctorList(List<SolverDoctor> doctorList) {
+        List<SolverDoctorLoad> loads = new ArrayList<>(doctorList.size());
+        for (int i = 0; i < doctorList.size(); i++) {
+            SolverDoctorLoad load = i < doctorLoadList.size() ? doctorLoadList.get(i) : new SolverDoctorLoad();
+            load.setDoctor(doctorList.get(i));
+            loads.add(load);
+        }
+        this.doctorList = doctorList;
+        this.doctorLoadList = loads;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+
+/**
+ * Clonado de planificación hecho a mano para {@link SolverSchedule}
+ * <p>
+ * OptaPlanner clona la solución cada vez que encuentra una mejor. El clonador
+ * por defecto recorre por reflexión todos los campos; éste sólo copia las
+ * asignaciones, las cargas de los médicos y la puntuación y comparte médicos,
+ * días y pesos, que el solver nunca modifica. Si se añade un campo a
+ * {@link SolverShiftAssignment} o a {@link SolverDoctorLoad} hay que copiarlo
+ * también aquí.
+ *
+ * @author josperart3
+ */
+public class SolverScheduleCloner implements SolutionCloner<SolverSchedule> {
+
+    @Override
+    public SolverSchedule cloneSolution(SolverSchedule original) {
+        SolverSchedule clone = new SolverSchedule();
+        clone.setMonth(original.getMonth());
+        clone.setYear(original.getYear());
+        List<SolverDoctorLoad> clonedLoads = new ArrayList<>(original.getDoctorLoadList().size());
+        for (SolverDoctorLoad load : original.getDoctorLoadList()) {
+            clonedLoads.add(new SolverDoctorLoad(load));
+        }
+        // Antes que los médicos, para que setDoctorList reutilice las cargas copiadas
+        clone.setDoctorLoadList(clonedLoads);
+        clone.setUnassignedLoad(new SolverDoctorLoad(original.getUnassignedLoad()));
+        clone.setDoctorList(original.getDoctorList());
+        clone.setDayList(original.getDayList());
+        clone.setConstraintConfiguration(original.getConstraintConfiguration());
+        clone.setCapacityProblems(original.getCapacityProblems());
+
+        List<SolverShiftAssignment> assignments = original.getAssignmentList();
+        List<SolverShiftAssignment> clonedAssignments = new ArrayList<>(assignments.size());
+        for (SolverShiftAssignment sa : assignments) {
+            SolverShiftAssignment clonedSa = new SolverShiftAssignment(sa.getId(), sa.getShiftId(),
+                    sa.getShiftType(), sa.getDay());
+            clonedSa.setPinned(sa.isPinned());
+            clonedSa.setEligibleDoctors(sa.getEligibleDoctors());
+            clonedSa.setDoctor(sa.getDoctor());
+            clonedSa.setPublishedDoctor(sa.getPublishedDoctor());
+            // doctorLoad no: la recalcula DoctorLoadVariableListener al fijar el clon como solución de trabajo
+            clonedAssignments.add(clonedSa);
+        }
+        clone.setAssignmentList(clonedAssignments);
+        clone.setScore(original.getScore());
+        return clone;
+    }
+}
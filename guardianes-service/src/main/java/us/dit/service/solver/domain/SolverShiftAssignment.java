@@ -0,0 +1,98 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.entity.PlanningPin;
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Asignación de un médico a un turno, entidad de planificación del solver
+ * <p>
+ * Sustituye a {@link us.dit.service.model.entities.ShiftAssignment} durante la
+ * resolución. Cada clon de la solución copia esta clase, que ya no arrastra
+ * el turno, el día ni el calendario de JPA.
+ *
+ * @author josperart3
+ */
+@Getter
+@Setter
+@PlanningEntity
+public class SolverShiftAssignment {
+
+    /** Id de la entidad ShiftAssignment */
+    @PlanningId
+    private Long id;
+    /** Id del {@link us.dit.service.model.entities.Shift} que cubre */
+    private Long shiftId;
+    private ShiftType shiftType;
+    private SolverDay day;
+
+    @PlanningPin
+    private boolean pinned;
+
+    /**
+     * Médicos que pueden cubrir este turno sin incumplir ninguna restricción
+     * que sólo dependa del médico, del tipo de turno y del día. Los turnos del
+     * mismo tipo y día comparten la lista (ver SolverScheduleMapper)
+     */
+    @ValueRangeProvider(id = "eligibleDoctorRange")
+    private List<SolverDoctor> eligibleDoctors;
+
+    @PlanningVariable(valueRangeProviderRefs = { "eligibleDoctorRange" }, nullable = true)
+    private SolverDoctor doctor;
+
+    /**
+     * Médico de la planificación ya publicada cuando se repara (ver
+     * {@link us.dit.service.solver.ScheduleRepair}); null al generar
+     */
+    private SolverDoctor publishedDoctor;
+
+    /**
+     * Carga en la que está contada la asignación. Sólo la toca
+     * {@link DoctorLoadVariableListener}; no se clona porque el listener la
+     * recalcula al fijar la solución
+     */
+    private SolverDoctorLoad doctorLoad;
+
+    public SolverShiftAssignment() {
+    }
+
+    public SolverShiftAssignment(Long id, Long shiftId, ShiftType shiftType, SolverDay day) {
+        this.id = id;
+        this.shiftId = shiftId;
+        this.shiftType = shiftType;
+        this.day = day;
+    }
+
+    public int getEpochDay() {
+        return day.getEpochDay();
+    }
+
+    @Override
+    public String toString() {
+        return shiftType + "-" + day + "-" + id;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains the planning model used by OptaPlanner. It is built
+ * from the JPA entities before solving and holds no reference to them
+ */
+package us.dit.service.solver.domain;
@@ -0,0 +1,45 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.move;
+
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Distancia entre dos asignaciones para la selección cercana: los días que las
+ * separan, más {@link #SHIFT_TYPE_DISTANCE} si son de distinto tipo de turno
+ * <p>
+ * Así la pareja de un intercambio suele ser un turno del mismo tipo en los
+ * días de alrededor, que es donde se deciden el descanso entre GUARDIA y las
+ * TARDE seguidas, y de vez en cuando otro tipo de turno el mismo día, que es
+ * lo que arregla las incompatibilidades.
+ *
+ * @author josperart3
+ */
+public class DateShiftTypeDistanceMeter implements NearbyDistanceMeter<SolverShiftAssignment, SolverShiftAssignment> {
+
+    /** Un turno de otro tipo está tan lejos como uno del mismo tipo a tres días */
+    public static final int SHIFT_TYPE_DISTANCE = 3;
+
+    @Override
+    public double getNearbyDistance(SolverShiftAssignment origin, SolverShiftAssignment destination) {
+        int days = Math.abs(origin.getEpochDay() - destination.getEpochDay());
+        return origin.getShiftType() == destination.getShiftType() ? days : days + SHIFT_TYPE_DISTANCE;
+    }
+}
@@ -0,0 +1,173 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.move;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.optaplanner.core.impl.heuristic.selector.move.factory.MoveIteratorFactory;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Intercambios entre asignaciones separadas como mucho {@code dayRadius} días
+ * <p>
+ * El intercambio genérico elige las dos asignaciones al azar entre todas, así
+ * que en un horizonte de varios meses casi siempre caen lejos y no sirven para
+ * las reglas de descanso. Aquí la segunda se elige entre las de una ventana
+ * de días alrededor de la primera (una semana con el radio por defecto). Las
+ * asignaciones se ordenan por día una sola vez por cada lista de asignaciones
+ * (sólo se vuelve a hacer si un cambio de hechos la sustituye), así que elegir
+ * un movimiento cuesta lo mismo sea cual sea el tamaño del problema y la
+ * memoria crece linealmente, sin la matriz de distancias de la selección
+ * cercana de OptaPlanner. Se ofrecen también las asignaciones fijadas, que
+ * {@link SwapDoctorsMove#isMoveDoable} descarta: un cambio de hechos puede
+ * liberarlas sin sustituir la lista.
+ * <p>
+ * El radio se configura con {@code moveIteratorFactoryCustomProperties}.
+ *
+ * @author josperart3
+ */
+public class DayWindowSwapMoveIteratorFactory implements MoveIteratorFactory<SolverSchedule> {
+
+    public static final int DEFAULT_DAY_RADIUS = 3;
+
+    private int dayRadius = DEFAULT_DAY_RADIUS;
+
+    /** Listas a partir de las que se ha hecho el índice */
+    private List<SolverShiftAssignment> indexedAssignments;
+    private List<?> indexedDays;
+    /** Asignaciones ordenadas por día */
+    private SolverShiftAssignment[] sorted;
+    /** Posición en {@link #sorted} de la primera asignación de cada día, y el total al final */
+    private int[] firstByDay;
+    private long pairCount;
+
+    public void setDayRadius(int dayRadius) {
+        if (dayRadius < 0) {
+            throw new IllegalArgumentException("El radio en días (" + dayRadius + ") no puede ser negativo");
+        }
+        this.dayRadius = dayRadius;
+    }
+
+    @Override
+    public long getSize(ScoreDirector<SolverSchedule> scoreDirector) {
+        index(scoreDirector.getWorkingSolution());
+        return pairCount;
+    }
+
+    @Override
+    public Iterator<SwapDoctorsMove> createOriginalMoveIterator(ScoreDirector<SolverSchedule> scoreDirector) {
+        index(scoreDirector.getWorkingSolution());
+        return new Iterator<SwapDoctorsMove>() {
+            private int left = 0;
+            private int right = 1;
+
+            @Override
+            public boolean hasNext() {
+                skipExhausted();
+                return left < sorted.length;
+            }
+
+            @Override
+            public SwapDoctorsMove next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new SwapDoctorsMove(sorted[left], sorted[right++]);
+            }
+
+            private void skipExhausted() {
+                while (left < sorted.length && right >= windowEnd(sorted[left])) {
+                    left++;
+                    right = left + 1;
+                }
+            }
+        };
+    }
+
+    @Override
+    public Iterator<SwapDoctorsMove> createRandomMoveIterator(ScoreDirector<SolverSchedule> scoreDirector,
+            Random workingRandom) {
+        index(scoreDirector.getWorkingSolution());
+        return new Iterator<SwapDoctorsMove>() {
+
+            @Override
+            public boolean hasNext() {
+                return sorted.length > 1;
+            }
+
+            @Override
+            public SwapDoctorsMove next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                SolverShiftAssignment left = sorted[workingRandom.nextInt(sorted.length)];
+                int start = windowStart(left);
+                SolverShiftAssignment right = sorted[start + workingRandom.nextInt(windowEnd(left) - start)];
+                // Si sale la misma asignación el movimiento no es posible y el solver lo descarta
+                return new SwapDoctorsMove(left, right);
+            }
+        };
+    }
+
+    private int windowStart(SolverShiftAssignment sa) {
+        return firstByDay[Math.max(0, sa.getDay().getIndex() - dayRadius)];
+    }
+
+    private int windowEnd(SolverShiftAssignment sa) {
+        return firstByDay[Math.min(firstByDay.length - 1, sa.getDay().getIndex() + dayRadius + 1)];
+    }
+
+    /**
+     * Sólo se rehace si cambia la lista de asignaciones o la de días. Los
+     * cambios de hechos que añaden o quitan asignaciones o días las sustituyen
+     */
+    private void index(SolverSchedule solution) {
+        List<SolverShiftAssignment> assignments = solution.getAssignmentList();
+        if (assignments == indexedAssignments && solution.getDayList() == indexedDays) {
+            return;
+        }
+        List<SolverShiftAssignment> byDay = new ArrayList<>(assignments);
+        byDay.sort(Comparator.comparingInt(sa -> sa.getDay().getIndex()));
+        sorted = byDay.toArray(new SolverShiftAssignment[0]);
+
+        int dayCount = solution.getDayList().size();
+        firstByDay = new int[dayCount + 1];
+        int position = 0;
+        for (int day = 0; day <= dayCount; day++) {
+            while (position < sorted.length && sorted[position].getDay().getIndex() < day) {
+                position++;
+            }
+            firstByDay[day] = position;
+        }
+
+        pairCount = 0L;
+        for (int i = 0; i < sorted.length; i++) {
+            pairCount += windowEnd(sorted[i]) - i - 1;
+        }
+        indexedAssignments = assignments;
+        indexedDays = solution.getDayList();
+    }
+}
@@ -0,0 +1,132 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.move;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Intercambia todos los turnos de una semana entre dos médicos
+ * <p>
+ * Los turnos de la semana que tenía {@code left} pasan a {@code right} y al
+ * revés, de una vez. Cambiar una GUARDIA suelta suele romper el descanso con
+ * la siguiente o la equidad durante un paso, y la búsqueda local no lo acepta;
+ * cambiar la semana entera mantiene el ritmo de cada médico dentro de ella. Es
+ * su propio movimiento inverso. Sólo es posible si cada médico es elegible
+ * para todos los turnos que recibe. Las asignaciones fijadas de la semana se
+ * quedan como están.
+ *
+ * @author josperart3
+ */
+public class DoctorWeekSwapMove extends AbstractMove<SolverSchedule> {
+
+    private static final String DOCTOR = "doctor";
+
+    private final SolverDoctor left;
+    private final SolverDoctor right;
+    /** Asignaciones de la semana, de cualquier médico */
+    private final List<SolverShiftAssignment> week;
+
+    public DoctorWeekSwapMove(SolverDoctor left, SolverDoctor right, List<SolverShiftAssignment> week) {
+        this.left = left;
+        this.right = right;
+        this.week = week;
+    }
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<SolverSchedule> scoreDirector) {
+        if (left == right) {
+            return false;
+        }
+        boolean changes = false;
+        for (SolverShiftAssignment sa : week) {
+            if (sa.isPinned()) {
+                continue;
+            }
+            if (sa.getDoctor() == left) {
+                if (!sa.getEligibleDoctors().contains(right)) {
+                    return false;
+                }
+                changes = true;
+            } else if (sa.getDoctor() == right) {
+                if (!sa.getEligibleDoctors().contains(left)) {
+                    return false;
+                }
+                changes = true;
+            }
+        }
+        return changes;
+    }
+
+    @Override
+    protected DoctorWeekSwapMove createUndoMove(ScoreDirector<SolverSchedule> scoreDirector) {
+        return new DoctorWeekSwapMove(left, right, week);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<SolverSchedule> scoreDirector) {
+        for (SolverShiftAssignment sa : week) {
+            SolverDoctor doctor = sa.getDoctor();
+            if (!sa.isPinned() && (doctor == left || doctor == right)) {
+                scoreDirector.beforeVariableChanged(sa, DOCTOR);
+                sa.setDoctor(doctor == left ? right : left);
+                scoreDirector.afterVariableChanged(sa, DOCTOR);
+            }
+        }
+    }
+
+    @Override
+    public DoctorWeekSwapMove rebase(ScoreDirector<SolverSchedule> destinationScoreDirector) {
+        List<SolverShiftAssignment> rebasedWeek = new ArrayList<>(week.size());
+        for (SolverShiftAssignment sa : week) {
+            rebasedWeek.add(destinationScoreDirector.lookUpWorkingObject(sa));
+        }
+        return new DoctorWeekSwapMove(destinationScoreDirector.lookUpWorkingObject(left),
+                destinationScoreDirector.lookUpWorkingObject(right), rebasedWeek);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        List<SolverShiftAssignment> moved = new ArrayList<>();
+        for (SolverShiftAssignment sa : week) {
+            if (!sa.isPinned() && (sa.getDoctor() == left || sa.getDoctor() == right)) {
+                moved.add(sa);
+            }
+        }
+        return moved;
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Arrays.asList(left, right);
+    }
+
+    @Override
+    public String toString() {
+        return left + " <-> " + right + " en la semana " + week.get(0).getDay().getWeek();
+    }
+}
@@ -0,0 +1,137 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.move;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.optaplanner.core.impl.heuristic.selector.move.factory.MoveIteratorFactory;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Intercambios de una semana entera entre dos médicos ({@link DoctorWeekSwapMove})
+ * <p>
+ * Las asignaciones se agrupan por semana ISO una sola vez por cada lista de
+ * asignaciones; sólo se vuelve a hacer si un cambio de hechos la sustituye.
+ * Las fijadas también entran, porque un cambio de hechos puede liberarlas sin
+ * sustituir la lista, y {@link DoctorWeekSwapMove} no las toca. En
+ * el orden aleatorio el primer médico es el de una asignación de la semana, para
+ * que casi siempre tenga algo que dar, y el segundo cualquiera de la lista.
+ *
+ * @author josperart3
+ */
+public class DoctorWeekSwapMoveIteratorFactory implements MoveIteratorFactory<SolverSchedule> {
+
+    /** Lista a partir de la que se han agrupado las semanas */
+    private List<SolverShiftAssignment> indexedAssignments;
+    /** Asignaciones de cada semana, en orden */
+    private List<List<SolverShiftAssignment>> weeks;
+    private List<SolverDoctor> doctors;
+
+    @Override
+    public long getSize(ScoreDirector<SolverSchedule> scoreDirector) {
+        index(scoreDirector.getWorkingSolution());
+        return (long) weeks.size() * doctors.size() * (doctors.size() - 1) / 2;
+    }
+
+    @Override
+    public Iterator<DoctorWeekSwapMove> createOriginalMoveIterator(ScoreDirector<SolverSchedule> scoreDirector) {
+        index(scoreDirector.getWorkingSolution());
+        return new Iterator<DoctorWeekSwapMove>() {
+            private int week = 0;
+            private int left = 0;
+            private int right = 1;
+
+            @Override
+            public boolean hasNext() {
+                if (right >= doctors.size()) {
+                    left++;
+                    right = left + 1;
+                }
+                if (left >= doctors.size() - 1) {
+                    week++;
+                    left = 0;
+                    right = 1;
+                }
+                return week < weeks.size() && doctors.size() > 1;
+            }
+
+            @Override
+            public DoctorWeekSwapMove next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new DoctorWeekSwapMove(doctors.get(left), doctors.get(right++), weeks.get(week));
+            }
+        };
+    }
+
+    @Override
+    public Iterator<DoctorWeekSwapMove> createRandomMoveIterator(ScoreDirector<SolverSchedule> scoreDirector,
+            Random workingRandom) {
+        index(scoreDirector.getWorkingSolution());
+        return new Iterator<DoctorWeekSwapMove>() {
+
+            @Override
+            public boolean hasNext() {
+                return !weeks.isEmpty() && doctors.size() > 1;
+            }
+
+            @Override
+            public DoctorWeekSwapMove next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<SolverShiftAssignment> week = weeks.get(workingRandom.nextInt(weeks.size()));
+                SolverDoctor left = week.get(workingRandom.nextInt(week.size())).getDoctor();
+                if (left == null) {
+                    left = doctors.get(workingRandom.nextInt(doctors.size()));
+                }
+                // Si sale el mismo médico el movimiento no es posible y el solver lo descarta
+                return new DoctorWeekSwapMove(left, doctors.get(workingRandom.nextInt(doctors.size())), week);
+            }
+        };
+    }
+
+    /**
+     * Las semanas sólo se agrupan de nuevo si cambia la lista de asignaciones.
+     * Los médicos se leen siempre, porque un cambio de hechos puede sustituir
+     * la lista de médicos sin tocar la de asignaciones
+     */
+    private void index(SolverSchedule solution) {
+        doctors = solution.getDoctorList();
+        List<SolverShiftAssignment> assignments = solution.getAssignmentList();
+        if (assignments == indexedAssignments) {
+            return;
+        }
+        TreeMap<Integer, List<SolverShiftAssignment>> byWeek = new TreeMap<>();
+        for (SolverShiftAssignment sa : assignments) {
+            byWeek.computeIfAbsent(sa.getDay().getWeek(), week -> new ArrayList<>()).add(sa);
+        }
+        weeks = new ArrayList<>(byWeek.values());
+        indexedAssignments = assignments;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.move;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Intercambia los médicos de dos asignaciones
+ * <p>
+ * Equivale al intercambio genérico de OptaPlanner sobre la única variable de
+ * planificación, pero se puede generar sin recorrer todas las parejas (ver
+ * {@link DayWindowSwapMoveIteratorFactory}). Sólo es posible si cada médico
+ * es elegible para el turno del otro.
+ *
+ * @author josperart3
+ */
+public class SwapDoctorsMove extends AbstractMove<SolverSchedule> {
+
+    private static final String DOCTOR = "doctor";
+
+    private final SolverShiftAssignment left;
+    private final SolverShiftAssignment right;
+
+    public SwapDoctorsMove(SolverShiftAssignment left, SolverShiftAssignment right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<SolverSchedule> scoreDirector) {
+        SolverDoctor leftDoctor = left.getDoctor();
+        SolverDoctor rightDoctor = right.getDoctor();
+        return leftDoctor != rightDoctor && !left.isPinned() && !right.isPinned()
+                && (rightDoctor == null || left.getEligibleDoctors().contains(rightDoctor))
+                && (leftDoctor == null || right.getEligibleDoctors().contains(leftDoctor));
+    }
+
+    @Override
+    protected SwapDoctorsMove createUndoMove(ScoreDirector<SolverSchedule> scoreDirector) {
+        return new SwapDoctorsMove(right, left);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<SolverSchedule> scoreDirector) {
+        SolverDoctor leftDoctor = left.getDoctor();
+        SolverDoctor rightDoctor = right.getDoctor();
+        scoreDirector.beforeVariableChanged(left, DOCTOR);
+        left.setDoctor(rightDoctor);
+        scoreDirector.afterVariableChanged(left, DOCTOR);
+        scoreDirector.beforeVariableChanged(right, DOCTOR);
+        right.setDoctor(leftDoctor);
+        scoreDirector.afterVariableChanged(right, DOCTOR);
+    }
+
+    @Override
+    public SwapDoctorsMove rebase(ScoreDirector<SolverSchedule> destinationScoreDirector) {
+        return new SwapDoctorsMove(destinationScoreDirector.lookUpWorkingObject(left),
+                destinationScoreDirector.lookUpWorkingObject(right));
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Arrays.asList(left, right);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Arrays.asList(left.getDoctor(), right.getDoctor());
+    }
+
+    @Override
+    public String toString() {
+        return left + " {" + left.getDoctor() + "} <-> " + right + " {" + right.getDoctor() + "}";
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains custom moves and move iterator factories for the
+ * local search, used where the generic change and swap moves scale badly
+ */
+package us.dit.service.solver.move;
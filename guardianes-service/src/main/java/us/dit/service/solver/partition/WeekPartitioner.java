@@ -0,0 +1,115 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.partition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverScheduleCloner;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Parte la solución por semanas ISO ({@link us.dit.service.solver.domain.SolverDay#getWeek()})
+ * <p>
+ * Las semanas se reparten en {@code partCount} grupos de semanas seguidas con
+ * un número parecido de asignaciones movibles. Cada parte es una copia entera
+ * de la solución en la que sólo se mueven las asignaciones de sus semanas y el
+ * resto queda fijado ({@code pinned}) con el médico que tenía al partir. Así
+ * cada parte ve los contratos mensuales y el descanso con las semanas vecinas
+ * y su puntuación es la de la solución completa. OptaPlanner sólo devuelve los
+ * cambios de las asignaciones movibles de cada parte, de modo que las partes
+ * no se pisan al juntarse.
+ * <p>
+ * Lo que una parte no puede ver son los cambios que hacen a la vez las demás,
+ * por ejemplo dos GUARDIA del mismo médico a los dos lados de un cambio de
+ * semana. Eso lo arregla la búsqueda local global que va después (ver
+ * {@link us.dit.service.solver.PartitionedSolve}).
+ * <p>
+ * El número de partes se configura con {@code solutionPartitionerCustomProperties}.
+ *
+ * @author josperart3
+ */
+public class WeekPartitioner implements SolutionPartitioner<SolverSchedule> {
+
+    public static final int DEFAULT_PART_COUNT = 4;
+
+    private int partCount = DEFAULT_PART_COUNT;
+
+    public void setPartCount(int partCount) {
+        if (partCount < 1) {
+            throw new IllegalArgumentException("El número de partes (" + partCount + ") debe ser al menos 1");
+        }
+        this.partCount = partCount;
+    }
+
+    @Override
+    public List<SolverSchedule> splitWorkingSolution(ScoreDirector<SolverSchedule> scoreDirector,
+            Integer runnablePartThreadLimit) {
+        SolverSchedule schedule = scoreDirector.getWorkingSolution();
+
+        // Asignaciones movibles de cada semana, en orden
+        TreeMap<Integer, Integer> movableByWeek = new TreeMap<>();
+        int movable = 0;
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (!sa.isPinned()) {
+                movableByWeek.merge(sa.getDay().getWeek(), 1, Integer::sum);
+                movable++;
+            }
+        }
+        if (movable == 0) {
+            return Collections.singletonList(new SolverScheduleCloner().cloneSolution(schedule));
+        }
+
+        // Se empieza otra parte cuando la actual llega a su cuota o cuando quedan
+        // tantas semanas como partes por abrir. Las semanas no se parten
+        int parts = Math.min(partCount, movableByWeek.size());
+        Map<Integer, Integer> partByWeek = new HashMap<>();
+        int part = 0;
+        int counted = 0;
+        int remainingWeeks = movableByWeek.size();
+        for (Map.Entry<Integer, Integer> week : movableByWeek.entrySet()) {
+            if (part < parts - 1 && (counted >= (long) movable * (part + 1) / parts
+                    || remainingWeeks == parts - 1 - part)) {
+                part++;
+            }
+            partByWeek.put(week.getKey(), part);
+            counted += week.getValue();
+            remainingWeeks--;
+        }
+
+        List<SolverSchedule> partList = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            SolverSchedule copy = new SolverScheduleCloner().cloneSolution(schedule);
+            for (SolverShiftAssignment sa : copy.getAssignmentList()) {
+                if (!sa.isPinned() && partByWeek.get(sa.getDay().getWeek()) != i) {
+                    sa.setPinned(true);
+                }
+            }
+            partList.add(copy);
+        }
+        return partList;
+    }
+}
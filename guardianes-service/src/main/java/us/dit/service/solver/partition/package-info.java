@@ -0,0 +1,5 @@
+/**
+ * This package contains the solution partitioners for the partitioned search,
+ * which solves parts of the horizon in parallel before a global local search
+ */
+package us.dit.service.solver.partition;
@@ -0,0 +1,535 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.score;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.constraintweight.ConstraintConfiguration;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.calculator.ConstraintMatchAwareIncrementalScoreCalculator;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverDoctorLoad;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Alternativa en Java a {@link GuardianesSolverConstraintProvider}, con la
+ * misma puntuación para la misma planificación
+ * <p>
+ * Los contadores son arrays de enteros por médico y día (turnos de cada tipo)
+ * y por médico y mes (TARDE y CONSULTA), indexados con
+ * {@link SolverDoctor#getIndex()} y con los días desde el primero de la
+ * solución. La última fila es la de los turnos sin médico, que sólo cuenta
+ * para el descanso entre GUARDIA. Cada cambio de médico resta la asignación
+ * de su celda y la suma en la nueva, recalculando sólo las reglas de esas
+ * celdas, sin crear objetos. Se reservan en
+ * {@link #resetWorkingSolution(SolverSchedule)}, al fijar la solución y tras
+ * cada cambio de hechos.
+ * <p>
+ * Se elige en guardianesSolverConfig.xml. Las cargas de {@link SolverDoctorLoad}
+ * se siguen manteniendo, porque son entidades de la solución, pero aquí no se
+ * leen. El desglose por regla ({@link #getConstraintMatchTotals()}) no es
+ * incremental: se calcula desde cero cada vez que se pide.
+ *
+ * @author josperart3
+ */
+public class GuardianesIncrementalScoreCalculator
+        implements ConstraintMatchAwareIncrementalScoreCalculator<SolverSchedule, HardSoftScore> {
+
+    private static final String CONSTRAINT_PACKAGE =
+            GuardianesConstraintConfiguration.class.getAnnotation(ConstraintConfiguration.class).constraintPackage();
+
+    // Posición de cada regla en counts y en los pesos
+    private static final int EVERY_SHIFT_ASSIGNED = 0;
+    private static final int ELIGIBILITY_CYCLE = 1;
+    private static final int HOLIDAYS = 2;
+    private static final int INCOMPATIBLE_CONSULTA = 3;
+    private static final int INCOMPATIBLE_DUPLICATES = 4;
+    private static final int CONDITIONAL_SHIFTS = 5;
+    private static final int DOCTOR_MAX_SHIFTS = 6;
+    private static final int DOCTOR_MIN_SHIFTS_HARD = 7;
+    private static final int DOCTOR_SPECIFIC_CONSULTATIONS = 8;
+    private static final int FAIRNESS_GUARDIAS = 9;
+    private static final int MIN_DAYS_BETWEEN_GUARDIAS = 10;
+    private static final int AVOID_CONSECUTIVE_TARDES = 11;
+    private static final int KEEP_PUBLISHED_PLAN = 12;
+
+    private static final String[] CONSTRAINT_NAMES = {
+            GuardianesConstraintConfiguration.EVERY_SHIFT_ASSIGNED,
+            GuardianesConstraintConfiguration.ELIGIBILITY_CYCLE,
+            GuardianesConstraintConfiguration.HOLIDAYS,
+            GuardianesConstraintConfiguration.INCOMPATIBLE_CONSULTA,
+            GuardianesConstraintConfiguration.INCOMPATIBLE_DUPLICATES,
+            GuardianesConstraintConfiguration.CONDITIONAL_SHIFTS,
+            GuardianesConstraintConfiguration.DOCTOR_MAX_SHIFTS,
+            GuardianesConstraintConfiguration.DOCTOR_MIN_SHIFTS_HARD,
+            GuardianesConstraintConfiguration.DOCTOR_SPECIFIC_CONSULTATIONS,
+            GuardianesConstraintConfiguration.FAIRNESS_GUARDIAS,
+            GuardianesConstraintConfiguration.MIN_DAYS_BETWEEN_GUARDIAS,
+            GuardianesConstraintConfiguration.AVOID_CONSECUTIVE_TARDES,
+            GuardianesConstraintConfiguration.KEEP_PUBLISHED_PLAN
+    };
+
+    /** Como en {@link SolverDoctorLoad}: dos GUARDIA a 2 días o menos no descansan */
+    private static final int GUARDIA_REST_RADIUS = 2;
+
+    private SolverSchedule schedule;
+    private boolean constraintMatchEnabled;
+
+    private final HardSoftScore[] weights = new HardSoftScore[CONSTRAINT_NAMES.length];
+    private final int[] hardWeights = new int[CONSTRAINT_NAMES.length];
+    private final int[] softWeights = new int[CONSTRAINT_NAMES.length];
+    /** Peso de coincidencia acumulado de cada regla */
+    private final int[] counts = new int[CONSTRAINT_NAMES.length];
+
+    private int doctorCount;
+    private int unassignedRow;
+    private int firstEpochDay;
+    private int dayCount;
+    private int firstPeriod;
+    private int periodCount;
+    /** Posición de cada mes, contado desde firstPeriod, entre los meses con días; -1 si no tiene */
+    private int[] periodIndexes;
+    /** Meses con algún turno de TARDE o de CONSULTA: desde ellos se cuentan mínimos y consultas */
+    private boolean[] tardePeriods;
+    private boolean[] consultaPeriods;
+
+    // Filas de dayCount celdas por médico, más la de los turnos sin médico
+    private int[] guardiasByDay;
+    private int[] tardesByDay;
+    private int[] consultasByDay;
+    // Filas de periodCount celdas por médico
+    private int[] tardesByPeriod;
+    private int[] consultasByPeriod;
+    /** GUARDIA de cada médico en todo el horizonte */
+    private int[] guardias;
+
+    @Override
+    public void resetWorkingSolution(SolverSchedule workingSolution, boolean constraintMatchEnabled) {
+        this.constraintMatchEnabled = constraintMatchEnabled;
+        resetWorkingSolution(workingSolution);
+    }
+
+    /**
+     * Reserva los arrays para los médicos, días y meses de la solución y
+     * cuenta todas las asignaciones. Supone la lista de días ordenada por fecha
+     */
+    @Override
+    public void resetWorkingSolution(SolverSchedule workingSolution) {
+        schedule = workingSolution;
+        resetWeights(workingSolution.getConstraintConfiguration());
+
+        doctorCount = workingSolution.getDoctorList().size();
+        unassignedRow = doctorCount;
+        List<SolverDay> days = workingSolution.getDayList();
+        periodCount = 0;
+        if (days.isEmpty()) {
+            dayCount = 0;
+            periodIndexes = new int[0];
+        } else {
+            SolverDay first = days.get(0);
+            SolverDay last = days.get(days.size() - 1);
+            firstEpochDay = first.getEpochDay();
+            firstPeriod = first.getPeriod();
+            dayCount = last.getEpochDay() - firstEpochDay + 1;
+            periodIndexes = new int[last.getPeriod() - firstPeriod + 1];
+            Arrays.fill(periodIndexes, -1);
+            for (SolverDay day : days) {
+                if (periodIndexes[day.getPeriod() - firstPeriod] < 0) {
+                    periodIndexes[day.getPeriod() - firstPeriod] = periodCount++;
+                }
+            }
+        }
+
+        tardePeriods = new boolean[periodCount];
+        consultaPeriods = new boolean[periodCount];
+        for (SolverShiftAssignment sa : workingSolution.getAssignmentList()) {
+            if (sa.getShiftType() == ShiftType.TARDE) {
+                tardePeriods[periodOf(sa)] = true;
+            } else if (sa.getShiftType() == ShiftType.CONSULTA) {
+                consultaPeriods[periodOf(sa)] = true;
+            }
+        }
+
+        guardiasByDay = new int[(doctorCount + 1) * dayCount];
+        tardesByDay = new int[(doctorCount + 1) * dayCount];
+        consultasByDay = new int[(doctorCount + 1) * dayCount];
+        tardesByPeriod = new int[doctorCount * periodCount];
+        consultasByPeriod = new int[doctorCount * periodCount];
+        guardias = new int[doctorCount + 1];
+        Arrays.fill(counts, 0);
+
+        // Sin turnos, cada médico debe el mínimo de TARDE y sus CONSULTA de cada mes
+        for (SolverDoctor doctor : workingSolution.getDoctorList()) {
+            for (int period = 0; period < periodCount; period++) {
+                scorePeriod(doctor, period, 1);
+            }
+        }
+        for (SolverShiftAssignment sa : workingSolution.getAssignmentList()) {
+            insert(sa);
+        }
+    }
+
+    private void resetWeights(GuardianesConstraintConfiguration configuration) {
+        weights[EVERY_SHIFT_ASSIGNED] = configuration.getEveryShiftAssigned();
+        weights[ELIGIBILITY_CYCLE] = configuration.getEligibilityCycle();
+        weights[HOLIDAYS] = configuration.getHolidays();
+        weights[INCOMPATIBLE_CONSULTA] = configuration.getIncompatibleConsulta();
+        weights[INCOMPATIBLE_DUPLICATES] = configuration.getIncompatibleDuplicates();
+        weights[CONDITIONAL_SHIFTS] = configuration.getConditionalShifts();
+        weights[DOCTOR_MAX_SHIFTS] = configuration.getDoctorMaxShifts();
+        weights[DOCTOR_MIN_SHIFTS_HARD] = configuration.getDoctorMinShiftsHard();
+        weights[DOCTOR_SPECIFIC_CONSULTATIONS] = configuration.getDoctorSpecificConsultations();
+        weights[FAIRNESS_GUARDIAS] = configuration.getFairnessGuardias();
+        weights[MIN_DAYS_BETWEEN_GUARDIAS] = configuration.getMinDaysBetweenGuardias();
+        weights[AVOID_CONSECUTIVE_TARDES] = configuration.getAvoidConsecutiveTardes();
+        weights[KEEP_PUBLISHED_PLAN] = configuration.getKeepPublishedPlan();
+        for (int i = 0; i < weights.length; i++) {
+            hardWeights[i] = weights[i].getHardScore();
+            softWeights[i] = weights[i].getSoftScore();
+        }
+    }
+
+    // Sólo interesan las asignaciones y su médico; las cargas avisan también de sus variables sombra
+
+    @Override
+    public void beforeEntityAdded(Object entity) {
+        // Se cuenta al terminar de añadirla
+    }
+
+    @Override
+    public void afterEntityAdded(Object entity) {
+        if (entity instanceof SolverShiftAssignment) {
+            insert((SolverShiftAssignment) entity);
+        }
+    }
+
+    @Override
+    public void beforeVariableChanged(Object entity, String variableName) {
+        if (entity instanceof SolverShiftAssignment) {
+            retract((SolverShiftAssignment) entity);
+        }
+    }
+
+    @Override
+    public void afterVariableChanged(Object entity, String variableName) {
+        if (entity instanceof SolverShiftAssignment) {
+            insert((SolverShiftAssignment) entity);
+        }
+    }
+
+    @Override
+    public void beforeEntityRemoved(Object entity) {
+        if (entity instanceof SolverShiftAssignment) {
+            retract((SolverShiftAssignment) entity);
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(Object entity) {
+        // Ya se descontó antes de quitarla
+    }
+
+    private void insert(SolverShiftAssignment sa) {
+        change(sa, 1);
+    }
+
+    private void retract(SolverShiftAssignment sa) {
+        change(sa, -1);
+    }
+
+    /**
+     * Suma (delta 1) o resta (delta -1) la asignación con su médico actual
+     */
+    private void change(SolverShiftAssignment sa, int delta) {
+        SolverDoctor doctor = sa.getDoctor();
+        ShiftType shiftType = sa.getShiftType();
+        int day = sa.getEpochDay() - firstEpochDay;
+        if (sa.getPublishedDoctor() != null && doctor != sa.getPublishedDoctor()) {
+            counts[KEEP_PUBLISHED_PLAN] += delta;
+        }
+        if (doctor == null) {
+            counts[EVERY_SHIFT_ASSIGNED] += delta;
+            if (shiftType == ShiftType.GUARDIA) {
+                changeGuardia(unassignedRow, day, delta);
+            }
+            return;
+        }
+
+        int row = doctor.getIndex();
+        if (shiftType == ShiftType.GUARDIA && !doctor.isDoesCycleShifts()) {
+            counts[ELIGIBILITY_CYCLE] += delta;
+        }
+        if (doctor.isAbsentOn(sa.getEpochDay())) {
+            counts[HOLIDAYS] += delta;
+        }
+
+        int cell = row * dayCount + day;
+        scoreDay(doctor, cell, -1);
+        switch (shiftType) {
+        case GUARDIA:
+            changeGuardia(row, day, delta);
+            if (doctor.isDoesCycleShifts()) {
+                // changeGuardia ya ha contado la GUARDIA: n² pasa a (n ± 1)²
+                counts[FAIRNESS_GUARDIAS] += 2 * delta * (guardias[row] - delta) + 1;
+            }
+            break;
+        case TARDE:
+            changeTarde(row, day, delta);
+            changePeriod(doctor, tardesByPeriod, periodOf(sa), delta);
+            break;
+        default:
+            consultasByDay[cell] += delta;
+            changePeriod(doctor, consultasByPeriod, periodOf(sa), delta);
+        }
+        scoreDay(doctor, cell, 1);
+    }
+
+    private void changeGuardia(int row, int day, int delta) {
+        int cell = row * dayCount + day;
+        if (delta < 0) {
+            guardiasByDay[cell]--;
+            guardias[row]--;
+        }
+        int from = Math.max(0, day - GUARDIA_REST_RADIUS);
+        int to = Math.min(dayCount - 1, day + GUARDIA_REST_RADIUS);
+        int nearby = 0;
+        for (int d = from; d <= to; d++) {
+            nearby += guardiasByDay[row * dayCount + d];
+        }
+        counts[MIN_DAYS_BETWEEN_GUARDIAS] += delta * nearby;
+        if (delta > 0) {
+            guardiasByDay[cell]++;
+            guardias[row]++;
+        }
+    }
+
+    private void changeTarde(int row, int day, int delta) {
+        int cell = row * dayCount + day;
+        int adjacent = (day > 0 ? tardesByDay[cell - 1] : 0) + (day < dayCount - 1 ? tardesByDay[cell + 1] : 0);
+        // El DRL casa cada pareja en los dos órdenes
+        counts[AVOID_CONSECUTIVE_TARDES] += 2 * delta * adjacent;
+        tardesByDay[cell] += delta;
+    }
+
+    private void changePeriod(SolverDoctor doctor, int[] byPeriod, int period, int delta) {
+        scorePeriod(doctor, period, -1);
+        byPeriod[doctor.getIndex() * periodCount + period] += delta;
+        scorePeriod(doctor, period, 1);
+    }
+
+    /**
+     * Suma (sign 1) o resta (sign -1) lo que aportan los turnos de un médico en
+     * un día a las reglas de incompatibilidad y de TARDE sin GUARDIA
+     */
+    private void scoreDay(SolverDoctor doctor, int cell, int sign) {
+        int g = guardiasByDay[cell];
+        int t = tardesByDay[cell];
+        int c = consultasByDay[cell];
+        if (g + t + c > 1) {
+            counts[INCOMPATIBLE_CONSULTA] += sign * c;
+            counts[INCOMPATIBLE_DUPLICATES] += sign * (pairs(g) + pairs(t) + pairs(c));
+        }
+        if (g == 0 && doctor.isHasShiftsOnlyWhenCycleShifts()) {
+            counts[CONDITIONAL_SHIFTS] += sign * t;
+        }
+    }
+
+    /**
+     * Suma (sign 1) o resta (sign -1) lo que aportan los turnos de un médico en
+     * un mes a las reglas de contrato
+     */
+    private void scorePeriod(SolverDoctor doctor, int period, int sign) {
+        int cell = doctor.getIndex() * periodCount + period;
+        if (tardePeriods[period]) {
+            int tardes = tardesByPeriod[cell];
+            counts[DOCTOR_MAX_SHIFTS] += sign * Math.max(0, tardes - doctor.getMaxShifts());
+            counts[DOCTOR_MIN_SHIFTS_HARD] += sign * Math.max(0, doctor.getMinShifts() - tardes);
+        }
+        if (consultaPeriods[period] && doctor.getNumConsultations() > 0) {
+            counts[DOCTOR_SPECIFIC_CONSULTATIONS] += sign
+                    * Math.abs(consultasByPeriod[cell] - doctor.getNumConsultations());
+        }
+    }
+
+    private static int pairs(int n) {
+        return n * (n - 1) / 2;
+    }
+
+    private int periodOf(SolverShiftAssignment sa) {
+        return periodIndexes[sa.getDay().getPeriod() - firstPeriod];
+    }
+
+    @Override
+    public HardSoftScore calculateScore() {
+        int hard = 0;
+        int soft = 0;
+        for (int i = 0; i < counts.length; i++) {
+            hard -= counts[i] * hardWeights[i];
+            soft -= counts[i] * softWeights[i];
+        }
+        return HardSoftScore.of(hard, soft);
+    }
+
+    // ============================================================================
+    // DESGLOSE POR REGLA
+    // ============================================================================
+
+    /**
+     * Mismas coincidencias que Constraint Streams: una por asignación, por
+     * pareja de duplicados o por carga de médico, con las mismas justificaciones.
+     * Las reglas con peso cero no aparecen
+     */
+    @Override
+    public Collection<ConstraintMatchTotal> getConstraintMatchTotals() {
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("El desglose por regla no se pidió al fijar la solución");
+        }
+        HardSoftScore zero = HardSoftScore.ZERO;
+        ConstraintMatchTotal[] totals = new ConstraintMatchTotal[CONSTRAINT_NAMES.length];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = new ConstraintMatchTotal(CONSTRAINT_PACKAGE, CONSTRAINT_NAMES[i], weights[i], zero);
+        }
+
+        Map<Integer, List<SolverShiftAssignment>> byCell = new HashMap<>();
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            SolverDoctor doctor = sa.getDoctor();
+            if (sa.getPublishedDoctor() != null && doctor != sa.getPublishedDoctor()) {
+                addMatch(totals, KEEP_PUBLISHED_PLAN, 1, sa);
+            }
+            if (doctor == null) {
+                addMatch(totals, EVERY_SHIFT_ASSIGNED, 1, sa);
+                continue;
+            }
+            if (sa.getShiftType() == ShiftType.GUARDIA && !doctor.isDoesCycleShifts()) {
+                addMatch(totals, ELIGIBILITY_CYCLE, 1, sa);
+            }
+            if (doctor.isAbsentOn(sa.getEpochDay())) {
+                addMatch(totals, HOLIDAYS, 1, sa);
+            }
+            int cell = doctor.getIndex() * dayCount + sa.getEpochDay() - firstEpochDay;
+            byCell.computeIfAbsent(cell, k -> new ArrayList<>()).add(sa);
+        }
+
+        for (Map.Entry<Integer, List<SolverShiftAssignment>> entry : byCell.entrySet()) {
+            int cell = entry.getKey();
+            List<SolverShiftAssignment> dayAssignments = entry.getValue();
+            for (int i = 0; i < dayAssignments.size(); i++) {
+                SolverShiftAssignment sa = dayAssignments.get(i);
+                if (sa.getShiftType() == ShiftType.CONSULTA && dayAssignments.size() > 1) {
+                    addMatch(totals, INCOMPATIBLE_CONSULTA, 1, sa);
+                }
+                if (sa.getShiftType() == ShiftType.TARDE && guardiasByDay[cell] == 0
+                        && sa.getDoctor().isHasShiftsOnlyWhenCycleShifts()) {
+                    addMatch(totals, CONDITIONAL_SHIFTS, 1, sa);
+                }
+                for (int j = i + 1; j < dayAssignments.size(); j++) {
+                    SolverShiftAssignment other = dayAssignments.get(j);
+                    if (other.getShiftType() == sa.getShiftType()) {
+                        boolean ordered = sa.getId() < other.getId();
+                        addMatch(totals, INCOMPATIBLE_DUPLICATES, 1, ordered ? sa : other, ordered ? other : sa);
+                    }
+                }
+            }
+        }
+
+        for (SolverDoctor doctor : schedule.getDoctorList()) {
+            int row = doctor.getIndex();
+            SolverDoctorLoad load = schedule.getDoctorLoadList().get(row);
+            int excess = 0;
+            int deficit = 0;
+            int deviation = 0;
+            for (int period = 0; period < periodCount; period++) {
+                int cell = row * periodCount + period;
+                if (tardePeriods[period]) {
+                    excess += Math.max(0, tardesByPeriod[cell] - doctor.getMaxShifts());
+                    deficit += Math.max(0, doctor.getMinShifts() - tardesByPeriod[cell]);
+                }
+                if (consultaPeriods[period] && doctor.getNumConsultations() > 0) {
+                    deviation += Math.abs(consultasByPeriod[cell] - doctor.getNumConsultations());
+                }
+            }
+            addMatch(totals, DOCTOR_MAX_SHIFTS, excess, load);
+            addMatch(totals, DOCTOR_MIN_SHIFTS_HARD, deficit, load);
+            addMatch(totals, DOCTOR_SPECIFIC_CONSULTATIONS, deviation, load);
+            if (doctor.isDoesCycleShifts()) {
+                addMatch(totals, FAIRNESS_GUARDIAS, guardias[row] * guardias[row], load);
+            }
+            addMatch(totals, MIN_DAYS_BETWEEN_GUARDIAS, guardiaRestPairs(row), load);
+            addMatch(totals, AVOID_CONSECUTIVE_TARDES, 2 * consecutiveTardePairs(row), load);
+        }
+        addMatch(totals, MIN_DAYS_BETWEEN_GUARDIAS, guardiaRestPairs(unassignedRow), schedule.getUnassignedLoad());
+
+        List<ConstraintMatchTotal> result = new ArrayList<>();
+        for (int i = 0; i < totals.length; i++) {
+            if (!weights[i].equals(zero)) {
+                result.add(totals[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Las indicaciones por entidad las saca OptaPlanner de las coincidencias
+     */
+    @Override
+    public Map<Object, Indictment> getIndictmentMap() {
+        return null;
+    }
+
+    private void addMatch(ConstraintMatchTotal[] totals, int constraint, int matchWeight, Object... justifications) {
+        if (matchWeight > 0) {
+            totals[constraint].addConstraintMatch(Arrays.asList(justifications),
+                    weights[constraint].multiply(matchWeight).negate());
+        }
+    }
+
+    private int guardiaRestPairs(int row) {
+        int pairs = 0;
+        for (int day = 0; day < dayCount; day++) {
+            int here = guardiasByDay[row * dayCount + day];
+            if (here == 0) {
+                continue;
+            }
+            pairs += pairs(here);
+            for (int d = day + 1; d <= Math.min(dayCount - 1, day + GUARDIA_REST_RADIUS); d++) {
+                pairs += here * guardiasByDay[row * dayCount + d];
+            }
+        }
+        return pairs;
+    }
+
+    private int consecutiveTardePairs(int row) {
+        int pairs = 0;
+        for (int day = 1; day < dayCount; day++) {
+            pairs += tardesByDay[row * dayCount + day - 1] * tardesByDay[row * dayCount + day];
+        }
+        return pairs;
+    }
+}
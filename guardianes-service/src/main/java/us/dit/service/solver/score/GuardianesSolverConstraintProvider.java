@@ -0,0 +1,201 @@
+/**
+*  This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+*  Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+*  GuardianesBA is free software: you can redistribute it and/or
+*  modify it under the terms of the GNU General Public License as published
+*  by the Free Software Foundation, either version 3 of the License, or (at
+*  your option) any later version.
+*
+*  GuardianesBA is distributed in the hope that it will be useful,
+*  but WITHOUT ANY WARRANTY; without even the implied warranty of
+*  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+*  Public License for more details.
+*
+*  You should have received a copy of the GNU General Public License along
+*  with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.score;
+
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
+
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDoctorLoad;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Reglas de puntuación sobre el modelo del solver
+ * <p>
+ * Traducción directa de guardianesScoreRules.drl, que sigue siendo la
+ * referencia sobre las entidades: mismos nombres, mismos pesos y la misma
+ * puntuación para la misma planificación. Aquí los tipos de turno son enums,
+ * los días se comparan por identidad y las distancias se calculan con enteros.
+ * <p>
+ * Los contratos (mínimo y máximo de TARDE y número de CONSULTA) se cuentan
+ * por médico y mes, para que un horizonte de varios meses
+ * ({@link us.dit.service.solver.SolverHorizon}) los exija mes a mes. Las reglas
+ * de descanso y la equidad de GUARDIA no distinguen meses.
+ * <p>
+ * Las reglas que agregan por médico leen los contadores de
+ * {@link SolverDoctorLoad}, que se mantienen al mover cada asignación, en vez
+ * de agrupar o cruzar asignaciones. Cada médico da una sola coincidencia por
+ * regla, con la suma de todos sus meses o parejas.
+ *
+ * @author josperart3
+ */
+public class GuardianesSolverConstraintProvider implements ConstraintProvider {
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory factory) {
+        return new Constraint[] {
+                // Hard constraints
+                everyShiftAssigned(factory),
+                eligibilityCycle(factory),
+                holidays(factory),
+                incompatibleConsulta(factory),
+                incompatibleDuplicates(factory),
+                conditionalShifts(factory),
+                doctorMaxShifts(factory),
+                doctorMinShiftsHard(factory),
+                doctorSpecificConsultations(factory),
+                // Soft constraints
+                fairnessGuardias(factory),
+                minDaysBetweenGuardias(factory),
+                avoidConsecutiveTardes(factory),
+                keepPublishedPlan(factory)
+        };
+    }
+
+    // ============================================================================
+    // HARD CONSTRAINTS
+    // ============================================================================
+
+    Constraint everyShiftAssigned(ConstraintFactory factory) {
+        return factory.fromUnfiltered(SolverShiftAssignment.class)
+                .filter(sa -> sa.getDoctor() == null)
+                .penalizeConfigurable(GuardianesConstraintConfiguration.EVERY_SHIFT_ASSIGNED);
+    }
+
+    Constraint eligibilityCycle(ConstraintFactory factory) {
+        return factory.from(SolverShiftAssignment.class)
+                .filter(sa -> sa.getDoctor() != null
+                        && sa.getShiftType() == ShiftType.GUARDIA
+                        && !sa.getDoctor().isDoesCycleShifts())
+                .penalizeConfigurable(GuardianesConstraintConfiguration.ELIGIBILITY_CYCLE);
+    }
+
+    Constraint holidays(ConstraintFactory factory) {
+        return factory.from(SolverShiftAssignment.class)
+                .filter(sa -> sa.getDoctor() != null && sa.getDoctor().isAbsentOn(sa.getEpochDay()))
+                .penalizeConfigurable(GuardianesConstraintConfiguration.HOLIDAYS);
+    }
+
+    Constraint incompatibleConsulta(ConstraintFactory factory) {
+        return factory.from(SolverShiftAssignment.class)
+                .filter(sa -> sa.getDoctor() != null && sa.getShiftType() == ShiftType.CONSULTA)
+                .ifExistsOther(SolverShiftAssignment.class,
+                        equal(SolverShiftAssignment::getDoctor),
+                        equal(SolverShiftAssignment::getDay))
+                .penalizeConfigurable(GuardianesConstraintConfiguration.INCOMPATIBLE_CONSULTA);
+    }
+
+    Constraint incompatibleDuplicates(ConstraintFactory factory) {
+        return factory.from(SolverShiftAssignment.class)
+                .filter(sa -> sa.getDoctor() != null)
+                .join(SolverShiftAssignment.class,
+                        equal(SolverShiftAssignment::getDoctor),
+                        equal(SolverShiftAssignment::getDay),
+                        equal(SolverShiftAssignment::getShiftType),
+                        lessThan(SolverShiftAssignment::getId))
+                .penalizeConfigurable(GuardianesConstraintConfiguration.INCOMPATIBLE_DUPLICATES);
+    }
+
+    Constraint conditionalShifts(ConstraintFactory factory) {
+        return factory.from(SolverShiftAssignment.class)
+                .filter(sa -> sa.getDoctor() != null
+                        && sa.getShiftType() == ShiftType.TARDE
+                        && sa.getDoctor().isHasShiftsOnlyWhenCycleShifts())
+                .ifNotExists(SolverShiftAssignment.class,
+                        equal(SolverShiftAssignment::getDoctor),
+                        equal(SolverShiftAssignment::getDay),
+                        equal(sa -> ShiftType.GUARDIA, SolverShiftAssignment::getShiftType))
+                .penalizeConfigurable(GuardianesConstraintConfiguration.CONDITIONAL_SHIFTS);
+    }
+
+    Constraint doctorMaxShifts(ConstraintFactory factory) {
+        return factory.from(SolverDoctorLoad.class)
+                .filter(load -> load.getTardeExcess() > 0)
+                .penalizeConfigurable(GuardianesConstraintConfiguration.DOCTOR_MAX_SHIFTS,
+                        SolverDoctorLoad::getTardeExcess);
+    }
+
+    /**
+     * La carga empieza cada mes debiendo el mínimo, así que también cuenta a
+     * los médicos sin ninguna TARDE
+     */
+    Constraint doctorMinShiftsHard(ConstraintFactory factory) {
+        return factory.from(SolverDoctorLoad.class)
+                .filter(load -> load.getTardeDeficit() > 0)
+                .penalizeConfigurable(GuardianesConstraintConfiguration.DOCTOR_MIN_SHIFTS_HARD,
+                        SolverDoctorLoad::getTardeDeficit);
+    }
+
+    Constraint doctorSpecificConsultations(ConstraintFactory factory) {
+        return factory.from(SolverDoctorLoad.class)
+                .filter(load -> load.getConsultaDeviation() > 0)
+                .penalizeConfigurable(GuardianesConstraintConfiguration.DOCTOR_SPECIFIC_CONSULTATIONS,
+                        SolverDoctorLoad::getConsultaDeviation);
+    }
+
+    // ============================================================================
+    // SOFT CONSTRAINTS
+    // ============================================================================
+
+    Constraint fairnessGuardias(ConstraintFactory factory) {
+        return factory.from(SolverDoctorLoad.class)
+                .filter(load -> load.getGuardias() > 0
+                        && load.getDoctor() != null
+                        && load.getDoctor().isDoesCycleShifts())
+                .penalizeConfigurable(GuardianesConstraintConfiguration.FAIRNESS_GUARDIAS,
+                        load -> load.getGuardias() * load.getGuardias());
+    }
+
+    /**
+     * Como en el DRL, no se exige que haya médico: también se penalizan dos
+     * GUARDIA sin asignar demasiado cercanas, que cuenta la carga de los
+     * turnos sin médico
+     */
+    Constraint minDaysBetweenGuardias(ConstraintFactory factory) {
+        return factory.from(SolverDoctorLoad.class)
+                .filter(load -> load.getGuardiaRestPairs() > 0)
+                .penalizeConfigurable(GuardianesConstraintConfiguration.MIN_DAYS_BETWEEN_GUARDIAS,
+                        SolverDoctorLoad::getGuardiaRestPairs);
+    }
+
+    /**
+     * El DRL casa cada pareja en los dos órdenes, así que cada una pesa 2
+     */
+    Constraint avoidConsecutiveTardes(ConstraintFactory factory) {
+        return factory.from(SolverDoctorLoad.class)
+                .filter(load -> load.getConsecutiveTardePairs() > 0 && load.getDoctor() != null)
+                .penalizeConfigurable(GuardianesConstraintConfiguration.AVOID_CONSECUTIVE_TARDES,
+                        load -> 2 * load.getConsecutiveTardePairs());
+    }
+
+    /**
+     * Sólo tiene efecto al reparar una planificación publicada: penaliza cada
+     * turno que ya no tiene el médico publicado. Las entidades no guardan la
+     * planificación publicada, así que en el DRL la regla nunca penaliza
+     */
+    Constraint keepPublishedPlan(ConstraintFactory factory) {
+        return factory.from(SolverShiftAssignment.class)
+                .filter(sa -> sa.getPublishedDoctor() != null && sa.getDoctor() != sa.getPublishedDoctor())
+                .penalizeConfigurable(GuardianesConstraintConfiguration.KEEP_PUBLISHED_PLAN);
+    }
+}
@@ -0,0 +1,125 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import us.dit.service.solver.SolverProfile;
+import us.dit.service.solver.SolverScheduleFixtures;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that the solver factory compiles the score rules
+ * only once and reuses them for every solver and profile, and that
+ * multi-threaded solving stays reproducible and that only one solving
+ * strategy can be enabled
+ *
+ * @author josperart3
+ */
+public class SolverConfigurationTest {
+
+    @Test
+    void testScoreDirectorFactoryIsBuiltOnce() {
+        SolverFactory<SolverSchedule> solverFactory = SolverConfiguration.createSolverFactory();
+
+        ScoreDirectorFactory<SolverSchedule> first = solverFactory.getScoreDirectorFactory();
+        assertNotNull(solverFactory.buildSolver());
+        assertNotNull(solverFactory.buildSolver());
+        ScoreDirectorFactory<SolverSchedule> second = solverFactory.getScoreDirectorFactory();
+
+        assertSame(first, second, "Las reglas no deben recompilarse en cada generación");
+    }
+
+    // Las factorías de cada perfil sólo cambian la terminación y reutilizan las reglas
+    @Test
+    void testProfileSolverFactoriesShareScoreDirectorFactory() {
+        SolverFactoryProvider provider = new SolverFactoryProvider(
+                SolverConfig.createFromXmlResource(SolverConfiguration.SOLVER_CONFIG_XML));
+
+        ScoreDirectorFactory<SolverSchedule> shared = provider.getDefaultSolverFactory().getScoreDirectorFactory();
+        for (SolverProfile profile : SolverProfile.values()) {
+            SolverFactory<SolverSchedule> solverFactory = provider.getSolverFactory(profile, HardSoftScore.ZERO);
+            assertSame(shared, solverFactory.getScoreDirectorFactory(), profile.name());
+            assertNotNull(solverFactory.buildSolver());
+        }
+    }
+
+    // Con REPRODUCIBLE y un número fijo de hilos, dos ejecuciones dan la misma solución
+    @Test
+    void testMultiThreadedSolvingIsReproducible() {
+        // Se termina por número de pasos, no por tiempo, para que la comparación tenga sentido
+        LocalSearchPhaseConfig localSearch = new LocalSearchPhaseConfig();
+        localSearch.setTerminationConfig(new TerminationConfig().withStepCountLimit(300));
+        SolverConfig solverConfig = SolverConfiguration.createSolverConfig("2", EnvironmentMode.REPRODUCIBLE)
+                .withTerminationConfig(null)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), localSearch);
+        SolverFactory<SolverSchedule> solverFactory = SolverConfiguration.createSolverFactory(solverConfig);
+
+        SolverSchedule first = solverFactory.buildSolver().solve(buildProblem());
+        SolverSchedule second = solverFactory.buildSolver().solve(buildProblem());
+
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(doctorIds(first), doctorIds(second));
+    }
+
+    // Cada estrategia sustituye las fases; con dos activadas no se elige una en silencio
+    @Test
+    void testOnlyOneSolvingStrategyCanBeEnabled() {
+        SolverConfiguration configuration = new SolverConfiguration();
+        ReflectionTestUtils.setField(configuration, "moveThreadCount", SolverConfig.MOVE_THREAD_COUNT_NONE);
+        ReflectionTestUtils.setField(configuration, "environmentMode", EnvironmentMode.REPRODUCIBLE);
+        ReflectionTestUtils.setField(configuration, "partitions", 1);
+        ReflectionTestUtils.setField(configuration, "pillarMoves", true);
+        assertNotNull(configuration.solverFactoryProvider());
+
+        ReflectionTestUtils.setField(configuration, "staged", true);
+        assertThrows(IllegalStateException.class, configuration::solverFactoryProvider);
+    }
+
+    private SolverSchedule buildProblem() {
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 12, 9);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+        return problem;
+    }
+
+    private List<Long> doctorIds(SolverSchedule solution) {
+        return solution.getAssignmentList().stream()
+                .map(SolverShiftAssignment::getDoctor)
+                .map(doctor -> doctor != null ? doctor.getId() : null)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,110 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import us.dit.service.model.CycleChangeResult;
+import us.dit.service.model.entities.CycleChange;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.repositories.DoctorRepository;
+import us.dit.service.services.CycleChangePatchService;
+
+/**
+ * Test class used to verify that CycleChangeController builds the
+ * CycleChange of the request and applies it with CycleChangePatchService
+ *
+ * @author josperart3
+ */
+public class CycleChangeControllerTest {
+
+    private CycleChangePatchService cycleChangePatchService;
+    private DoctorRepository doctorRepository;
+    private CycleChangeController controller;
+
+    @BeforeEach
+    void setUp() {
+        cycleChangePatchService = mock(CycleChangePatchService.class);
+        doctorRepository = mock(DoctorRepository.class);
+        controller = new CycleChangeController();
+        ReflectionTestUtils.setField(controller, "cycleChangePatchService", cycleChangePatchService);
+        ReflectionTestUtils.setField(controller, "doctorRepository", doctorRepository);
+        when(doctorRepository.findById(1L)).thenReturn(Optional.of(buildDoctor(1L)));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(buildDoctor(2L)));
+    }
+
+    @Test
+    void testCycleChangeIsApplied() {
+        when(cycleChangePatchService.applyCycleChange(any(CycleChange.class))).thenAnswer(i -> new CycleChangeResult(
+                (CycleChange) i.getArguments()[0], HardSoftScore.ZERO, HardSoftScore.of(-1, 0),
+                Collections.singletonList("cycle"), true));
+
+        ResponseEntity<List<String>> response = controller.applyCycleChange(2026, 2, 9, 1L, 2L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Collections.singletonList("cycle"), response.getBody());
+        ArgumentCaptor<CycleChange> cycleChange = ArgumentCaptor.forClass(CycleChange.class);
+        verify(cycleChangePatchService).applyCycleChange(cycleChange.capture());
+        assertEquals(9, cycleChange.getValue().getDay());
+        assertEquals(2, cycleChange.getValue().getMonth());
+        assertEquals(2026, cycleChange.getValue().getYear());
+        assertEquals(1L, cycleChange.getValue().getCycleGiver().getId());
+        assertEquals(2L, cycleChange.getValue().getCycleReceiver().getId());
+    }
+
+    // El servicio rechaza los cambios que no cuadran con la planificación
+    @Test
+    void testRejectedCycleChangeIsConflict() {
+        when(cycleChangePatchService.applyCycleChange(any(CycleChange.class)))
+                .thenThrow(new IllegalStateException("El médico 1 no tiene GUARDIA el día 9"));
+
+        assertEquals(HttpStatus.CONFLICT, controller.applyCycleChange(2026, 2, 9, 1L, 2L).getStatusCode());
+    }
+
+    @Test
+    void testInvalidRequestIsNotApplied() {
+        assertEquals(HttpStatus.BAD_REQUEST, controller.applyCycleChange(2026, 2, 29, 1L, 2L).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.applyCycleChange(2026, 2, 9, 1L, 1L).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, controller.applyCycleChange(2026, 2, 9, 1L, 3L).getStatusCode());
+        verify(cycleChangePatchService, never()).applyCycleChange(any(CycleChange.class));
+    }
+
+    private Doctor buildDoctor(Long id) {
+        Doctor doctor = new Doctor("Doctor" + id, "Test", "doctor" + id + "@test.es", LocalDate.of(2026, 1, 1));
+        doctor.setId(id);
+        return doctor;
+    }
+}
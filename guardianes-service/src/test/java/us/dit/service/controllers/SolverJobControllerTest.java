@@ -0,0 +1,154 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import us.dit.service.model.SolverJobInfo;
+import us.dit.service.model.SolverJobInfo.JobType;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.entities.ShiftConfiguration;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+import us.dit.service.model.repositories.DoctorRepository;
+import us.dit.service.services.ScheduleRepairService;
+import us.dit.service.services.SchedulerService;
+import us.dit.service.services.SolverJobRegistry;
+import us.dit.service.solver.change.AddDoctorChange;
+
+/**
+ * Test class used to verify which doctors SolverJobController sends to a
+ * running schedule generation, how it starts the repair of a confirmed
+ * schedule and how it reports the status of a month's job
+ *
+ * @author josperart3
+ */
+public class SolverJobControllerTest {
+
+    private static final CalendarPK PK = new CalendarPK(2, 2026);
+
+    private SchedulerService schedulerService;
+    private DoctorRepository doctorRepository;
+    private ScheduleRepairService scheduleRepairService;
+    private SolverJobRegistry jobRegistry;
+    private SolverJobController controller;
+
+    @BeforeEach
+    void setUp() {
+        schedulerService = mock(SchedulerService.class);
+        doctorRepository = mock(DoctorRepository.class);
+        scheduleRepairService = mock(ScheduleRepairService.class);
+        controller = new SolverJobController();
+        ReflectionTestUtils.setField(controller, "schedulerService", schedulerService);
+        ReflectionTestUtils.setField(controller, "doctorRepository", doctorRepository);
+        ReflectionTestUtils.setField(controller, "scheduleRepairService", scheduleRepairService);
+        jobRegistry = new SolverJobRegistry();
+        ReflectionTestUtils.setField(controller, "jobRegistry", jobRegistry);
+        when(schedulerService.addProblemFactChange(eq(PK), any(AddDoctorChange.class))).thenReturn(true);
+    }
+
+    @Test
+    void testAvailableDoctorIsSent() {
+        when(doctorRepository.findById(1L)).thenReturn(Optional.of(buildDoctor(1L, Doctor.DoctorStatus.AVAILABLE)));
+
+        assertEquals(HttpStatus.ACCEPTED, controller.addDoctor(2026, 2, 1L).getStatusCode());
+        verify(schedulerService).addProblemFactChange(eq(PK), any(AddDoctorChange.class));
+    }
+
+    // Un médico dado de baja no entra al preparar el problema, tampoco durante la resolución
+    @Test
+    void testDeletedDoctorIsNotSent() {
+        when(doctorRepository.findById(1L)).thenReturn(Optional.of(buildDoctor(1L, Doctor.DoctorStatus.DELETED)));
+
+        assertEquals(HttpStatus.NOT_FOUND, controller.addDoctor(2026, 2, 1L).getStatusCode());
+        verify(schedulerService, never()).addProblemFactChange(any(CalendarPK.class), any(AddDoctorChange.class));
+    }
+
+    @Test
+    void testRepairIsStarted() {
+        assertEquals(HttpStatus.ACCEPTED, controller.repair(2026, 2).getStatusCode());
+        verify(scheduleRepairService).startRepair(YearMonth.of(2026, 2));
+    }
+
+    // Una planificación sin confirmar o sin turnos afectados no se repara
+    @Test
+    void testRejectedRepairIsConflict() {
+        doThrow(new IllegalStateException("La planificación de 2026-02 no tiene turnos afectados"))
+                .when(scheduleRepairService).startRepair(YearMonth.of(2026, 2));
+
+        assertEquals(HttpStatus.CONFLICT, controller.repair(2026, 2).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.repair(2026, 13).getStatusCode());
+    }
+
+    @Test
+    void testJobStatusIsReturned() {
+        assertEquals(HttpStatus.NOT_FOUND, controller.getJob(2026, 2).getStatusCode());
+        SolverJobInfo job = jobRegistry.register(PK);
+
+        assertEquals(HttpStatus.OK, controller.getJob(2026, 2).getStatusCode());
+        assertSame(job, controller.getJob(2026, 2).getBody());
+    }
+
+    // Los avisos de capacidad se consultan sin esperar a que termine el solver
+    @Test
+    void testJobStatusReportsCapacityProblems() {
+        SolverJobInfo job = jobRegistry.register(PK);
+        job.setCapacityProblems(Collections.singletonList("Faltan médicos para la GUARDIA del 2026-02-07"));
+
+        assertEquals(job.getCapacityProblems(), controller.getJob(2026, 2).getBody().getCapacityProblems());
+    }
+
+    // Un mes que se genera dentro de un horizonte devuelve el trabajo del horizonte
+    @Test
+    void testMonthInsideHorizonReturnsHorizonJob() {
+        CalendarPK march = new CalendarPK(3, 2026);
+        SolverJobInfo horizon = jobRegistry.register(PK, JobType.HORIZON);
+        horizon.setMonths(Arrays.asList(PK, march));
+
+        assertSame(horizon, controller.getJob(2026, 3).getBody());
+        assertEquals(HttpStatus.NOT_FOUND, controller.getJob(2026, 4).getStatusCode());
+    }
+
+    private Doctor buildDoctor(Long id, Doctor.DoctorStatus status) {
+        Doctor doctor = new Doctor("Doctor", "Test", "doctor@test.es", LocalDate.of(2026, 1, 1));
+        doctor.setId(id);
+        doctor.setStatus(status);
+        ShiftConfiguration sc = new ShiftConfiguration(1, 3, 0, true, false);
+        sc.setDoctor(doctor);
+        doctor.setShiftConfiguration(sc);
+        return doctor;
+    }
+}
@@ -0,0 +1,188 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.handlers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.process.WorkItem;
+import org.kie.api.runtime.process.WorkItemManager;
+import org.kie.server.client.ProcessServicesClient;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.services.KieUtilService;
+import us.dit.service.services.SchedulerService;
+import us.dit.service.solver.SolverProfile;
+
+/**
+ * Test class used to verify that GenerateScheduleWorkItemHandler completes the
+ * work item when the schedule is generated and aborts it when generation fails
+ *
+ * @author josperart3
+ */
+public class GenerateScheduleWorkItemHandlerTest {
+
+    private static final String CONTAINER_ID = "guardianes";
+    private static final YearMonth MONTH = YearMonth.of(2026, 2);
+
+    private SchedulerService schedulerService;
+    private ProcessServicesClient processServices;
+    private GenerateScheduleWorkItemHandler handler;
+    private WorkItem workItem;
+
+    @BeforeEach
+    void setUp() {
+        schedulerService = mock(SchedulerService.class);
+        processServices = mock(ProcessServicesClient.class);
+        KieUtilService kieUtils = mock(KieUtilService.class);
+        when(kieUtils.getProcessServicesClient()).thenReturn(processServices);
+
+        handler = new GenerateScheduleWorkItemHandler();
+        ReflectionTestUtils.setField(handler, "schedulerService", schedulerService);
+        ReflectionTestUtils.setField(handler, "kieUtils", kieUtils);
+        ReflectionTestUtils.setField(handler, "containerId", CONTAINER_ID);
+        ReflectionTestUtils.setField(handler, "defaultProfile", SolverProfile.STANDARD);
+
+        workItem = mock(WorkItem.class);
+        when(workItem.getParameter("Id_calendario_festivos")).thenReturn("2-2026");
+        when(workItem.getProcessInstanceId()).thenReturn(7L);
+        when(workItem.getId()).thenReturn(11L);
+    }
+
+    @Test
+    void testGeneratedScheduleCompletesWorkItem() {
+        handler.executeWorkItem(workItem, mock(WorkItemManager.class));
+        Schedule solution = new Schedule();
+        solution.setMonth(MONTH.getMonthValue());
+        solution.setYear(MONTH.getYear());
+        generatedCallback().accept(solution);
+
+        verify(processServices).completeWorkItem(CONTAINER_ID, 7L, 11L,
+                Collections.singletonMap("Id_planficacion_provisional", "2-2026"));
+        verify(processServices, never()).abortWorkItem(anyString(), anyLong(), anyLong());
+    }
+
+    // Si falla la generación el proceso no puede quedarse esperando
+    @Test
+    void testFailedGenerationAbortsWorkItem() {
+        handler.executeWorkItem(workItem, mock(WorkItemManager.class));
+        failedCallback().accept(new IllegalStateException("Sin médicos disponibles"));
+
+        verify(processServices).abortWorkItem(CONTAINER_ID, 7L, 11L);
+        verify(processServices, never()).completeWorkItem(anyString(), anyLong(), anyLong(), any());
+    }
+
+    // El callback corre en el hilo del solver: un fallo del kie server sólo se registra
+    @Test
+    void testAbortFailureIsNotPropagated() {
+        doThrow(new IllegalStateException("kie server caído")).when(processServices)
+                .abortWorkItem(CONTAINER_ID, 7L, 11L);
+        handler.executeWorkItem(workItem, mock(WorkItemManager.class));
+
+        failedCallback().accept(new IllegalStateException("Sin médicos disponibles"));
+
+        verify(processServices).abortWorkItem(CONTAINER_ID, 7L, 11L);
+    }
+
+    // Con Meses_horizonte se genera el horizonte y el proceso sigue con el primer mes
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHorizonCompletesWorkItemWithFirstMonth() {
+        when(workItem.getParameter("Meses_horizonte")).thenReturn("3");
+        handler.executeWorkItem(workItem, mock(WorkItemManager.class));
+
+        ArgumentCaptor<Consumer<List<Schedule>>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(schedulerService).startHorizonGeneration(eq(MONTH), eq(3), eq(SolverProfile.STANDARD),
+                captor.capture(), any());
+        verify(schedulerService, never()).startScheduleGeneration(any(), any(), any(), any());
+        Schedule february = new Schedule();
+        february.setMonth(2);
+        february.setYear(2026);
+        Schedule march = new Schedule();
+        march.setMonth(3);
+        march.setYear(2026);
+        captor.getValue().accept(Arrays.asList(february, march));
+
+        verify(processServices).completeWorkItem(CONTAINER_ID, 7L, 11L,
+                Collections.singletonMap("Id_planficacion_provisional", "2-2026"));
+    }
+
+    // Un número de meses no válido no impide generar el mes pedido
+    @Test
+    void testInvalidHorizonGeneratesSingleMonth() {
+        when(workItem.getParameter("Meses_horizonte")).thenReturn("tres");
+        handler.executeWorkItem(workItem, mock(WorkItemManager.class));
+
+        generatedCallback();
+        verify(schedulerService, never()).startHorizonGeneration(any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void testRequestedProfileIsUsed() {
+        when(workItem.getParameter("Perfil_generacion")).thenReturn(" quick_draft ");
+        handler.executeWorkItem(workItem, mock(WorkItemManager.class));
+
+        verify(schedulerService).startScheduleGeneration(eq(MONTH), eq(SolverProfile.QUICK_DRAFT), any(), any());
+    }
+
+    // Un perfil mal escrito o el de reparación no impiden generar: se usa el perfil por defecto
+    @Test
+    void testInvalidProfileFallsBackToDefault() {
+        when(workItem.getParameter("Perfil_generacion")).thenReturn("OVERNITE", "REPAIR");
+        handler.executeWorkItem(workItem, mock(WorkItemManager.class));
+        handler.executeWorkItem(workItem, mock(WorkItemManager.class));
+
+        verify(schedulerService, times(2)).startScheduleGeneration(eq(MONTH), eq(SolverProfile.STANDARD), any(),
+                any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<Schedule> generatedCallback() {
+        ArgumentCaptor<Consumer<Schedule>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(schedulerService).startScheduleGeneration(eq(MONTH), eq(SolverProfile.STANDARD), captor.capture(),
+                any());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<Throwable> failedCallback() {
+        ArgumentCaptor<Consumer<Throwable>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(schedulerService).startScheduleGeneration(eq(MONTH), eq(SolverProfile.STANDARD), any(),
+                captor.capture());
+        return captor.getValue();
+    }
+}
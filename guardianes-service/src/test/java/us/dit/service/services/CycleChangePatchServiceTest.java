@@ -0,0 +1,221 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import us.dit.service.calDavService.calendarioGeneral;
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.model.CycleChangeResult;
+import us.dit.service.model.entities.Calendar;
+import us.dit.service.model.entities.CycleChange;
+import us.dit.service.model.entities.DayConfiguration;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.model.entities.Schedule.ScheduleStatus;
+import us.dit.service.model.entities.ScheduleDay;
+import us.dit.service.model.entities.Shift;
+import us.dit.service.model.entities.ShiftAssignment;
+import us.dit.service.model.entities.ShiftConfiguration;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+import us.dit.service.model.repositories.ScheduleRepository;
+import us.dit.service.solver.SolverScheduleMapper;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Test class used to verify that CycleChangePatchService swaps a GUARDIA on
+ * the persisted schedule, rescores it and only publishes confirmed schedules
+ *
+ * @author josperart3
+ */
+public class CycleChangePatchServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 2);
+    private static final CalendarPK PK = new CalendarPK(MONTH.getMonthValue(), MONTH.getYear());
+
+    private SolverFactory<SolverSchedule> solverFactory;
+    private calendarioGeneral calendarService;
+    private Schedule schedule;
+    private CycleChangePatchService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        solverFactory = SolverConfiguration.createSolverFactory();
+        calendarService = mock(calendarioGeneral.class);
+        when(calendarService.publicarCambioCiclicas(any(ScheduleDay.class))).thenReturn("Calendario actualizado");
+        schedule = buildSchedule();
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.findById(PK)).thenReturn(Optional.of(schedule));
+        when(scheduleRepository.saveAndFlush(any(Schedule.class))).thenAnswer(i -> i.getArguments()[0]);
+        service = new CycleChangePatchService(scheduleRepository, solverFactory,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), calendarService);
+    }
+
+    // El día 1 tiene GUARDIA el médico 1; el 3 la recibe
+    @Test
+    void testSwapIsPatchedAndPublished() throws Exception {
+        CycleChangeResult result = service.applyCycleChange(cycleChange(1, 1, 3));
+
+        ShiftAssignment guardia = guardiaOn(1);
+        assertEquals(3L, guardia.getDoctor().getId());
+        ScheduleDay day = schedule.getDays().first();
+        assertEquals(Collections.singletonList(3L), doctorIds(day.getCycle()));
+        assertFalse(result.hasHardViolations());
+        assertTrue(result.isPublished());
+        verify(calendarService).publicarCambioCiclicas(day);
+
+        // La puntuación incremental coincide con la de una evaluación completa
+        assertEquals(fullScore(), result.getScoreAfter());
+        assertEquals(result.getScoreAfter(), schedule.getScore());
+    }
+
+    // Un médico que no hace ciclos no puede recibir una GUARDIA: se avisa, y
+    // sin confirmar la planificación no se publica nada
+    @Test
+    void testHardViolationIsFlagged() throws Exception {
+        schedule.setStatus(ScheduleStatus.PENDING_CONFIRMATION);
+
+        CycleChangeResult result = service.applyCycleChange(cycleChange(2, 2, 4));
+
+        assertEquals(4L, guardiaOn(2).getDoctor().getId());
+        assertTrue(result.getHardViolations().contains(GuardianesConstraintConfiguration.ELIGIBILITY_CYCLE));
+        assertTrue(result.getScoreAfter().getHardScore() < result.getScoreBefore().getHardScore());
+        assertFalse(result.isPublished());
+        verify(calendarService, never()).publicarCambioCiclicas(any(ScheduleDay.class));
+    }
+
+    @Test
+    void testGiverWithoutGuardiaIsRejected() {
+        assertThrows(IllegalStateException.class, () -> service.applyCycleChange(cycleChange(1, 2, 3)));
+        assertEquals(1L, guardiaOn(1).getDoctor().getId());
+    }
+
+    private CycleChange cycleChange(int day, long giverId, long receiverId) {
+        CycleChange cycleChange = new CycleChange(schedule.getDoctorList().get((int) giverId - 1),
+                schedule.getDoctorList().get((int) receiverId - 1));
+        cycleChange.setDay(day);
+        cycleChange.setMonth(MONTH.getMonthValue());
+        cycleChange.setYear(MONTH.getYear());
+        return cycleChange;
+    }
+
+    private ShiftAssignment guardiaOn(int day) {
+        return schedule.getShiftAssignments().stream()
+                .filter(sa -> "GUARDIA".equals(sa.getShift().getShiftType())
+                        && sa.getDayConfiguration().getDay() == day)
+                .findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    private List<Long> doctorIds(List<Doctor> doctors) {
+        List<Long> ids = new ArrayList<>();
+        doctors.forEach(doctor -> ids.add(doctor.getId()));
+        return ids;
+    }
+
+    private Object fullScore() {
+        try (ScoreDirector<SolverSchedule> scoreDirector = solverFactory.getScoreDirectorFactory()
+                .buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(SolverScheduleMapper.toSolverSchedule(schedule));
+            return scoreDirector.calculateScore();
+        }
+    }
+
+    /**
+     * Una semana con una GUARDIA y una TARDE por día. Los médicos 1 y 2 se
+     * turnan las GUARDIA, el 3 hace las TARDE y el 4 no hace ciclos
+     */
+    private Schedule buildSchedule() {
+        Calendar calendar = new Calendar(MONTH.getMonthValue(), MONTH.getYear());
+        List<Doctor> doctors = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Doctor doctor = new Doctor("Doctor" + i, "Test", "doctor" + i + "@test.es", MONTH.atDay(1));
+            doctor.setId((long) i);
+            ShiftConfiguration sc = new ShiftConfiguration(0, 7, 0, i != 4, false);
+            sc.setDoctor(doctor);
+            doctor.setShiftConfiguration(sc);
+            doctors.add(doctor);
+        }
+
+        Schedule schedule = new Schedule();
+        schedule.setMonth(MONTH.getMonthValue());
+        schedule.setYear(MONTH.getYear());
+        schedule.setStatus(ScheduleStatus.CONFIRMED);
+        schedule.setDoctorList(doctors);
+        schedule.setDays(new TreeSet<>());
+        List<DayConfiguration> dayConfigurations = new ArrayList<>();
+        List<Shift> shifts = new ArrayList<>();
+        List<ShiftAssignment> assignments = new ArrayList<>();
+        long shiftId = 1;
+        for (int d = 1; d <= 7; d++) {
+            DayConfiguration dc = new DayConfiguration(d, true, 0, 0);
+            dc.setDate(LocalDate.of(MONTH.getYear(), MONTH.getMonthValue(), d));
+            dc.setCalendar(calendar);
+            dayConfigurations.add(dc);
+
+            ScheduleDay day = new ScheduleDay(d, true);
+            day.setMonth(MONTH.getMonthValue());
+            day.setYear(MONTH.getYear());
+            day.setSchedule(schedule);
+            day.setCycle(new ArrayList<>());
+            day.setShifts(new ArrayList<>());
+            day.setConsultations(new ArrayList<>());
+            schedule.getDays().add(day);
+
+            Doctor onCall = doctors.get((d - 1) % 2);
+            Doctor afternoon = doctors.get(2);
+            for (Shift shift : new Shift[] { new Shift(shiftId++, dc, "GUARDIA"), new Shift(shiftId++, dc, "TARDE") }) {
+                shifts.add(shift);
+                ShiftAssignment sa = new ShiftAssignment(shift);
+                sa.setId(shift.getId());
+                sa.setSchedule(schedule);
+                sa.setDoctor("GUARDIA".equals(shift.getShiftType()) ? onCall : afternoon);
+                assignments.add(sa);
+            }
+            day.getCycle().add(onCall);
+            day.getShifts().add(afternoon);
+        }
+        schedule.setDayConfigurationList(dayConfigurations);
+        schedule.setShiftList(shifts);
+        schedule.setShiftAssignments(assignments);
+        return schedule;
+    }
+}
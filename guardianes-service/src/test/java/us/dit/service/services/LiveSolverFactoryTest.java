@@ -0,0 +1,55 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.services;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Test class used to verify that LiveSolverFactory only exposes the solver
+ * of the job, not the one SolverManager builds to validate the configuration
+ *
+ * @author josperart3
+ */
+public class LiveSolverFactoryTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testValidationSolverIsNotExposed() {
+        SolverFactory<SolverSchedule> delegate = mock(SolverFactory.class);
+        Solver<SolverSchedule> validationSolver = mock(Solver.class);
+        Solver<SolverSchedule> jobSolver = mock(Solver.class);
+        when(delegate.buildSolver()).thenReturn(validationSolver, jobSolver);
+        LiveSolverFactory liveSolverFactory = new LiveSolverFactory(delegate);
+
+        assertSame(validationSolver, liveSolverFactory.buildSolver());
+        assertNull(liveSolverFactory.getLastSolver());
+
+        liveSolverFactory.startSolving();
+        assertSame(jobSolver, liveSolverFactory.buildSolver());
+        assertSame(jobSolver, liveSolverFactory.getLastSolver());
+    }
+}
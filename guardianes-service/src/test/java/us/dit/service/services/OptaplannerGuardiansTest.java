@@ -33,7 +33,10 @@ import javax.persistence.Query;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import us.dit.service.config.SolverConfiguration;
 import us.dit.service.model.entities.Calendar;
 import us.dit.service.model.entities.DayConfiguration;
 import us.dit.service.model.entities.Doctor;
@@ -83,7 +86,9 @@ public class OptaplannerGuardiansTest {
             scheduleRepository, 
             doctorRepository, 
             shiftRepository, 
-            entityManager
+            entityManager,
+            SolverConfiguration.createSolverFactory(),
+            new TransactionTemplate(mock(PlatformTransactionManager.class))
         );
     }
 
@@ -164,6 +169,7 @@ public class OptaplannerGuardiansTest {
 
         // 2. Mock ScheduleRepository: Asigna IDs al Schedule Y a los ShiftAssignments
         // Esto es crucial porque en tu código de producción se guardan en cascada/flush
+        Schedule[] savedSchedule = new Schedule[1];
         when(scheduleRepository.saveAndFlush(any(Schedule.class))).thenAnswer(i -> {
             Schedule s = (Schedule) i.getArguments()[0];
             if (s.getId() == null) {
@@ -183,9 +189,13 @@ public class OptaplannerGuardiansTest {
                     }
                 }
             }
+            savedSchedule[0] = s;
             return s;
         });
         
+        // La transacción de escritura vuelve a leer la planificación guardada
+        when(scheduleRepository.findById(pk)).thenAnswer(i -> Optional.ofNullable(savedSchedule[0]));
+        
         // 3. Doctores
         List<Doctor> doctors = buildTestDoctors(numDoctors, consultationsPerDoc, minShiftsPerDoc);
         when(doctorRepository.findAll()).thenReturn(doctors);
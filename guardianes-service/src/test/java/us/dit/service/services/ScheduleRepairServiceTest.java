@@ -0,0 +1,101 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import us.dit.service.calDavService.calendarioGeneral;
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.model.entities.Schedule.ScheduleStatus;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+import us.dit.service.model.repositories.ScheduleRepository;
+
+/**
+ * Test class used to verify that ScheduleRepairService confirms the repaired
+ * schedule again and sends the repaired calendars
+ *
+ * @author josperart3
+ */
+public class ScheduleRepairServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 2);
+    private static final CalendarPK PK = new CalendarPK(MONTH.getMonthValue(), MONTH.getYear());
+
+    private SchedulerService schedulerService;
+    private calendarioGeneral calendarService;
+    private Schedule schedule;
+    private ScheduleRepairService service;
+
+    @BeforeEach
+    void setUp() {
+        schedulerService = mock(SchedulerService.class);
+        calendarService = mock(calendarioGeneral.class);
+        schedule = new Schedule();
+        schedule.setMonth(MONTH.getMonthValue());
+        schedule.setYear(MONTH.getYear());
+        schedule.setStatus(ScheduleStatus.PENDING_CONFIRMATION);
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.findById(PK)).thenReturn(Optional.of(schedule));
+        when(scheduleRepository.saveAndFlush(any(Schedule.class))).thenAnswer(i -> i.getArguments()[0]);
+        service = new ScheduleRepairService(schedulerService, scheduleRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), calendarService);
+    }
+
+    @Test
+    void testRepairedScheduleIsConfirmedAndPublished() throws Exception {
+        service.startRepair(MONTH);
+
+        repairedCallback().accept(schedule);
+        assertEquals(ScheduleStatus.CONFIRMED, schedule.getStatus());
+        verify(calendarService).setHorario(schedule);
+    }
+
+    // Si no se pueden enviar los calendarios la reparación sigue guardada y confirmada
+    @Test
+    void testPublishFailureKeepsRepair() throws Exception {
+        doThrow(new IOException("CalDAV no disponible")).when(calendarService).setHorario(any(Schedule.class));
+        service.startRepair(MONTH);
+
+        repairedCallback().accept(schedule);
+        assertEquals(ScheduleStatus.CONFIRMED, schedule.getStatus());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<Schedule> repairedCallback() {
+        ArgumentCaptor<Consumer<Schedule>> onRepaired = ArgumentCaptor.forClass(Consumer.class);
+        verify(schedulerService).startScheduleRepair(eq(MONTH), onRepaired.capture(), any());
+        return onRepaired.getValue();
+    }
+}
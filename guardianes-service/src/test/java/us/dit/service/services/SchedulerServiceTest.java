@@ -0,0 +1,310 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.springframework.beans.factory.ObjectProvider;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.config.SolverFactoryProvider;
+import us.dit.service.model.SolverJobInfo;
+import us.dit.service.model.SolverJobInfo.JobStatus;
+import us.dit.service.model.SolverJobInfo.JobType;
+import us.dit.service.model.entities.Calendar;
+import us.dit.service.model.entities.DayConfiguration;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.model.entities.Schedule.ScheduleStatus;
+import us.dit.service.model.entities.Shift;
+import us.dit.service.model.entities.ShiftAssignment;
+import us.dit.service.model.entities.ShiftConfiguration;
+import us.dit.service.model.entities.primarykeys.CalendarPK;
+import us.dit.service.services.OptaplannerGuardians.HorizonProblem;
+import us.dit.service.solver.ScheduleRepair;
+import us.dit.service.solver.SolverHorizon;
+import us.dit.service.solver.SolverPortfolio;
+import us.dit.service.solver.SolverProfile;
+import us.dit.service.solver.change.WorkingDayChange;
+import us.dit.service.solver.SolverScheduleMapper;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Test class used to verify the asynchronous schedule generation, its
+ * termination profiles, its cancellation and its problem fact changes, the
+ * repair of a confirmed schedule, the generation of a horizon of several
+ * months and the solver portfolio, in SchedulerService
+ *
+ * @author josperart3
+ */
+public class SchedulerServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 2);
+    private static final CalendarPK PK = new CalendarPK(MONTH.getMonthValue(), MONTH.getYear());
+
+    private OptaplannerGuardians planner;
+    private SolverJobRegistry jobRegistry;
+    private SchedulerService service;
+
+    @BeforeEach
+    void setUp() {
+        planner = mock(OptaplannerGuardians.class);
+        when(planner.prepareProblem(MONTH)).thenReturn(SolverScheduleMapper.toSolverSchedule(buildProblem()));
+        when(planner.saveSolution(any(SolverSchedule.class))).thenAnswer(i -> {
+            Schedule saved = buildProblem();
+            saved.setScore(((SolverSchedule) i.getArguments()[0]).getScore());
+            return saved;
+        });
+        jobRegistry = new SolverJobRegistry();
+        SolverFactoryProvider solverFactoryProvider = new SolverFactoryProvider(
+                SolverConfig.createFromXmlResource(SolverConfiguration.SOLVER_CONFIG_XML));
+        service = new SchedulerService(planner, jobRegistry, solverFactoryProvider, portfolioProvider(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    // La generación termina sola: se guarda la solución y se avisa al callback.
+    // Un mes pequeño es factible enseguida, así que no se espera al límite del perfil
+    @Test
+    void testGenerationCompletesThroughCallback() throws Exception {
+        CompletableFuture<Schedule> generated = new CompletableFuture<>();
+
+        SolverJobInfo job = service.startScheduleGeneration(MONTH, SolverProfile.QUICK_DRAFT, generated::complete,
+                generated::completeExceptionally);
+        assertTrue(job.isRunning(), "startScheduleGeneration no debe esperar al solver");
+
+        Schedule solution = generated.get(SolverProfile.QUICK_DRAFT.getSecondsSpentLimit() - 20, TimeUnit.SECONDS);
+        assertNotNull(solution.getScore());
+        assertTrue(solution.getScore().isFeasible());
+        assertEquals(JobStatus.COMPLETED, job.getStatus());
+        assertEquals(solution.getScore(), job.getBestScore());
+        verify(planner).saveSolution(any(SolverSchedule.class));
+    }
+
+    // Cancelar descarta la solución y no se puede lanzar dos veces el mismo mes
+    @Test
+    void testCancelDiscardsSolution() {
+        CompletableFuture<Schedule> generated = new CompletableFuture<>();
+
+        SolverJobInfo job = service.startScheduleGeneration(MONTH, SolverProfile.OVERNIGHT, generated::complete,
+                generated::completeExceptionally);
+        assertThrows(IllegalStateException.class,
+                () -> service.startScheduleGeneration(MONTH, s -> { }, e -> { }));
+
+        assertTrue(service.cancelScheduleGeneration(PK));
+        assertFalse(service.cancelScheduleGeneration(PK));
+
+        assertEquals(JobStatus.CANCELLED, job.getStatus());
+        assertFalse(generated.isDone());
+        verify(planner, never()).saveSolution(any(SolverSchedule.class));
+        verify(planner).updateStatus(PK, ScheduleStatus.NOT_CREATED);
+    }
+
+    // Sin capacidad suficiente se resuelve igualmente, pero el trabajo lo avisa
+    @Test
+    void testCapacityProblemsAreKeptInTheJob() {
+        SolverSchedule problem = SolverScheduleMapper.toSolverSchedule(buildProblem());
+        problem.setCapacityProblems(Collections.singletonList("Faltan médicos para la GUARDIA del 2026-02-07"));
+        when(planner.prepareProblem(MONTH)).thenReturn(problem);
+
+        SolverJobInfo job = service.startScheduleGeneration(MONTH, SolverProfile.OVERNIGHT, s -> { }, e -> { });
+        assertTrue(job.isRunning());
+        assertEquals(problem.getCapacityProblems(), job.getCapacityProblems());
+        assertTrue(service.cancelScheduleGeneration(PK));
+    }
+
+    // Los cambios de hechos sólo llegan a un trabajo en curso
+    @Test
+    void testProblemFactChangeReachesRunningJob() {
+        WorkingDayChange holiday = new WorkingDayChange(MONTH.atDay(9), false);
+        assertFalse(service.addProblemFactChange(PK, holiday));
+
+        service.startScheduleGeneration(MONTH, SolverProfile.OVERNIGHT, s -> { }, e -> { });
+        assertTrue(service.addProblemFactChange(PK, holiday));
+        assertFalse(service.addProblemFactChange(new CalendarPK(3, 2026), holiday));
+
+        assertTrue(service.cancelScheduleGeneration(PK));
+        assertFalse(service.addProblemFactChange(PK, holiday));
+    }
+
+    // Cancelar una reparación no toca la planificación confirmada
+    @Test
+    void testCancelRepairKeepsConfirmedSchedule() {
+        SolverSchedule published = SolverScheduleMapper.toSolverSchedule(buildProblem());
+        ScheduleRepair.prepare(published);
+        when(planner.prepareRepair(MONTH)).thenReturn(published);
+
+        SolverJobInfo job = service.startScheduleRepair(MONTH, s -> { }, e -> { });
+        assertEquals(JobType.REPAIR, job.getType());
+        assertTrue(service.cancelScheduleGeneration(PK));
+
+        assertEquals(JobStatus.CANCELLED, job.getStatus());
+        verify(planner, never()).saveSolution(any(SolverSchedule.class));
+        verify(planner, never()).updateStatus(any(CalendarPK.class), any(ScheduleStatus.class));
+    }
+
+    // Un horizonte se registra con su primer mes y se guarda entero al terminar
+    @Test
+    void testHorizonCompletesThroughCallback() throws Exception {
+        HorizonProblem horizon = buildHorizon();
+        when(planner.prepareHorizon(MONTH, 2)).thenReturn(horizon);
+        when(planner.saveHorizon(any(SolverSchedule.class), any(HorizonProblem.class)))
+                .thenReturn(Arrays.asList(buildProblem(MONTH), buildProblem(MONTH.plusMonths(1))));
+        CompletableFuture<List<Schedule>> generated = new CompletableFuture<>();
+
+        SolverJobInfo job = service.startHorizonGeneration(MONTH, 2, SolverProfile.QUICK_DRAFT, generated::complete,
+                generated::completeExceptionally);
+        assertEquals(JobType.HORIZON, job.getType());
+        assertEquals(Arrays.asList(PK, new CalendarPK(3, 2026)), job.getMonths());
+
+        List<Schedule> solutions = generated.get(SolverProfile.QUICK_DRAFT.getSecondsSpentLimit() - 20,
+                TimeUnit.SECONDS);
+        assertEquals(2, solutions.size());
+        assertEquals(JobStatus.COMPLETED, job.getStatus());
+        verify(planner).saveHorizon(any(SolverSchedule.class), eq(horizon));
+        verify(planner, never()).saveSolution(any(SolverSchedule.class));
+    }
+
+    // Cancelar un horizonte deja sin crear todos los meses que generaba
+    @Test
+    void testCancelHorizonResetsEveryMonth() {
+        CalendarPK march = new CalendarPK(3, 2026);
+        when(planner.prepareHorizon(MONTH, 2)).thenReturn(buildHorizon());
+        service.startHorizonGeneration(MONTH, 2, SolverProfile.OVERNIGHT, s -> { }, e -> { });
+        assertThrows(IllegalStateException.class,
+                () -> service.startHorizonGeneration(MONTH.minusMonths(1), 2, SolverProfile.OVERNIGHT, s -> { },
+                        e -> { }));
+
+        assertTrue(service.cancelScheduleGeneration(PK));
+
+        verify(planner).updateStatus(PK, ScheduleStatus.NOT_CREATED);
+        verify(planner).updateStatus(march, ScheduleStatus.NOT_CREATED);
+        verify(planner, never()).saveHorizon(any(SolverSchedule.class), any(HorizonProblem.class));
+    }
+
+    // Con el portfolio compiten todas las configuraciones y se anota la ganadora
+    @Test
+    void testPortfolioRecordsWinner() throws Exception {
+        SolverFactoryProvider portfolioFactories = new SolverFactoryProvider(
+                SolverConfig.createFromXmlResource(SolverConfiguration.SOLVER_CONFIG_XML), true);
+        SolverPortfolio portfolio = new SolverPortfolio(
+                portfolioFactories.getGenerationSolverFactories(SolverProfile.QUICK_DRAFT, null));
+        SchedulerService portfolioService = new SchedulerService(planner, jobRegistry, portfolioFactories,
+                portfolioProvider(portfolio));
+        CompletableFuture<Schedule> generated = new CompletableFuture<>();
+        try {
+            SolverJobInfo job = portfolioService.startScheduleGeneration(MONTH, SolverProfile.QUICK_DRAFT,
+                    generated::complete, generated::completeExceptionally);
+
+            Schedule solution = generated.get(SolverProfile.QUICK_DRAFT.getSecondsSpentLimit() - 5,
+                    TimeUnit.SECONDS);
+            assertTrue(solution.getScore().isFeasible());
+            assertEquals(JobStatus.COMPLETED, job.getStatus());
+            assertEquals(1, portfolio.getWinCounts().values().stream().mapToInt(Integer::intValue).sum());
+            verify(planner).saveSolution(any(SolverSchedule.class));
+        } finally {
+            portfolioService.close();
+        }
+    }
+
+    // Helpers de configuracion
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<SolverPortfolio> portfolioProvider(SolverPortfolio portfolio) {
+        ObjectProvider<SolverPortfolio> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(portfolio);
+        return provider;
+    }
+
+    private HorizonProblem buildHorizon() {
+        List<SolverSchedule> months = Arrays.asList(SolverScheduleMapper.toSolverSchedule(buildProblem(MONTH)),
+                SolverScheduleMapper.toSolverSchedule(buildProblem(MONTH.plusMonths(1))));
+        return new HorizonProblem(SolverHorizon.combine(months), months, Arrays.asList(false, false));
+    }
+
+    private Schedule buildProblem() {
+        return buildProblem(MONTH);
+    }
+
+    private Schedule buildProblem(YearMonth month) {
+        Calendar calendar = new Calendar(month.getMonthValue(), month.getYear());
+        List<DayConfiguration> days = new ArrayList<>();
+        List<Shift> shifts = new ArrayList<>();
+        long shiftId = 1;
+        for (int d = 1; d <= 7; d++) {
+            DayConfiguration dc = new DayConfiguration(d, true, 0, 0);
+            dc.setDate(LocalDate.of(month.getYear(), month.getMonthValue(), d));
+            dc.setCalendar(calendar);
+            days.add(dc);
+            shifts.add(new Shift(shiftId++, dc, "GUARDIA"));
+            shifts.add(new Shift(shiftId++, dc, "TARDE"));
+        }
+
+        List<Doctor> doctors = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Doctor doctor = new Doctor("Doctor" + i, "Test", "doctor" + i + "@test.es", MONTH.atDay(1));
+            doctor.setId((long) i);
+            ShiftConfiguration sc = new ShiftConfiguration(1, 3, 0, true, false);
+            sc.setDoctor(doctor);
+            doctor.setShiftConfiguration(sc);
+            doctors.add(doctor);
+        }
+
+        Schedule schedule = new Schedule();
+        schedule.setMonth(month.getMonthValue());
+        schedule.setYear(month.getYear());
+        schedule.setDoctorList(doctors);
+        schedule.setDayConfigurationList(days);
+        schedule.setShiftList(shifts);
+        List<ShiftAssignment> assignments = new ArrayList<>();
+        for (Shift shift : shifts) {
+            ShiftAssignment sa = new ShiftAssignment(shift);
+            sa.setId(shift.getId());
+            sa.setSchedule(schedule);
+            assignments.add(sa);
+        }
+        schedule.setShiftAssignments(assignments);
+        return schedule;
+    }
+}
@@ -0,0 +1,67 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.time.YearMonth;
+
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Puntuación alcanzada según el número de hilos de movimientos (1, 2, 4 y 8)
+ * sobre un mes generado de 150 médicos, con el mismo tiempo para todos
+ * <p>
+ * No lo ejecuta surefire. Se lanza con el método main; el primer argumento
+ * opcional son los segundos por ejecución (60 por defecto). Los resultados sólo
+ * son comparables en una máquina con al menos 8 núcleos libres.
+ *
+ * @author josperart3
+ */
+public class MoveThreadCountBenchmark {
+
+    private static final String[] MOVE_THREAD_COUNTS = { "NONE", "1", "2", "4", "8" };
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+    private static final int DOCTORS = 150;
+
+    public static void main(String[] args) {
+        long secondsSpentLimit = args.length > 0 ? Long.parseLong(args[0]) : 60L;
+        // Calentamiento de la JVM, para no penalizar a la primera configuración
+        solve("NONE", secondsSpentLimit);
+        System.out.printf("%-16s %-28s %s%n", "moveThreadCount", "score", "núcleos: "
+                + Runtime.getRuntime().availableProcessors());
+        for (String moveThreadCount : MOVE_THREAD_COUNTS) {
+            System.out.printf("%-16s %-28s%n", moveThreadCount, solve(moveThreadCount, secondsSpentLimit).getScore());
+        }
+    }
+
+    private static SolverSchedule solve(String moveThreadCount, long secondsSpentLimit) {
+        SolverConfig solverConfig = SolverConfiguration
+                .createSolverConfig(moveThreadCount, EnvironmentMode.REPRODUCIBLE)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(secondsSpentLimit));
+        SolverFactory<SolverSchedule> solverFactory = SolverConfiguration.createSolverFactory(solverConfig);
+
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(MONTH, DOCTORS, 42);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+        return solverFactory.buildSolver().solve(problem);
+    }
+}
@@ -0,0 +1,75 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+import us.dit.service.solver.move.DateShiftTypeDistanceMeter;
+
+/**
+ * Test class used to verify the nearby swaps: the distance meter ranks
+ * same-type shifts on close days first, and the configuration solves a month
+ *
+ * @author josperart3
+ */
+public class NearbySolveTest {
+
+    @Test
+    void testDistanceByDateAndShiftType() {
+        SolverDay first = new SolverDay(0, YearMonth.of(2026, 3).atDay(2), true);
+        SolverDay third = new SolverDay(2, YearMonth.of(2026, 3).atDay(4), true);
+        SolverShiftAssignment guardia = new SolverShiftAssignment(1L, 1L, ShiftType.GUARDIA, first);
+        SolverShiftAssignment guardiaLater = new SolverShiftAssignment(2L, 2L, ShiftType.GUARDIA, third);
+        SolverShiftAssignment tardeSameDay = new SolverShiftAssignment(3L, 3L, ShiftType.TARDE, first);
+        DateShiftTypeDistanceMeter meter = new DateShiftTypeDistanceMeter();
+
+        assertEquals(0.0, meter.getNearbyDistance(guardia, guardia));
+        assertEquals(2.0, meter.getNearbyDistance(guardia, guardiaLater));
+        assertEquals(DateShiftTypeDistanceMeter.SHIFT_TYPE_DISTANCE, meter.getNearbyDistance(guardia, tardeSameDay));
+        assertEquals(meter.getNearbyDistance(guardiaLater, tardeSameDay),
+                meter.getNearbyDistance(tardeSameDay, guardiaLater));
+    }
+
+    @Test
+    void testNearbySolveAssignsEveryShift() {
+        SolverConfig baseConfig = SolverConfiguration
+                .createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, EnvironmentMode.REPRODUCIBLE)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(5L));
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 12, 9);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+
+        SolverSchedule solution = SolverConfiguration.createSolverFactory(NearbySolve.nearbyConfig(baseConfig))
+                .buildSolver().solve(problem);
+
+        assertEquals(0L, solution.getAssignmentList().stream().filter(sa -> sa.getDoctor() == null).count());
+        assertTrue(solution.getScore().getHardScore() > -1000, solution.getScore().toString());
+    }
+}
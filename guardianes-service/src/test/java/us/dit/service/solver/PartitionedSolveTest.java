@@ -0,0 +1,61 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Test class used to verify that the partitioned solve merges the parts into a
+ * complete schedule whose score matches a calculation from scratch
+ *
+ * @author josperart3
+ */
+public class PartitionedSolveTest {
+
+    @Test
+    void testPartitionedSolveAssignsEveryShift() {
+        SolverConfig baseConfig = SolverConfiguration
+                .createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, EnvironmentMode.REPRODUCIBLE)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(8L));
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 12, 9);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+
+        SolverSchedule solution = SolverConfiguration
+                .createSolverFactory(PartitionedSolve.partitionedConfig(baseConfig, 3, 1L))
+                .buildSolver().solve(problem);
+
+        assertEquals(0L, solution.getAssignmentList().stream().filter(sa -> sa.getDoctor() == null).count());
+        assertTrue(solution.getAssignmentList().stream().noneMatch(sa -> sa.isPinned()));
+        ScoreDirector<SolverSchedule> scoreDirector = SolverConfiguration.createSolverFactory()
+                .getScoreDirectorFactory().buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+        assertEquals(scoreDirector.calculateScore(), solution.getScore());
+    }
+}
@@ -0,0 +1,140 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that repairing a published schedule only frees
+ * the days around a late absence and leaves the rest of the plan untouched
+ *
+ * @author josperart3
+ */
+public class ScheduleRepairTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 2);
+    private static final LocalDate ABSENCE_START = MONTH.atDay(10);
+    private static final LocalDate ABSENCE_END = MONTH.atDay(11);
+
+    @Test
+    void testOnlyAffectedDaysAreReplanned() {
+        SolverSchedule published = publishedMonth();
+        SolverDoctor absent = addAbsence(published, doctorOn(published, ABSENCE_START));
+        Map<Long, SolverDoctor> publishedDoctors = new HashMap<>();
+        published.getAssignmentList().forEach(sa -> publishedDoctors.put(sa.getId(), sa.getDoctor()));
+
+        SortedSet<LocalDate> affectedDays = ScheduleRepair.prepare(published);
+
+        assertTrue(affectedDays.contains(ABSENCE_START));
+        for (SolverShiftAssignment sa : published.getAssignmentList()) {
+            assertSame(publishedDoctors.get(sa.getId()), sa.getPublishedDoctor());
+            long distance = affectedDays.stream()
+                    .mapToLong(day -> Math.abs(day.toEpochDay() - sa.getDay().getDate().toEpochDay()))
+                    .min().getAsLong();
+            assertEquals(distance > ScheduleRepair.NEIGHBORHOOD_DAYS, sa.isPinned(), sa.toString());
+            if (!sa.getDay().getDate().isBefore(ABSENCE_START) && !sa.getDay().getDate().isAfter(ABSENCE_END)) {
+                assertNotEquals(absent, sa.getDoctor());
+            }
+        }
+
+        SolverFactory<SolverSchedule> solverFactory = SolverConfiguration.createSolverFactory(
+                SolverConfiguration.createSolverConfig("NONE", EnvironmentMode.REPRODUCIBLE)
+                        .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(3L)));
+        SolverSchedule repaired = solverFactory.buildSolver().solve(published);
+
+        for (SolverShiftAssignment sa : repaired.getAssignmentList()) {
+            if (sa.isPinned()) {
+                assertSame(publishedDoctors.get(sa.getId()), sa.getDoctor(), sa.toString());
+            } else if (sa.getDoctor() != null) {
+                assertFalse(sa.getDoctor().isAbsentOn(sa.getEpochDay()), sa.toString());
+            }
+        }
+    }
+
+    @Test
+    void testNothingToRepairWithoutChanges() {
+        SolverSchedule published = publishedMonth();
+
+        assertTrue(ScheduleRepair.prepare(published).isEmpty());
+        assertTrue(published.getAssignmentList().stream().allMatch(SolverShiftAssignment::isPinned));
+    }
+
+    /**
+     * La fixture reparte médicos al azar: se dejan sólo los que pueden hacer
+     * su turno, como en una planificación confirmada
+     */
+    private SolverSchedule publishedMonth() {
+        SolverSchedule published = SolverScheduleFixtures.buildMonth(MONTH, 12, 9);
+        for (SolverShiftAssignment sa : published.getAssignmentList()) {
+            if (sa.getDoctor() != null && !sa.getDoctor().isEligibleFor(sa.getShiftType(), sa.getDay())) {
+                sa.setDoctor(null);
+            }
+        }
+        return published;
+    }
+
+    private SolverDoctor doctorOn(SolverSchedule schedule, LocalDate date) {
+        return schedule.getAssignmentList().stream()
+                .filter(sa -> sa.getDay().getDate().equals(date) && sa.getDoctor() != null)
+                .map(SolverShiftAssignment::getDoctor)
+                .findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Sustituye al médico por el mismo con una ausencia nueva, como si se
+     * hubiera registrado después de publicar
+     */
+    private SolverDoctor addAbsence(SolverSchedule schedule, SolverDoctor doctor) {
+        SolverDoctor absent = new SolverDoctor(doctor.getId(), doctor.getIndex(), doctor.getMinShifts(),
+                doctor.getMaxShifts(), doctor.getNumConsultations(), doctor.isDoesCycleShifts(),
+                doctor.isHasShiftsOnlyWhenCycleShifts(), ABSENCE_START, ABSENCE_END);
+        List<SolverDoctor> doctors = new ArrayList<>(schedule.getDoctorList());
+        doctors.set(doctor.getIndex(), absent);
+        schedule.setDoctorList(doctors);
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (sa.getDoctor() == doctor) {
+                sa.setDoctor(absent);
+            }
+        }
+        SolverScheduleMapper.assignEligibleDoctors(schedule);
+        return absent;
+    }
+}
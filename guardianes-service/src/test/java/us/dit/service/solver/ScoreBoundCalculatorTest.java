@@ -0,0 +1,80 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Test class used to verify the closed-form bound on the fairness penalty and
+ * that no solution scores above it
+ *
+ * @author josperart3
+ */
+public class ScoreBoundCalculatorTest {
+
+    @Test
+    void testMinimumSumOfSquares() {
+        // 10 GUARDIA entre 3 médicos: 4 + 3 + 3
+        assertEquals(34, ScoreBoundCalculator.minimumSumOfSquares(10, new int[] { 5, 5, 5 }));
+        // Uno sólo puede hacer una, los otros dos se reparten las 9 restantes
+        assertEquals(1 + 25 + 16, ScoreBoundCalculator.minimumSumOfSquares(10, new int[] { 10, 1, 10 }));
+        assertEquals(0, ScoreBoundCalculator.minimumSumOfSquares(0, new int[] { 3 }));
+        assertEquals(ScoreBoundCalculator.NO_BOUND, ScoreBoundCalculator.minimumSumOfSquares(3, new int[] { 1, 1 }));
+    }
+
+    // La cota nunca es peor que una solución real
+    @Test
+    void testSolutionNeverBeatsBound() {
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 12, 3);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+        HardSoftScore bound = ScoreBoundCalculator.bestScoreBound(problem);
+        assertNotNull(bound);
+        assertEquals(0, bound.getHardScore());
+
+        SolverSchedule solution = SolverConfiguration.createSolverFactory(
+                SolverConfiguration.createSolverConfig("NONE", EnvironmentMode.REPRODUCIBLE)
+                        .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(5L)))
+                .buildSolver().solve(problem);
+        assertTrue(solution.getScore().compareTo(bound) <= 0, solution.getScore() + " supera la cota " + bound);
+    }
+
+    @Test
+    void testNoBoundWithoutCycleDoctors() {
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 4, 3);
+        problem.setDoctorList(problem.getDoctorList().subList(0, 1));
+        SolverDoctor onlyDoctor = problem.getDoctorList().get(0);
+        // El primero de la fixture no hace ciclos
+        assertFalse(onlyDoctor.isDoesCycleShifts());
+        assertNull(ScoreBoundCalculator.bestScoreBound(problem));
+    }
+}
@@ -0,0 +1,165 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that a multi-month horizon keeps the contracts per
+ * month, sees the rest rules across the month boundary and leaves the
+ * published months untouched
+ *
+ * @author josperart3
+ */
+public class SolverHorizonTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2026, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2026, 2);
+
+    private final SolverFactory<SolverSchedule> solverFactory = SolverConfiguration.createSolverFactory();
+
+    @Test
+    void testCombineAndSplitKeepEveryMonth() {
+        List<SolverSchedule> months = Arrays.asList(SolverScheduleFixtures.buildMonth(JANUARY, 12, 1),
+                SolverScheduleFixtures.buildMonth(FEBRUARY, 12, 2));
+
+        SolverSchedule horizon = SolverHorizon.combine(months);
+
+        int assignments = months.get(0).getAssignmentList().size() + months.get(1).getAssignmentList().size();
+        assertEquals(assignments, horizon.getAssignmentList().size());
+        assertEquals(assignments, horizon.getAssignmentList().stream().map(SolverShiftAssignment::getId)
+                .distinct().count(), "Los ids no deben repetirse entre meses");
+        assertEquals(12, horizon.getDoctorList().size());
+        for (int i = 0; i < horizon.getDayList().size(); i++) {
+            assertEquals(i, horizon.getDayList().get(i).getIndex());
+        }
+
+        List<SolverSchedule> split = SolverHorizon.split(horizon, months);
+        for (int m = 0; m < months.size(); m++) {
+            assertEquals(doctorIds(months.get(m)), doctorIds(split.get(m)));
+            for (SolverShiftAssignment sa : split.get(m).getAssignmentList()) {
+                // Cada mes recupera sus propios médicos
+                assertTrue(sa.getDoctor() == null || months.get(m).getDoctorList().contains(sa.getDoctor()));
+            }
+        }
+    }
+
+    // Los contratos se cuentan mes a mes y el descanso entre GUARDIA cruza el cambio de mes
+    @Test
+    void testContractsPerMonthAndRestAcrossBoundary() {
+        List<SolverSchedule> months = Arrays.asList(SolverScheduleFixtures.buildMonth(JANUARY, 12, 1),
+                SolverScheduleFixtures.buildMonth(FEBRUARY, 12, 2));
+        SolverSchedule horizon = SolverHorizon.combine(months);
+
+        for (String contract : Arrays.asList(GuardianesConstraintConfiguration.DOCTOR_MAX_SHIFTS,
+                GuardianesConstraintConfiguration.DOCTOR_MIN_SHIFTS_HARD,
+                GuardianesConstraintConfiguration.DOCTOR_SPECIFIC_CONSULTATIONS)) {
+            assertEquals(penalty(months.get(0), contract).add(penalty(months.get(1), contract)),
+                    penalty(horizon, contract), contract);
+        }
+
+        long crossPairs = 0;
+        for (SolverShiftAssignment january : guardias(months.get(0))) {
+            for (SolverShiftAssignment february : guardias(months.get(1))) {
+                if (sameDoctor(january, february) && february.getEpochDay() - january.getEpochDay() < 3) {
+                    crossPairs++;
+                }
+            }
+        }
+        String rest = GuardianesConstraintConfiguration.MIN_DAYS_BETWEEN_GUARDIAS;
+        HardSoftScore crossPenalty = horizon.getConstraintConfiguration().getMinDaysBetweenGuardias()
+                .multiply(crossPairs).negate();
+        assertEquals(penalty(months.get(0), rest).add(penalty(months.get(1), rest)).add(crossPenalty),
+                penalty(horizon, rest));
+    }
+
+    @Test
+    void testPublishedMonthIsNotMoved() {
+        SolverSchedule january = SolverScheduleFixtures.buildMonth(JANUARY, 12, 1);
+        SolverHorizon.pin(january);
+        SolverSchedule february = SolverScheduleFixtures.buildMonth(FEBRUARY, 12, 2);
+        february.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+        List<SolverSchedule> months = Arrays.asList(january, february);
+
+        SolverConfig solverConfig = SolverHorizon.horizonConfig(
+                SolverConfiguration.createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, EnvironmentMode.REPRODUCIBLE))
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(5L));
+        SolverSchedule solution = SolverConfiguration.createSolverFactory(solverConfig).buildSolver()
+                .solve(SolverHorizon.combine(months));
+        List<SolverSchedule> split = SolverHorizon.split(solution, months);
+
+        assertEquals(doctorIds(january), doctorIds(split.get(0)));
+        for (SolverShiftAssignment sa : split.get(1).getAssignmentList()) {
+            assertNotNull(sa.getDoctor(), sa.toString());
+            assertSame(february.getDoctorList().get(sa.getDoctor().getIndex()), sa.getDoctor());
+        }
+    }
+
+    // Cada médico da una sola coincidencia con la suma de sus meses, así que se comparan las penalizaciones
+    private HardSoftScore penalty(SolverSchedule schedule, String constraintName) {
+        ScoreDirector<SolverSchedule> scoreDirector = solverFactory.getScoreDirectorFactory().buildScoreDirector();
+        scoreDirector.setWorkingSolution(schedule);
+        scoreDirector.calculateScore();
+        return scoreDirector.getConstraintMatchTotals().stream()
+                .filter(total -> total.getConstraintName().equals(constraintName))
+                .map(total -> (HardSoftScore) total.getScore())
+                .reduce(HardSoftScore.ZERO, HardSoftScore::add);
+    }
+
+    private List<SolverShiftAssignment> guardias(SolverSchedule schedule) {
+        return schedule.getAssignmentList().stream()
+                .filter(sa -> sa.getShiftType() == ShiftType.GUARDIA)
+                .collect(Collectors.toList());
+    }
+
+    private boolean sameDoctor(SolverShiftAssignment a, SolverShiftAssignment b) {
+        SolverDoctor doctorA = a.getDoctor();
+        SolverDoctor doctorB = b.getDoctor();
+        return doctorA == null ? doctorB == null : doctorB != null && doctorA.getId().equals(doctorB.getId());
+    }
+
+    private List<Long> doctorIds(SolverSchedule schedule) {
+        return schedule.getAssignmentList().stream()
+                .map(SolverShiftAssignment::getDoctor)
+                .map(doctor -> doctor != null ? doctor.getId() : null)
+                .collect(Collectors.toList());
+    }
+}
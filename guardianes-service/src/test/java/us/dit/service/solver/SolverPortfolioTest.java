@@ -0,0 +1,77 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that the solver portfolio keeps the best solution
+ * of its configurations and records the winner
+ *
+ * @author josperart3
+ */
+public class SolverPortfolioTest {
+
+    @Test
+    void testPortfolioKeepsBestSolution() {
+        SolverConfig baseConfig = SolverConfiguration
+                .createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, EnvironmentMode.REPRODUCIBLE)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(3L));
+        SolverPortfolio portfolio = new SolverPortfolio(
+                SolverConfiguration.createSolverFactories(SolverPortfolio.defaultConfigs(baseConfig)));
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 12, 5);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+
+        SolverPortfolio.Result result = portfolio.solve(problem);
+
+        assertEquals(portfolio.getConfigurationNames(), new ArrayList<>(result.getScores().keySet()));
+        HardSoftScore best = Collections.max(result.getScores().values());
+        assertEquals(best, result.getBestSolution().getScore());
+        assertEquals(best, result.getScores().get(result.getWinner()));
+        assertEquals(1, portfolio.getWinCounts().get(result.getWinner()));
+        assertEquals(1, portfolio.getWinCounts().values().stream().mapToInt(Integer::intValue).sum());
+
+        // Cada solver trabaja sobre su copia, el problema original queda intacto
+        for (SolverShiftAssignment sa : problem.getAssignmentList()) {
+            assertNull(sa.getDoctor());
+        }
+        assertTrue(result.getBestSolution().getAssignmentList().stream().anyMatch(sa -> sa.getDoctor() != null));
+    }
+
+    @Test
+    void testEmptyPortfolioIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SolverPortfolio(Collections.emptyMap()));
+    }
+}
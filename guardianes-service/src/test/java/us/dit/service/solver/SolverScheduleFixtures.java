@@ -0,0 +1,103 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Problemas sintéticos sobre el modelo del solver para tests y benchmarks
+ * <p>
+ * Cada día tiene dos GUARDIA y, si es laborable, las TARDE y CONSULTA
+ * necesarias para cubrir los contratos de todos los médicos. Los médicos se
+ * asignan al azar con la semilla indicada.
+ *
+ * @author josperart3
+ */
+public final class SolverScheduleFixtures {
+
+    private SolverScheduleFixtures() {
+    }
+
+    public static SolverSchedule buildMonth(YearMonth month, int doctorCount, long seed) {
+        Random random = new Random(seed);
+
+        List<SolverDoctor> doctors = new ArrayList<>(doctorCount);
+        int totalMinShifts = 0;
+        int totalConsultations = 0;
+        for (int i = 0; i < doctorCount; i++) {
+            int minShifts = 1 + i % 3;
+            int numConsultations = i % 4;
+            LocalDate absenceStart = i % 6 == 1 ? month.atDay(1 + random.nextInt(20)) : null;
+            doctors.add(new SolverDoctor((long) i + 1, i, minShifts, minShifts + 2, numConsultations,
+                    i % 5 != 0, i % 7 == 0, absenceStart, absenceStart != null ? absenceStart.plusDays(6) : null));
+            totalMinShifts += minShifts;
+            totalConsultations += numConsultations;
+        }
+
+        List<SolverDay> days = new ArrayList<>(month.lengthOfMonth());
+        for (int d = 1; d <= month.lengthOfMonth(); d++) {
+            LocalDate date = month.atDay(d);
+            days.add(new SolverDay(days.size(), date,
+                    date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY));
+        }
+        long workingDays = days.stream().filter(SolverDay::isWorkingDay).count();
+        int tardesPerDay = (int) Math.max(2, (totalMinShifts + workingDays - 1) / workingDays);
+        int consultasPerDay = (int) ((totalConsultations + workingDays - 1) / workingDays);
+
+        List<SolverShiftAssignment> assignments = new ArrayList<>();
+        long id = 1;
+        for (SolverDay day : days) {
+            for (int k = 0; k < 2; k++) {
+                assignments.add(new SolverShiftAssignment(id, id++, ShiftType.GUARDIA, day));
+            }
+            if (day.isWorkingDay()) {
+                for (int k = 0; k < tardesPerDay; k++) {
+                    assignments.add(new SolverShiftAssignment(id, id++, ShiftType.TARDE, day));
+                }
+                for (int k = 0; k < consultasPerDay; k++) {
+                    assignments.add(new SolverShiftAssignment(id, id++, ShiftType.CONSULTA, day));
+                }
+            }
+        }
+        for (SolverShiftAssignment sa : assignments) {
+            sa.setDoctor(doctors.get(random.nextInt(doctors.size())));
+        }
+
+        SolverSchedule schedule = new SolverSchedule();
+        schedule.setMonth(month.getMonthValue());
+        schedule.setYear(month.getYear());
+        schedule.setDoctorList(doctors);
+        schedule.setDayList(days);
+        schedule.setAssignmentList(assignments);
+        schedule.setConstraintConfiguration(new GuardianesConstraintConfiguration(0L));
+        SolverScheduleMapper.assignEligibleDoctors(schedule);
+        return schedule;
+    }
+}
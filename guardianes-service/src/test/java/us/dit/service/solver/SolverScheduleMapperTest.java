@@ -0,0 +1,69 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify the doctors eligible for each assignment computed
+ * by {@link SolverScheduleMapper}
+ *
+ * @author josperart3
+ */
+public class SolverScheduleMapperTest {
+
+    @Test
+    void testEligibleDoctorsExcludeCertainHardViolations() {
+        SolverSchedule schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 20, 7);
+
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            for (SolverDoctor doctor : schedule.getDoctorList()) {
+                boolean expected = !doctor.isAbsentOn(sa.getEpochDay())
+                        && (sa.getShiftType() != ShiftType.GUARDIA || doctor.isDoesCycleShifts())
+                        && (sa.getShiftType() != ShiftType.TARDE || doctor.isDoesCycleShifts()
+                                || !doctor.isHasShiftsOnlyWhenCycleShifts());
+                assertEquals(expected, sa.getEligibleDoctors().contains(doctor), sa + " " + doctor);
+            }
+        }
+    }
+
+    // Los turnos del mismo tipo y día comparten la lista (el 1 de marzo de 2026 es domingo: sólo GUARDIA)
+    @Test
+    void testEligibleDoctorsAreSharedPerDayAndType() {
+        SolverSchedule schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 20, 7);
+
+        SolverShiftAssignment firstGuardia = schedule.getAssignmentList().get(0);
+        SolverShiftAssignment secondGuardia = schedule.getAssignmentList().get(1);
+        SolverShiftAssignment nextDayGuardia = schedule.getAssignmentList().get(2);
+        assertSame(ShiftType.GUARDIA, secondGuardia.getShiftType());
+        assertSame(ShiftType.GUARDIA, nextDayGuardia.getShiftType());
+        assertSame(firstGuardia.getEligibleDoctors(), secondGuardia.getEligibleDoctors());
+        assertNotSame(firstGuardia.getEligibleDoctors(), nextDayGuardia.getEligibleDoctors());
+    }
+}
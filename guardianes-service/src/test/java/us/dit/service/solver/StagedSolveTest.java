@@ -0,0 +1,88 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that the staged solve plans GUARDIA before TARDE
+ * and CONSULTA and still ends with a complete schedule
+ *
+ * @author josperart3
+ */
+public class StagedSolveTest {
+
+    // Tras la primera etapa sólo hay guardias asignadas
+    @Test
+    void testGuardiaStageOnlyAssignsGuardia() {
+        SolverConfig stagedConfig = StagedSolve.stagedConfig(baseConfig(), 1L);
+        SolverConfig guardiaStage = new SolverConfig(stagedConfig)
+                .withPhaseList(new ArrayList<>(stagedConfig.getPhaseConfigList().subList(0, 2)));
+
+        SolverSchedule solution = SolverConfiguration.createSolverFactory(guardiaStage).buildSolver()
+                .solve(buildProblem());
+
+        for (SolverShiftAssignment sa : solution.getAssignmentList()) {
+            if (sa.getShiftType() == ShiftType.GUARDIA) {
+                assertNotNull(sa.getDoctor(), sa.toString());
+            } else {
+                assertNull(sa.getDoctor(), sa.toString());
+            }
+        }
+    }
+
+    // Con el mismo tiempo, las etapas no cubren peor las reglas duras que una sola fase
+    @Test
+    void testStagedSolveAssignsEveryShift() {
+        SolverSchedule single = SolverConfiguration.createSolverFactory(baseConfig()).buildSolver()
+                .solve(buildProblem());
+        SolverSchedule staged = SolverConfiguration.createSolverFactory(StagedSolve.stagedConfig(baseConfig(), 1L))
+                .buildSolver().solve(buildProblem());
+
+        assertEquals(0L, staged.getAssignmentList().stream().filter(sa -> sa.getDoctor() == null).count());
+        assertTrue(staged.getScore().getHardScore() >= single.getScore().getHardScore(),
+                staged.getScore() + " frente a " + single.getScore());
+    }
+
+    private SolverConfig baseConfig() {
+        return SolverConfiguration.createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, EnvironmentMode.REPRODUCIBLE)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(5L));
+    }
+
+    private SolverSchedule buildProblem() {
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 12, 9);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+        return problem;
+    }
+}
@@ -0,0 +1,116 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that the warm start maps each day to the same
+ * weekday of the previous schedule and only seeds doctors that do not break a
+ * hard constraint
+ *
+ * @author josperart3
+ */
+public class WarmStartInitializerTest {
+
+    @Test
+    void testSourceDateKeepsWeekday() {
+        LocalDate firstFebruary = LocalDate.of(2026, 2, 1);
+        LocalDate lastFebruary = LocalDate.of(2026, 2, 28);
+        long weeks = WarmStartInitializer.rotationOffsetWeeks(LocalDate.of(2026, 3, 1), firstFebruary);
+        assertEquals(4, weeks);
+        assertEquals(LocalDate.of(2026, 2, 1),
+                WarmStartInitializer.sourceDate(LocalDate.of(2026, 3, 1), weeks, firstFebruary, lastFebruary));
+        // Del 29 al 31 de marzo no hay equivalente cuatro semanas antes, se usa la semana anterior
+        assertEquals(LocalDate.of(2026, 2, 24),
+                WarmStartInitializer.sourceDate(LocalDate.of(2026, 3, 31), weeks, firstFebruary, lastFebruary));
+
+        // Enero tiene 31 días: el 1 de febrero toma el 4 de enero, que también es domingo
+        LocalDate firstJanuary = LocalDate.of(2026, 1, 1);
+        LocalDate source = WarmStartInitializer.sourceDate(LocalDate.of(2026, 2, 1),
+                WarmStartInitializer.rotationOffsetWeeks(firstFebruary, firstJanuary), firstJanuary,
+                LocalDate.of(2026, 1, 31));
+        assertEquals(LocalDate.of(2026, 1, 4), source);
+    }
+
+    @Test
+    void testSeededDoctorsKeepHardConstraints() {
+        SolverSchedule previous = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 30, 5);
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 30, 6);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+
+        int seeded = WarmStartInitializer.seedFromPrevious(problem, previous);
+
+        assertTrue(seeded > 0);
+        Map<SolverDoctor, Integer> tardes = new HashMap<>();
+        Map<SolverDoctor, Integer> consultas = new HashMap<>();
+        Set<String> consultaDays = new HashSet<>();
+        Map<String, Integer> shiftsPerDay = new HashMap<>();
+        int assigned = 0;
+        for (SolverShiftAssignment sa : problem.getAssignmentList()) {
+            SolverDoctor doctor = sa.getDoctor();
+            if (doctor == null) {
+                continue;
+            }
+            assigned++;
+            // Ausencias y contratos del mes nuevo
+            assertTrue(doctor.isEligibleFor(sa.getShiftType(), sa.getDay()), sa.toString());
+            assertTrue(problem.getDoctorList().contains(doctor));
+            String key = doctor.getId() + "@" + sa.getDay().getDate();
+            shiftsPerDay.merge(key, 1, Integer::sum);
+            if (sa.getShiftType() == ShiftType.TARDE) {
+                tardes.merge(doctor, 1, Integer::sum);
+            } else if (sa.getShiftType() == ShiftType.CONSULTA) {
+                consultas.merge(doctor, 1, Integer::sum);
+                consultaDays.add(key);
+            }
+        }
+        assertEquals(seeded, assigned);
+        tardes.forEach((doctor, count) -> assertTrue(count <= doctor.getMaxShifts(), doctor.toString()));
+        consultas.forEach((doctor, count) -> assertTrue(count <= doctor.getNumConsultations(), doctor.toString()));
+        // Quien tiene CONSULTA no tiene otro turno ese día
+        consultaDays.forEach(key -> assertEquals(1, shiftsPerDay.get(key), key));
+    }
+
+    @Test
+    void testNothingToSeedFromEmptySchedule() {
+        SolverSchedule previous = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 10, 5);
+        previous.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+        SolverSchedule problem = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 10, 6);
+        problem.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+
+        assertEquals(0, WarmStartInitializer.seedFromPrevious(problem, previous));
+        assertFalse(problem.getAssignmentList().stream().anyMatch(sa -> sa.getDoctor() != null));
+    }
+}
@@ -0,0 +1,118 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.capacity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import us.dit.service.solver.domain.SolverDay;
+import us.dit.service.solver.domain.SolverDoctor;
+
+/**
+ * Test class used to verify how the capacity analyzer sizes the TARDE and
+ * CONSULTA slots of a month and detects months that cannot be covered
+ *
+ * @author josperart3
+ */
+public class CapacityAnalyzerTest {
+
+    // Semana del lunes 2 al domingo 8 de marzo de 2026: cinco laborables
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void testSlotsCoverTheContracts() {
+        List<SolverDoctor> doctors = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            doctors.add(new SolverDoctor((long) i + 1, i, 3, 5, 1, true, false, null, null));
+        }
+
+        CapacityReport report = CapacityAnalyzer.analyze(doctors, week(), 2, 2);
+
+        assertTrue(report.isFeasible(), report.getProblems().toString());
+        // La base son 2 × 5 = 10 TARDE, pero los mínimos suman 12
+        assertEquals(12, report.getTotalTardeSlots());
+        assertEquals(4, report.getTotalConsultaSlots());
+        // El fin de semana no tiene TARDE ni CONSULTA
+        assertEquals(0, report.getTardeSlots(MONDAY.plusDays(5)));
+        assertEquals(0, report.getConsultaSlots(MONDAY.plusDays(6)));
+        for (int d = 0; d < 5; d++) {
+            assertTrue(report.getTardeSlots(MONDAY.plusDays(d)) >= 2);
+        }
+    }
+
+    @Test
+    void testUncoverableMonthIsReported() {
+        List<SolverDoctor> doctors = Arrays.asList(
+                new SolverDoctor(1L, 0, 1, 3, 0, true, false, null, null),
+                // Ausente toda la semana, no puede cumplir su mínimo ni su CONSULTA
+                new SolverDoctor(2L, 1, 2, 3, 1, false, false, MONDAY, MONDAY.plusDays(6)));
+
+        CapacityReport report = CapacityAnalyzer.analyze(doctors, week(), 2, 2);
+
+        assertFalse(report.isFeasible());
+        // Sólo hay un médico que hace ciclos para las dos GUARDIA de cada día
+        assertTrue(report.getProblems().stream().anyMatch(p -> p.contains("GUARDIA") && p.contains("2026-03-02")));
+        assertTrue(report.getProblems().stream().anyMatch(p -> p.startsWith("Doctor-2")));
+        // 10 TARDE de base y entre los dos sólo pueden hacer 6
+        assertTrue(report.getProblems().stream().anyMatch(p -> p.contains("10 TARDE")));
+    }
+
+    // Cinco laborables con dos GUARDIA: como mucho diez TARDE de quien sólo las hace con GUARDIA
+    @Test
+    void testConditionalTardesNeedGuardias() {
+        List<SolverDoctor> doctors = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            doctors.add(new SolverDoctor((long) i + 1, i, 3, 5, 0, true, true, null, null));
+        }
+
+        CapacityReport report = CapacityAnalyzer.analyze(doctors, week(), 2, 2);
+
+        assertFalse(report.isFeasible());
+        assertTrue(report.getProblems().stream().anyMatch(p -> p.contains("necesitan 12 GUARDIA")),
+                report.getProblems().toString());
+    }
+
+    @Test
+    void testMaxFlow() {
+        // El médico 0 sólo puede el día 0, que admite un único turno
+        assertEquals(1, new BipartiteFlow(new int[] { 5 }, new int[] { 1, 4 },
+                new boolean[][] { { true, false } }).maxFlow());
+        // Un médico no cubre más de un turno al día
+        assertEquals(3, new BipartiteFlow(new int[] { 2, 2 }, new int[] { 3, 1 },
+                new boolean[][] { { true, false }, { true, true } }).maxFlow());
+        // Hay que desviar al médico 1 al día 1 para que el 0 use el día 0
+        assertEquals(2, new BipartiteFlow(new int[] { 1, 1 }, new int[] { 1, 1 },
+                new boolean[][] { { true, false }, { true, true } }).maxFlow());
+    }
+
+    private List<SolverDay> week() {
+        List<SolverDay> days = new ArrayList<>();
+        for (int d = 0; d < 7; d++) {
+            days.add(new SolverDay(d, MONDAY.plusDays(d), d < 5));
+        }
+        return days;
+    }
+}
@@ -0,0 +1,176 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.change;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.SolverScheduleFixtures;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that the problem fact changes keep the working
+ * solution consistent and that a running solver applies them
+ *
+ * @author josperart3
+ */
+public class ProblemFactChangeTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 2);
+    // Lunes, laborable
+    private static final LocalDate DAY = MONTH.atDay(9);
+
+    private SolverFactory<SolverSchedule> solverFactory;
+    private SolverSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        solverFactory = SolverConfiguration.createSolverFactory();
+        schedule = SolverScheduleFixtures.buildMonth(MONTH, 12, 9);
+        // La fixture reparte médicos al azar: se dejan sólo los que pueden hacer su turno
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (sa.getDoctor() != null && !sa.getDoctor().isEligibleFor(sa.getShiftType(), sa.getDay())) {
+                sa.setDoctor(null);
+            }
+        }
+    }
+
+    @Test
+    void testAbsenceChangeReleasesShifts() {
+        SolverDoctor doctor = doctorOn(DAY);
+        ScoreDirector<SolverSchedule> scoreDirector = scoreDirector();
+
+        new AbsenceChange(doctor.getId(), DAY, DAY).doChange(scoreDirector);
+
+        SolverDoctor updated = schedule.getDoctorList().get(doctor.getIndex());
+        assertNotSame(doctor, updated);
+        assertTrue(updated.isAbsentOn((int) DAY.toEpochDay()));
+        assertFalse(doctor.isAbsentOn((int) DAY.toEpochDay()), "El médico original no se modifica");
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            assertFalse(sa.getDoctor() == doctor, "Ninguna asignación apunta al médico sustituido");
+            if (sa.getDay().getDate().equals(DAY)) {
+                assertFalse(sa.getDoctor() == updated);
+                assertFalse(sa.getEligibleDoctors().contains(updated));
+            }
+        }
+        assertScoreIsConsistent(scoreDirector);
+    }
+
+    @Test
+    void testWorkingDayChangeDropsTardeAndConsulta() {
+        int before = schedule.getAssignmentList().size();
+        long dropped = schedule.getAssignmentList().stream()
+                .filter(sa -> sa.getDay().getDate().equals(DAY) && sa.getShiftType() != ShiftType.GUARDIA)
+                .count();
+        ScoreDirector<SolverSchedule> scoreDirector = scoreDirector();
+
+        new WorkingDayChange(DAY, false).doChange(scoreDirector);
+
+        assertTrue(dropped > 0);
+        assertEquals(before - dropped, schedule.getAssignmentList().size());
+        assertFalse(schedule.getDayList().get(DAY.getDayOfMonth() - 1).isWorkingDay());
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            if (sa.getDay().getDate().equals(DAY)) {
+                assertEquals(ShiftType.GUARDIA, sa.getShiftType());
+                assertSame(schedule.getDayList().get(DAY.getDayOfMonth() - 1), sa.getDay());
+            }
+        }
+        assertScoreIsConsistent(scoreDirector);
+    }
+
+    @Test
+    void testAddDoctorChange() {
+        SolverDoctor newcomer = new SolverDoctor(100L, 0, 1, 3, 0, true, false, null, null);
+        ScoreDirector<SolverSchedule> scoreDirector = scoreDirector();
+
+        new AddDoctorChange(newcomer).doChange(scoreDirector);
+        new AddDoctorChange(newcomer).doChange(scoreDirector);
+
+        assertEquals(13, schedule.getDoctorList().size());
+        SolverDoctor added = schedule.getDoctorList().get(12);
+        assertEquals(100L, added.getId());
+        assertEquals(12, added.getIndex());
+        assertTrue(schedule.getAssignmentList().stream().allMatch(sa -> sa.getEligibleDoctors().contains(added)));
+        assertScoreIsConsistent(scoreDirector);
+    }
+
+    // Un cambio enviado a un solver en marcha se aplica sobre su mejor solución
+    @Test
+    void testRunningSolverAppliesChange() {
+        SolverDoctor doctor = doctorOn(DAY);
+        Solver<SolverSchedule> solver = SolverConfiguration.createSolverFactory(
+                SolverConfig.createFromXmlResource(SolverConfiguration.SOLVER_CONFIG_XML)
+                        .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(3L)))
+                .buildSolver();
+        solver.addProblemFactChange(new AbsenceChange(doctor.getId(), DAY, DAY.plusDays(1)));
+
+        SolverSchedule solution = solver.solve(schedule);
+
+        assertTrue(solver.isEveryProblemFactChangeProcessed());
+        SolverDoctor updated = solution.getDoctorList().get(doctor.getIndex());
+        assertTrue(updated.isAbsentOn((int) DAY.plusDays(1).toEpochDay()));
+        for (SolverShiftAssignment sa : solution.getAssignmentList()) {
+            if (sa.getDoctor() != null && sa.getDoctor().getId().equals(doctor.getId())) {
+                assertSame(updated, sa.getDoctor());
+                assertFalse(updated.isAbsentOn(sa.getEpochDay()));
+            }
+        }
+    }
+
+    private ScoreDirector<SolverSchedule> scoreDirector() {
+        ScoreDirector<SolverSchedule> scoreDirector = solverFactory.getScoreDirectorFactory().buildScoreDirector();
+        scoreDirector.setWorkingSolution(schedule);
+        scoreDirector.calculateScore();
+        return scoreDirector;
+    }
+
+    /**
+     * La puntuación incremental tras el cambio tiene que coincidir con la de
+     * una evaluación desde cero
+     */
+    private void assertScoreIsConsistent(ScoreDirector<SolverSchedule> scoreDirector) {
+        ScoreDirector<SolverSchedule> fresh = solverFactory.getScoreDirectorFactory().buildScoreDirector();
+        fresh.setWorkingSolution(schedule);
+        assertEquals(fresh.calculateScore(), scoreDirector.calculateScore());
+    }
+
+    private SolverDoctor doctorOn(LocalDate date) {
+        return schedule.getAssignmentList().stream()
+                .filter(sa -> sa.getDay().getDate().equals(date) && sa.getDoctor() != null)
+                .map(SolverShiftAssignment::getDoctor)
+                .findFirst().orElseThrow(IllegalStateException::new);
+    }
+}
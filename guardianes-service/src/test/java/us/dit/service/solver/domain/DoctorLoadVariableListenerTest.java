@@ -0,0 +1,103 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.SolverScheduleFixtures;
+
+/**
+ * Test class used to verify that the per-doctor loads kept by
+ * {@link DoctorLoadVariableListener} give the same score as counting every
+ * assignment from scratch
+ *
+ * @author josperart3
+ */
+public class DoctorLoadVariableListenerTest {
+
+    private final SolverFactory<SolverSchedule> solverFactory = SolverConfiguration.createSolverFactory();
+
+    @Test
+    void testIncrementalLoadsMatchFromScratch() {
+        SolverSchedule schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 10, 5);
+        ScoreDirector<SolverSchedule> scoreDirector = solverFactory.getScoreDirectorFactory().buildScoreDirector();
+        scoreDirector.setWorkingSolution(schedule);
+        scoreDirector.calculateScore();
+
+        Random random = new Random(11L);
+        List<SolverShiftAssignment> assignments = schedule.getAssignmentList();
+        for (int i = 0; i < 300; i++) {
+            SolverShiftAssignment sa = assignments.get(random.nextInt(assignments.size()));
+            if (random.nextBoolean()) {
+                // Cambio de médico, a veces a ninguno
+                List<SolverDoctor> eligible = sa.getEligibleDoctors();
+                int choice = random.nextInt(eligible.size() + 1);
+                changeDoctor(scoreDirector, sa, choice < eligible.size() ? eligible.get(choice) : null);
+            } else {
+                SolverShiftAssignment other = assignments.get(random.nextInt(assignments.size()));
+                SolverDoctor doctor = sa.getDoctor();
+                changeDoctor(scoreDirector, sa, other.getDoctor());
+                changeDoctor(scoreDirector, other, doctor);
+            }
+            scoreDirector.triggerVariableListeners();
+            SolverSchedule copy = new SolverScheduleCloner().cloneSolution(schedule);
+            assertEquals(scoreFromScratch(copy), scoreDirector.calculateScore(), "Después del movimiento " + i);
+        }
+    }
+
+    // FULL_ASSERT comprueba en cada paso que las variables sombra no están desfasadas
+    @Test
+    void testFullAssertSolve() {
+        SolverSchedule schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 8, 3);
+        schedule.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+        SolverConfig solverConfig = SolverConfiguration
+                .createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, EnvironmentMode.FULL_ASSERT)
+                .withTerminationConfig(new TerminationConfig().withScoreCalculationCountLimit(3000L));
+
+        SolverSchedule solution = SolverConfiguration.createSolverFactory(solverConfig).buildSolver().solve(schedule);
+
+        assertNotNull(solution.getScore());
+        assertEquals(scoreFromScratch(solution), solution.getScore());
+    }
+
+    private Object scoreFromScratch(SolverSchedule schedule) {
+        ScoreDirector<SolverSchedule> fresh = solverFactory.getScoreDirectorFactory().buildScoreDirector();
+        fresh.setWorkingSolution(schedule);
+        return fresh.calculateScore();
+    }
+
+    private void changeDoctor(ScoreDirector<SolverSchedule> scoreDirector, SolverShiftAssignment sa,
+            SolverDoctor doctor) {
+        scoreDirector.beforeVariableChanged(sa, "doctor");
+        sa.setDoctor(doctor);
+        scoreDirector.afterVariableChanged(sa, "doctor");
+    }
+}
@@ -0,0 +1,90 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+import us.dit.service.solver.SolverScheduleFixtures;
+
+/**
+ * Test class used to verify that {@link SolverScheduleCloner} copies the
+ * assignments and the doctor loads and shares every problem fact
+ *
+ * @author josperart3
+ */
+public class SolverScheduleClonerTest {
+
+    @Test
+    void testCloneCopiesAssignmentsAndSharesFacts() {
+        SolverSchedule original = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 10, 3);
+        original.getAssignmentList().get(0).setPinned(true);
+        original.setScore(HardSoftScore.of(-2, -30));
+
+        SolverSchedule clone = new SolverScheduleCloner().cloneSolution(original);
+
+        assertSame(original.getDoctorList(), clone.getDoctorList());
+        assertSame(original.getDayList(), clone.getDayList());
+        assertSame(original.getConstraintConfiguration(), clone.getConstraintConfiguration());
+        assertEquals(original.getScore(), clone.getScore());
+        assertNotSame(original.getAssignmentList(), clone.getAssignmentList());
+        assertEquals(original.getAssignmentList().size(), clone.getAssignmentList().size());
+        for (int i = 0; i < original.getAssignmentList().size(); i++) {
+            SolverShiftAssignment sa = original.getAssignmentList().get(i);
+            SolverShiftAssignment clonedSa = clone.getAssignmentList().get(i);
+            assertNotSame(sa, clonedSa);
+            assertEquals(sa.getId(), clonedSa.getId());
+            assertEquals(sa.getShiftId(), clonedSa.getShiftId());
+            assertSame(sa.getShiftType(), clonedSa.getShiftType());
+            assertSame(sa.getDay(), clonedSa.getDay());
+            assertSame(sa.getDoctor(), clonedSa.getDoctor());
+            assertSame(sa.getEligibleDoctors(), clonedSa.getEligibleDoctors());
+            assertEquals(sa.isPinned(), clonedSa.isPinned());
+        }
+        // Las cargas llevan contadores que cambian al mover asignaciones: cada clon tiene las suyas
+        assertEquals(original.getDoctorLoadList().size(), clone.getDoctorLoadList().size());
+        for (int i = 0; i < original.getDoctorLoadList().size(); i++) {
+            SolverDoctorLoad load = original.getDoctorLoadList().get(i);
+            SolverDoctorLoad clonedLoad = clone.getDoctorLoadList().get(i);
+            assertNotSame(load, clonedLoad);
+            assertSame(load.getDoctor(), clonedLoad.getDoctor());
+            assertEquals(load.getGuardias(), clonedLoad.getGuardias());
+        }
+        assertNotSame(original.getUnassignedLoad(), clone.getUnassignedLoad());
+    }
+
+    // Cambiar el clon no debe afectar a la solución original
+    @Test
+    void testCloneIsIndependent() {
+        SolverSchedule original = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 10, 3);
+        SolverDoctor doctor = original.getAssignmentList().get(0).getDoctor();
+
+        SolverSchedule clone = new SolverScheduleCloner().cloneSolution(original);
+        clone.getAssignmentList().get(0).setDoctor(null);
+        clone.getAssignmentList().remove(1);
+
+        assertSame(doctor, original.getAssignmentList().get(0).getDoctor());
+        assertEquals(clone.getAssignmentList().size() + 1, original.getAssignmentList().size());
+    }
+}
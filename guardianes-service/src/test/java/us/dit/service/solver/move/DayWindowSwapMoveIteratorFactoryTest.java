@@ -0,0 +1,136 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.move;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.SolverScheduleFixtures;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that the day window swaps only pair assignments a
+ * few days apart, never move a pinned one and keep the score consistent, also
+ * after assignments are unpinned in place, and that the day index is only
+ * rebuilt when the assignment list is replaced
+ *
+ * @author josperart3
+ */
+public class DayWindowSwapMoveIteratorFactoryTest {
+
+    private SolverSchedule schedule;
+    private ScoreDirector<SolverSchedule> scoreDirector;
+    private DayWindowSwapMoveIteratorFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 12, 9);
+        // La primera semana queda fijada
+        schedule.getAssignmentList().forEach(sa -> sa.setPinned(sa.getDay().getIndex() < 7));
+        scoreDirector = SolverConfiguration.createSolverFactory().getScoreDirectorFactory().buildScoreDirector();
+        scoreDirector.setWorkingSolution(schedule);
+        scoreDirector.calculateScore();
+        factory = new DayWindowSwapMoveIteratorFactory();
+        factory.setDayRadius(2);
+    }
+
+    @Test
+    void testOriginalMovesStayInsideTheWindow() {
+        long count = 0;
+        Iterator<SwapDoctorsMove> moves = factory.createOriginalMoveIterator(scoreDirector);
+        while (moves.hasNext()) {
+            assertInsideWindow(moves.next());
+            count++;
+        }
+        assertEquals(factory.getSize(scoreDirector), count);
+        assertTrue(count > 0);
+    }
+
+    @Test
+    void testRandomMovesStayInsideTheWindowAndUndo() {
+        Iterator<SwapDoctorsMove> moves = factory.createRandomMoveIterator(scoreDirector, new Random(1L));
+        for (int i = 0; i < 500; i++) {
+            SwapDoctorsMove move = moves.next();
+            assertInsideWindow(move);
+            if (move.isMoveDoable(scoreDirector)) {
+                Object before = scoreDirector.calculateScore();
+                move.doMove(scoreDirector).doMove(scoreDirector);
+                assertEquals(before, scoreDirector.calculateScore());
+            }
+        }
+    }
+
+    // Un cambio de hechos libera asignaciones fijadas sin sustituir la lista
+    @Test
+    void testShiftsUnpinnedInPlaceBecomeDoable() {
+        assertFalse(firstDayMoveDoable());
+        schedule.getAssignmentList().forEach(sa -> sa.setPinned(false));
+
+        assertTrue(firstDayMoveDoable());
+    }
+
+    // El índice se reutiliza mientras no se sustituya la lista de asignaciones
+    @Test
+    void testIndexIsRebuiltOnlyForANewList() {
+        long size = factory.getSize(scoreDirector);
+        schedule.getAssignmentList().forEach(sa -> sa.setPinned(false));
+        assertEquals(size, factory.getSize(scoreDirector));
+
+        List<SolverShiftAssignment> fewer = new ArrayList<>(schedule.getAssignmentList());
+        fewer.remove(fewer.size() - 1);
+        schedule.setAssignmentList(fewer);
+        assertTrue(factory.getSize(scoreDirector) < size);
+    }
+
+    private boolean firstDayMoveDoable() {
+        Iterator<SwapDoctorsMove> moves = factory.createOriginalMoveIterator(scoreDirector);
+        while (moves.hasNext()) {
+            SwapDoctorsMove move = moves.next();
+            boolean firstDay = move.getPlanningEntities().stream()
+                    .anyMatch(sa -> ((SolverShiftAssignment) sa).getDay().getIndex() == 0);
+            if (firstDay && move.isMoveDoable(scoreDirector)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void assertInsideWindow(SwapDoctorsMove move) {
+        @SuppressWarnings("unchecked")
+        List<SolverShiftAssignment> entities = (List<SolverShiftAssignment>) move.getPlanningEntities();
+        SolverShiftAssignment left = entities.get(0);
+        SolverShiftAssignment right = entities.get(1);
+        if (left.isPinned() || right.isPinned()) {
+            assertFalse(move.isMoveDoable(scoreDirector), move.toString());
+        }
+        assertTrue(Math.abs(left.getDay().getIndex() - right.getDay().getIndex()) <= 2, move.toString());
+    }
+}
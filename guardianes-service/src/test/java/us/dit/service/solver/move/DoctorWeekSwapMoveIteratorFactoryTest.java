@@ -0,0 +1,156 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.move;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.SolverScheduleFixtures;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that the week swaps exchange every movable shift
+ * of one week between two doctors, and nothing else, that shifts unpinned in
+ * place can be moved again and that the weeks are only grouped again when the
+ * assignment list is replaced
+ *
+ * @author josperart3
+ */
+public class DoctorWeekSwapMoveIteratorFactoryTest {
+
+    private SolverSchedule schedule;
+    private ScoreDirector<SolverSchedule> scoreDirector;
+    private DoctorWeekSwapMoveIteratorFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 12, 9);
+        // La primera semana queda fijada
+        schedule.getAssignmentList().forEach(sa -> sa.setPinned(sa.getDay().getIndex() < 7));
+        scoreDirector = SolverConfiguration.createSolverFactory().getScoreDirectorFactory().buildScoreDirector();
+        scoreDirector.setWorkingSolution(schedule);
+        scoreDirector.calculateScore();
+        factory = new DoctorWeekSwapMoveIteratorFactory();
+    }
+
+    @Test
+    void testOriginalMovesCoverEveryPairAndWeek() {
+        long count = 0;
+        Iterator<DoctorWeekSwapMove> moves = factory.createOriginalMoveIterator(scoreDirector);
+        while (moves.hasNext()) {
+            moves.next();
+            count++;
+        }
+        // Febrero de 2026 toca cinco semanas ISO; la del día 1 sólo tiene ese día
+        assertEquals(5L * 12 * 11 / 2, count);
+        assertEquals(factory.getSize(scoreDirector), count);
+    }
+
+    @Test
+    void testRandomMovesSwapTheWholeWeekAndUndo() {
+        Iterator<DoctorWeekSwapMove> moves = factory.createRandomMoveIterator(scoreDirector, new Random(1L));
+        int done = 0;
+        for (int i = 0; i < 300; i++) {
+            DoctorWeekSwapMove move = moves.next();
+            if (!move.isMoveDoable(scoreDirector)) {
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            List<SolverShiftAssignment> moved = (List<SolverShiftAssignment>) move.getPlanningEntities();
+            @SuppressWarnings("unchecked")
+            List<SolverDoctor> doctors = (List<SolverDoctor>) move.getPlanningValues();
+            Map<SolverShiftAssignment, SolverDoctor> before = doctorByAssignment();
+            Object scoreBefore = scoreDirector.calculateScore();
+
+            DoctorWeekSwapMove undo = (DoctorWeekSwapMove) move.doMove(scoreDirector);
+            int week = moved.get(0).getDay().getWeek();
+            for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+                SolverDoctor old = before.get(sa);
+                if (moved.contains(sa)) {
+                    assertFalse(sa.isPinned(), move.toString());
+                    assertEquals(week, sa.getDay().getWeek());
+                    assertSame(old == doctors.get(0) ? doctors.get(1) : doctors.get(0), sa.getDoctor(), move.toString());
+                } else {
+                    assertSame(old, sa.getDoctor(), move.toString());
+                }
+            }
+            undo.doMove(scoreDirector);
+            assertEquals(before, doctorByAssignment());
+            assertEquals(scoreBefore, scoreDirector.calculateScore());
+            done++;
+        }
+        assertTrue(done > 0);
+    }
+
+    // Un cambio de hechos libera asignaciones fijadas sin sustituir la lista
+    @Test
+    void testShiftsUnpinnedInPlaceBecomeDoable() {
+        assertFalse(firstDayMoveDoable());
+        schedule.getAssignmentList().forEach(sa -> sa.setPinned(false));
+
+        assertTrue(firstDayMoveDoable());
+    }
+
+    // Las semanas se reutilizan mientras no se sustituya la lista de asignaciones
+    @Test
+    void testWeeksAreGroupedAgainOnlyForANewList() {
+        schedule.getAssignmentList().forEach(sa -> sa.setPinned(false));
+        assertEquals(5L * 12 * 11 / 2, factory.getSize(scoreDirector));
+
+        List<SolverShiftAssignment> withoutFirstDay = new ArrayList<>(schedule.getAssignmentList());
+        withoutFirstDay.removeIf(sa -> sa.getDay().getIndex() == 0);
+        schedule.setAssignmentList(withoutFirstDay);
+        assertEquals(4L * 12 * 11 / 2, factory.getSize(scoreDirector));
+    }
+
+    private boolean firstDayMoveDoable() {
+        Iterator<DoctorWeekSwapMove> moves = factory.createOriginalMoveIterator(scoreDirector);
+        while (moves.hasNext()) {
+            DoctorWeekSwapMove move = moves.next();
+            boolean firstDay = move.getPlanningEntities().stream()
+                    .anyMatch(sa -> ((SolverShiftAssignment) sa).getDay().getIndex() == 0);
+            if (firstDay && move.isMoveDoable(scoreDirector)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<SolverShiftAssignment, SolverDoctor> doctorByAssignment() {
+        Map<SolverShiftAssignment, SolverDoctor> doctors = new HashMap<>();
+        schedule.getAssignmentList().forEach(sa -> doctors.put(sa, sa.getDoctor()));
+        return doctors;
+    }
+}
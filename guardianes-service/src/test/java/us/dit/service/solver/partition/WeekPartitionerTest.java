@@ -0,0 +1,99 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.partition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.SolverScheduleFixtures;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that {@link WeekPartitioner} leaves every movable
+ * assignment movable in exactly one part and never splits an ISO week
+ *
+ * @author josperart3
+ */
+public class WeekPartitionerTest {
+
+    // Marzo de 2026 toca seis semanas ISO, de la 9 (domingo 1) a la 14 (lunes 30 y martes 31)
+    @Test
+    void testEveryMovableAssignmentInOnePart() {
+        SolverSchedule schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 10, 5);
+        schedule.getAssignmentList().stream().filter(sa -> sa.getDay().getDayOfMonth() <= 3)
+                .forEach(sa -> sa.setPinned(true));
+
+        List<SolverSchedule> parts = split(schedule, 3);
+
+        assertEquals(3, parts.size());
+        Map<Long, Integer> partById = new HashMap<>();
+        Map<Integer, Set<Integer>> partsByWeek = new HashMap<>();
+        for (int i = 0; i < parts.size(); i++) {
+            SolverSchedule part = parts.get(i);
+            assertEquals(schedule.getAssignmentList().size(), part.getAssignmentList().size());
+            for (SolverShiftAssignment sa : part.getAssignmentList()) {
+                if (!sa.isPinned()) {
+                    assertNull(partById.put(sa.getId(), i), sa + " se mueve en dos partes");
+                    int week = sa.getDay().getDate().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+                    partsByWeek.computeIfAbsent(week, w -> new HashSet<>()).add(i);
+                }
+            }
+        }
+        for (SolverShiftAssignment sa : schedule.getAssignmentList()) {
+            assertEquals(!sa.isPinned(), partById.containsKey(sa.getId()), sa.toString());
+        }
+        partsByWeek.values().forEach(weekParts -> assertEquals(1, weekParts.size()));
+    }
+
+    // Con más partes que semanas, una parte por semana
+    @Test
+    void testPartCountCappedByWeeks() {
+        SolverSchedule schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 6, 2);
+
+        List<SolverSchedule> parts = split(schedule, 20);
+
+        // Febrero de 2026 empieza en domingo: semanas 5 a 9
+        assertEquals(5, parts.size());
+        for (SolverSchedule part : parts) {
+            assertTrue(part.getAssignmentList().stream().anyMatch(sa -> !sa.isPinned()));
+        }
+    }
+
+    private static List<SolverSchedule> split(SolverSchedule schedule, int partCount) {
+        ScoreDirector<SolverSchedule> scoreDirector = SolverConfiguration.createSolverFactory()
+                .getScoreDirectorFactory().buildScoreDirector();
+        scoreDirector.setWorkingSolution(schedule);
+        WeekPartitioner partitioner = new WeekPartitioner();
+        partitioner.setPartCount(partCount);
+        return partitioner.splitWorkingSolution(scoreDirector, 1);
+    }
+}
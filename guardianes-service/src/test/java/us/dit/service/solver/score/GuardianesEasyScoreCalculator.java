@@ -0,0 +1,146 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.score;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+
+import us.dit.service.model.entities.score.GuardianesConstraintConfiguration;
+import us.dit.service.solver.domain.ShiftType;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Score calculator that recomputes every rule from scratch, comparing every
+ * pair of assignments. Too slow to solve with, but simple enough to trust: the
+ * FULL_ASSERT tests use it as assertion score director to catch any drift of
+ * {@link GuardianesIncrementalScoreCalculator}
+ *
+ * @author josperart3
+ */
+public class GuardianesEasyScoreCalculator implements EasyScoreCalculator<SolverSchedule, HardSoftScore> {
+
+    @Override
+    public HardSoftScore calculateScore(SolverSchedule schedule) {
+        GuardianesConstraintConfiguration weights = schedule.getConstraintConfiguration();
+        List<SolverShiftAssignment> assignments = schedule.getAssignmentList();
+        HardSoftScore penalty = HardSoftScore.ZERO;
+
+        for (SolverShiftAssignment sa : assignments) {
+            SolverDoctor doctor = sa.getDoctor();
+            if (sa.getPublishedDoctor() != null && doctor != sa.getPublishedDoctor()) {
+                penalty = penalty.add(weights.getKeepPublishedPlan());
+            }
+            if (doctor == null) {
+                penalty = penalty.add(weights.getEveryShiftAssigned());
+                continue;
+            }
+            if (sa.getShiftType() == ShiftType.GUARDIA && !doctor.isDoesCycleShifts()) {
+                penalty = penalty.add(weights.getEligibilityCycle());
+            }
+            if (doctor.isAbsentOn(sa.getEpochDay())) {
+                penalty = penalty.add(weights.getHolidays());
+            }
+            boolean sharesDay = false;
+            boolean guardiaSameDay = false;
+            for (SolverShiftAssignment other : assignments) {
+                if (other == sa || other.getDoctor() != doctor || other.getDay() != sa.getDay()) {
+                    continue;
+                }
+                sharesDay = true;
+                guardiaSameDay |= other.getShiftType() == ShiftType.GUARDIA;
+                if (other.getShiftType() == sa.getShiftType() && sa.getId() < other.getId()) {
+                    penalty = penalty.add(weights.getIncompatibleDuplicates());
+                }
+            }
+            if (sa.getShiftType() == ShiftType.CONSULTA && sharesDay) {
+                penalty = penalty.add(weights.getIncompatibleConsulta());
+            }
+            if (sa.getShiftType() == ShiftType.TARDE && doctor.isHasShiftsOnlyWhenCycleShifts() && !guardiaSameDay) {
+                penalty = penalty.add(weights.getConditionalShifts());
+            }
+        }
+
+        // Descanso entre GUARDIA, también entre las que no tienen médico
+        for (int i = 0; i < assignments.size(); i++) {
+            SolverShiftAssignment sa = assignments.get(i);
+            for (int j = i + 1; j < assignments.size(); j++) {
+                SolverShiftAssignment other = assignments.get(j);
+                if (sa.getDoctor() != other.getDoctor() || sa.getShiftType() != other.getShiftType()) {
+                    continue;
+                }
+                int distance = Math.abs(sa.getEpochDay() - other.getEpochDay());
+                if (sa.getShiftType() == ShiftType.GUARDIA && distance <= 2) {
+                    penalty = penalty.add(weights.getMinDaysBetweenGuardias());
+                } else if (sa.getShiftType() == ShiftType.TARDE && distance == 1 && sa.getDoctor() != null) {
+                    penalty = penalty.add(weights.getAvoidConsecutiveTardes().multiply(2));
+                }
+            }
+        }
+
+        Set<Integer> tardePeriods = new TreeSet<>();
+        Set<Integer> consultaPeriods = new TreeSet<>();
+        for (SolverShiftAssignment sa : assignments) {
+            if (sa.getShiftType() == ShiftType.TARDE) {
+                tardePeriods.add(sa.getDay().getPeriod());
+            } else if (sa.getShiftType() == ShiftType.CONSULTA) {
+                consultaPeriods.add(sa.getDay().getPeriod());
+            }
+        }
+        for (SolverDoctor doctor : schedule.getDoctorList()) {
+            for (int period : tardePeriods) {
+                int tardes = count(assignments, doctor, ShiftType.TARDE, period);
+                if (tardes > doctor.getMaxShifts()) {
+                    penalty = penalty.add(weights.getDoctorMaxShifts().multiply(tardes - doctor.getMaxShifts()));
+                }
+                if (tardes < doctor.getMinShifts()) {
+                    penalty = penalty.add(weights.getDoctorMinShiftsHard().multiply(doctor.getMinShifts() - tardes));
+                }
+            }
+            for (int period : consultaPeriods) {
+                if (doctor.getNumConsultations() > 0) {
+                    int consultas = count(assignments, doctor, ShiftType.CONSULTA, period);
+                    penalty = penalty.add(weights.getDoctorSpecificConsultations()
+                            .multiply(Math.abs(consultas - doctor.getNumConsultations())));
+                }
+            }
+            if (doctor.isDoesCycleShifts()) {
+                int guardias = count(assignments, doctor, ShiftType.GUARDIA, null);
+                penalty = penalty.add(weights.getFairnessGuardias().multiply(guardias * guardias));
+            }
+        }
+        return penalty.negate();
+    }
+
+    private static int count(List<SolverShiftAssignment> assignments, SolverDoctor doctor, ShiftType shiftType,
+            Integer period) {
+        int count = 0;
+        for (SolverShiftAssignment sa : assignments) {
+            if (sa.getDoctor() == doctor && sa.getShiftType() == shiftType
+                    && (period == null || sa.getDay().getPeriod() == period)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
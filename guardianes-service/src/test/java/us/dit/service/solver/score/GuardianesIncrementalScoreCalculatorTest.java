@@ -0,0 +1,142 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.solver.SolverScheduleFixtures;
+import us.dit.service.solver.domain.SolverDoctor;
+import us.dit.service.solver.domain.SolverSchedule;
+import us.dit.service.solver.domain.SolverScheduleCloner;
+import us.dit.service.solver.domain.SolverShiftAssignment;
+
+/**
+ * Test class used to verify that {@link GuardianesIncrementalScoreCalculator}
+ * gives the same score and the same per-rule breakdown as the Constraint
+ * Streams rules, and that it does not drift while solving
+ *
+ * @author josperart3
+ */
+public class GuardianesIncrementalScoreCalculatorTest {
+
+    private final SolverFactory<SolverSchedule> streamsFactory = SolverConfiguration.createSolverFactory();
+    private final SolverFactory<SolverSchedule> incrementalFactory = SolverConfiguration.createSolverFactory(
+            incrementalConfig(EnvironmentMode.REPRODUCIBLE));
+
+    @Test
+    void testSameScoreAsConstraintStreams() {
+        SolverSchedule schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 3), 10, 5);
+        // Algunos turnos publicados, para que cuente también mantener el plan
+        schedule.getAssignmentList().stream().filter(sa -> sa.getId() % 7 == 0)
+                .forEach(sa -> sa.setPublishedDoctor(sa.getDoctor()));
+        // Un peso distinto del de por defecto: los dos cálculos lo leen de la configuración
+        schedule.getConstraintConfiguration().setKeepPublishedPlan(HardSoftScore.ofSoft(37));
+        ScoreDirector<SolverSchedule> scoreDirector = incrementalFactory.getScoreDirectorFactory().buildScoreDirector();
+        scoreDirector.setWorkingSolution(schedule);
+        assertSameBreakdown(schedule, scoreDirector);
+
+        Random random = new Random(17L);
+        List<SolverShiftAssignment> assignments = schedule.getAssignmentList();
+        for (int i = 0; i < 300; i++) {
+            SolverShiftAssignment sa = assignments.get(random.nextInt(assignments.size()));
+            if (random.nextBoolean()) {
+                List<SolverDoctor> eligible = sa.getEligibleDoctors();
+                int choice = random.nextInt(eligible.size() + 1);
+                changeDoctor(scoreDirector, sa, choice < eligible.size() ? eligible.get(choice) : null);
+            } else {
+                SolverShiftAssignment other = assignments.get(random.nextInt(assignments.size()));
+                SolverDoctor doctor = sa.getDoctor();
+                changeDoctor(scoreDirector, sa, other.getDoctor());
+                changeDoctor(scoreDirector, other, doctor);
+            }
+            scoreDirector.triggerVariableListeners();
+            SolverSchedule copy = new SolverScheduleCloner().cloneSolution(schedule);
+            assertEquals(streamsScore(copy), scoreDirector.calculateScore(), "Después del movimiento " + i);
+        }
+        assertSameBreakdown(schedule, scoreDirector);
+    }
+
+    // FULL_ASSERT recalcula cada paso desde cero y lo compara con GuardianesEasyScoreCalculator
+    @Test
+    void testFullAssertSolve() {
+        SolverSchedule schedule = SolverScheduleFixtures.buildMonth(YearMonth.of(2026, 2), 8, 3);
+        schedule.getAssignmentList().forEach(sa -> sa.setDoctor(null));
+        SolverConfig solverConfig = incrementalConfig(EnvironmentMode.FULL_ASSERT)
+                .withTerminationConfig(new TerminationConfig().withScoreCalculationCountLimit(3000L));
+        solverConfig.getScoreDirectorFactoryConfig().setAssertionScoreDirectorFactory(
+                new ScoreDirectorFactoryConfig().withEasyScoreCalculatorClass(GuardianesEasyScoreCalculator.class));
+
+        SolverSchedule solution = SolverConfiguration.createSolverFactory(solverConfig).buildSolver().solve(schedule);
+
+        assertEquals(new GuardianesEasyScoreCalculator().calculateScore(solution), solution.getScore());
+        assertEquals(streamsScore(solution), solution.getScore());
+    }
+
+    private static SolverConfig incrementalConfig(EnvironmentMode environmentMode) {
+        return SolverConfiguration.createSolverConfig(SolverConfig.MOVE_THREAD_COUNT_NONE, environmentMode)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withIncrementalScoreCalculatorClass(GuardianesIncrementalScoreCalculator.class));
+    }
+
+    private void assertSameBreakdown(SolverSchedule schedule, ScoreDirector<SolverSchedule> scoreDirector) {
+        ScoreDirector<SolverSchedule> streams = streamsFactory.getScoreDirectorFactory().buildScoreDirector();
+        streams.setWorkingSolution(new SolverScheduleCloner().cloneSolution(schedule));
+        streams.calculateScore();
+        scoreDirector.calculateScore();
+        assertEquals(breakdown(streams), breakdown(scoreDirector));
+    }
+
+    private static Map<String, String> breakdown(ScoreDirector<SolverSchedule> scoreDirector) {
+        Map<String, String> breakdown = new HashMap<>();
+        for (ConstraintMatchTotal total : scoreDirector.getConstraintMatchTotals()) {
+            breakdown.put(total.getConstraintName(),
+                    total.getScore() + " en " + total.getConstraintMatchCount() + " coincidencias");
+        }
+        return breakdown;
+    }
+
+    private Object streamsScore(SolverSchedule schedule) {
+        ScoreDirector<SolverSchedule> fresh = streamsFactory.getScoreDirectorFactory().buildScoreDirector();
+        fresh.setWorkingSolution(schedule);
+        return fresh.calculateScore();
+    }
+
+    private void changeDoctor(ScoreDirector<SolverSchedule> scoreDirector, SolverShiftAssignment sa,
+            SolverDoctor doctor) {
+        scoreDirector.beforeVariableChanged(sa, "doctor");
+        sa.setDoctor(doctor);
+        scoreDirector.afterVariableChanged(sa, "doctor");
+    }
+}
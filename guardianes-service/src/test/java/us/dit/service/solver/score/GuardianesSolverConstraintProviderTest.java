@@ -0,0 +1,169 @@
+/**
+* This file is part of GuardianesBA - Business Application for processes managing healthcare tasks planning and supervision.
+* Copyright (C) 2026  Universidad de Sevilla/Departamento de Ingeniería Telemática
+*
+* GuardianesBA is free software: you can redistribute it and/or
+* modify it under the terms of the GNU General Public License as published
+* by the Free Software Foundation, either version 3 of the License, or (at
+* your option) any later version.
+*
+* GuardianesBA is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+* Public License for more details.
+*
+* You should have received a copy of the GNU General Public License along
+* with GuardianesBA. If not, see <https://www.gnu.org/licenses/>.
+**/
+package us.dit.service.solver.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.ScoreManager;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+
+import us.dit.service.config.SolverConfiguration;
+import us.dit.service.model.entities.Absence;
+import us.dit.service.model.entities.Calendar;
+import us.dit.service.model.entities.DayConfiguration;
+import us.dit.service.model.entities.Doctor;
+import us.dit.service.model.entities.Schedule;
+import us.dit.service.model.entities.Shift;
+import us.dit.service.model.entities.ShiftAssignment;
+import us.dit.service.model.entities.ShiftConfiguration;
+import us.dit.service.solver.SolverScheduleMapper;
+import us.dit.service.solver.domain.SolverSchedule;
+
+/**
+ * Test class used to verify that {@link GuardianesSolverConstraintProvider},
+ * on the solver model built by {@link SolverScheduleMapper}, scores every
+ * solution exactly as guardianesScoreRules.drl does on the entities
+ *
+ * @author josperart3
+ */
+public class GuardianesSolverConstraintProviderTest {
+
+    private static final String SCORE_DRL = "us/dit/service/model/entities/score/guardianesScoreRules.drl";
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+
+    private static ScoreManager<Schedule> drlScoreManager;
+    private static ScoreManager<SolverSchedule> solverScoreManager;
+
+    @BeforeAll
+    static void setUpScoreManagers() {
+        drlScoreManager = ScoreManager.create(SolverFactory.create(new SolverConfig()
+                .withSolutionClass(Schedule.class)
+                .withEntityClasses(ShiftAssignment.class)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig().withScoreDrls(SCORE_DRL))));
+        solverScoreManager = ScoreManager.create(
+                SolverFactory.create(SolverConfig.createFromXmlResource(SolverConfiguration.SOLVER_CONFIG_XML)));
+    }
+
+    // Soluciones aleatorias (con médicos sin asignar) sobre un mes completo
+    @Test
+    void testSameScoreOnRandomSolutions() {
+        Random random = new Random(37);
+        for (int i = 0; i < 25; i++) {
+            Schedule schedule = buildSchedule(random, 0.1);
+            assertSameScore(schedule);
+        }
+    }
+
+    // Todas las asignaciones a un mismo médico: máxima densidad de conflictos
+    @Test
+    void testSameScoreWithEveryShiftOnOneDoctor() {
+        Schedule schedule = buildSchedule(new Random(11), 0.0);
+        Doctor doctor = schedule.getDoctorList().get(0);
+        schedule.getShiftAssignments().forEach(sa -> sa.setDoctor(doctor));
+        assertSameScore(schedule);
+    }
+
+    // Solución vacía: sólo penalizan los turnos sin asignar y los mínimos de contrato
+    @Test
+    void testSameScoreOnUninitializedSolution() {
+        Schedule schedule = buildSchedule(new Random(5), 1.0);
+        assertSameScore(schedule);
+    }
+
+    private void assertSameScore(Schedule schedule) {
+        HardSoftScore drlScore = (HardSoftScore) drlScoreManager.updateScore(schedule);
+        SolverSchedule solverSchedule = SolverScheduleMapper.toSolverSchedule(schedule);
+        HardSoftScore solverScore = (HardSoftScore) solverScoreManager.updateScore(solverSchedule);
+        assertEquals(drlScore, solverScore, () -> "Scores differ.\nDRL:\n" + drlScoreManager.explainScore(schedule)
+                + "\nSolver model:\n" + solverScoreManager.explainScore(solverSchedule));
+    }
+
+    // Helpers de configuracion
+
+    private Schedule buildSchedule(Random random, double unassignedRatio) {
+        Calendar calendar = new Calendar(MONTH.getMonthValue(), MONTH.getYear());
+        List<DayConfiguration> days = new ArrayList<>();
+        for (int d = 1; d <= MONTH.lengthOfMonth(); d++) {
+            LocalDate date = MONTH.atDay(d);
+            boolean isWorkingDay = date.getDayOfWeek() != DayOfWeek.SATURDAY
+                    && date.getDayOfWeek() != DayOfWeek.SUNDAY;
+            DayConfiguration dc = new DayConfiguration(d, isWorkingDay, 0, 0);
+            dc.setDate(date);
+            dc.setCalendar(calendar);
+            days.add(dc);
+        }
+
+        List<Doctor> doctors = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            Doctor doctor = new Doctor("Doctor" + i, "Test", "doctor" + i + "@test.es", MONTH.atDay(1));
+            doctor.setId((long) i);
+            ShiftConfiguration sc = new ShiftConfiguration(i % 3, 2 + i % 4, i % 4, i % 5 != 0, i % 3 == 0);
+            sc.setDoctor(doctor);
+            doctor.setShiftConfiguration(sc);
+            if (i % 4 == 1) {
+                doctor.setAbsence(new Absence(MONTH.atDay(3 + i), MONTH.atDay(9 + i)));
+            }
+            doctors.add(doctor);
+        }
+
+        List<Shift> shifts = new ArrayList<>();
+        long shiftId = 1;
+        for (DayConfiguration dc : days) {
+            shifts.add(new Shift(shiftId++, dc, "GUARDIA"));
+            shifts.add(new Shift(shiftId++, dc, "GUARDIA"));
+            if (dc.getIsWorkingDay()) {
+                shifts.add(new Shift(shiftId++, dc, "TARDE"));
+                shifts.add(new Shift(shiftId++, dc, "TARDE"));
+                Shift consulta = new Shift(shiftId++, dc, "CONSULTA");
+                consulta.setConsultation(true);
+                shifts.add(consulta);
+            }
+        }
+
+        Schedule schedule = new Schedule();
+        schedule.setMonth(MONTH.getMonthValue());
+        schedule.setYear(MONTH.getYear());
+        schedule.setDoctorList(doctors);
+        schedule.setDayConfigurationList(days);
+        schedule.setShiftList(shifts);
+        List<ShiftAssignment> assignments = new ArrayList<>();
+        for (Shift shift : shifts) {
+            ShiftAssignment sa = new ShiftAssignment(shift);
+            sa.setId(shift.getId() + 1000);
+            sa.setSchedule(schedule);
+            if (random.nextDouble() >= unassignedRatio) {
+                sa.setDoctor(doctors.get(random.nextInt(doctors.size())));
+            }
+            assignments.add(sa);
+        }
+        schedule.setShiftAssignments(assignments);
+        return schedule;
+    }
+}